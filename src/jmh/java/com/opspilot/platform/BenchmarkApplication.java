@@ -0,0 +1,98 @@
+package com.opspilot.platform;
+
+import com.opspilot.platform.security.JwtTokenProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * The application started on a random port with its own in-memory database and demo data, for
+ * benchmarks that measure whole HTTP requests. Rate limiting is off so the benchmark load is not
+ * answered with 429s; extra properties override the defaults.
+ */
+public final class BenchmarkApplication implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final String baseUrl;
+
+    private BenchmarkApplication(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    /**
+     * Start the application.
+     *
+     * @param properties extra properties as name=value
+     * @return the running application
+     */
+    public static BenchmarkApplication start(String... properties) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Stream.concat(Stream.of(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID(),
+                        "opspilot.rate-limit.enabled=false"), Stream.of(properties))
+                .map(property -> property.split("=", 2))
+                .forEach(property -> values.put(property[0], property[1]));
+        // As command line arguments, unlike builder properties, these override application.yml;
+        // a name given twice would be joined with a comma, so each is passed once
+        return new BenchmarkApplication(new SpringApplicationBuilder(OperationsCoreServiceApplication.class)
+                .run(values.entrySet().stream()
+                        .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                        .toArray(String[]::new)));
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Bearer token for a seeded employee.
+     *
+     * @param email employee email
+     * @param role  ADMIN or OPERATOR
+     * @return access token
+     */
+    public String token(String email, String role) {
+        return getBean(JwtTokenProvider.class).generateTokenFromEmailAndRole(email, role);
+    }
+
+    public HttpResponse<byte[]> get(String path, String token, String accept) throws IOException, InterruptedException {
+        return send(request(path, token).header("Accept", accept).GET().build());
+    }
+
+    public HttpResponse<byte[]> post(String path, String token, String jsonBody) throws IOException, InterruptedException {
+        return send(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(jsonBody != null ? HttpRequest.BodyPublishers.ofString(jsonBody) : HttpRequest.BodyPublishers.noBody())
+                .build());
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
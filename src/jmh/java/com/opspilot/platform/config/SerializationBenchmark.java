@@ -0,0 +1,117 @@
+package com.opspilot.platform.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of one {@code Page<WorkItemResponse>} (the admin list endpoint's
+ * default page) in each negotiated format. The mappers are built the way
+ * {@link BinaryMessageConverterConfig} builds them, from a Jackson builder with Spring Boot's
+ * defaults, so the documents are the ones clients actually receive.
+ * The encoded size of each format is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    /**
+     * The content part of a serialized page; paging metadata is ignored on read.
+     */
+    public record PageDocument(List<WorkItemResponse> content, long totalElements, int totalPages) {
+    }
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"50"})
+    public int pageSize;
+
+    private ObjectMapper mapper;
+    private ObjectReader pageReader;
+    private Page<WorkItemResponse> page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JsonFactory factory = switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        pageReader = mapper.readerFor(PageDocument.class);
+        page = representativePage(pageSize);
+        encoded = mapper.writeValueAsBytes(page);
+        System.out.printf("%n%s page of %d items: %d bytes%n", format, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public PageDocument decode() throws Exception {
+        return pageReader.readValue(encoded);
+    }
+
+    private static Page<WorkItemResponse> representativePage(int size) {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 14, 9, 30, 15, 123_456_000);
+        List<WorkItemResponse> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(WorkItemResponse.builder()
+                    .id(UUID.randomUUID())
+                    .title("Reconcile vendor invoice batch #" + (4000 + i))
+                    .description("Invoices from the March vendor run do not match the purchase orders. "
+                            + "Compare line totals against the PO export, flag discrepancies above the "
+                            + "tolerance and attach the reconciliation sheet before closing.")
+                    .status(WorkItemStatus.values()[i % WorkItemStatus.values().length])
+                    .createdById(UUID.randomUUID())
+                    .createdByName("Admin User " + (i % 3 + 1))
+                    .assignedToId(i % 4 == 0 ? null : UUID.randomUUID())
+                    .assignedToName(i % 4 == 0 ? null : "Operator " + (i % 7 + 1))
+                    .dueAt(now.plusDays(i % 5 + 1))
+                    .createdAt(now.minusHours(i))
+                    .updatedAt(now.minusMinutes(i))
+                    .build());
+        }
+        return new PageImpl<>(items, PageRequest.of(0, size, Sort.by("createdAt").descending()), 1_250);
+    }
+}
@@ -0,0 +1,105 @@
+package com.opspilot.platform.exception;
+
+import com.opspilot.platform.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error-path throughput. {@code notFoundOverHttp} requests the history of a missing work item,
+ * answered 404 through {@link GlobalExceptionHandler}, from 4 client threads against the full
+ * application; {@code foundOverHttp} requests an existing one for comparison. The other two throw
+ * and catch an exception 64 frames deep, about the depth of a Spring MVC request, to isolate what
+ * skipping the stack trace saves: a {@link ResourceNotFoundException} against the
+ * {@code IllegalArgumentException} these paths threw before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class ErrorPathBenchmark {
+
+    private static final int STACK_DEPTH = 64;
+
+    private final UUID missingId = UUID.randomUUID();
+
+    /**
+     * The running application, shared by the HTTP benchmarks only.
+     */
+    @State(Scope.Benchmark)
+    public static class Application {
+
+        private BenchmarkApplication application;
+        private String token;
+        private String existingPath;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            application = BenchmarkApplication.start();
+            token = application.token("admin1@opspilot.com", "ADMIN");
+            UUID existing = application.getBean(JdbcTemplate.class)
+                    .queryForObject("SELECT id FROM work_items LIMIT 1", UUID.class);
+            existingPath = "/api/workitems/" + existing + "/history";
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            application.close();
+        }
+    }
+
+    @Benchmark
+    public int notFoundOverHttp(Application app) throws IOException, InterruptedException {
+        return app.application.get("/api/workitems/" + missingId + "/history", app.token, "application/json").statusCode();
+    }
+
+    @Benchmark
+    public int foundOverHttp(Application app) throws IOException, InterruptedException {
+        return app.application.get(app.existingPath, app.token, "application/json").statusCode();
+    }
+
+    @Benchmark
+    public String throwStackless() {
+        try {
+            return throwAt(STACK_DEPTH, true);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String throwWithStackTrace() {
+        try {
+            return throwAt(STACK_DEPTH, false);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    private String throwAt(int depth, boolean stackless) {
+        if (depth > 0) {
+            return throwAt(depth - 1, stackless);
+        }
+        throw stackless
+                ? ResourceNotFoundException.withId("Work item", missingId)
+                : new IllegalArgumentException("Work item not found with ID: " + missingId);
+    }
+}
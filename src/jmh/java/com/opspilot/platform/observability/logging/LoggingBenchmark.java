@@ -0,0 +1,111 @@
+package com.opspilot.platform.observability.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.opspilot.platform.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request throughput of an authenticated list request, and of a request with an invalid token
+ * (one WARN per request), with logging off, with the pre-sampling setup (a synchronous appender,
+ * no sampler) and with the shipped setup (AsyncAppender and {@link RepetitiveLogSampler}).
+ * Events go to a file under target/ rather than the console, so the forked JVM's stdout, which
+ * JMH relays to its own console, is not part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class LoggingBenchmark {
+
+    @Param({"OFF", "SYNC_UNSAMPLED", "ASYNC_SAMPLED"})
+    public String logging;
+
+    @Param({"valid", "invalid"})
+    public String token;
+
+    private BenchmarkApplication application;
+    private String bearer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = BenchmarkApplication.start();
+        bearer = token.equals("valid")
+                ? application.token("operator1@opspilot.com", "OPERATOR")
+                : "not-a-jwt";
+        configureLogging();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public int listMyWorkItems() throws Exception {
+        return application.get("/api/workitems/my/paginated?size=20", bearer, "application/json").statusCode();
+    }
+
+    private void configureLogging() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        if (logging.equals("OFF")) {
+            root.setLevel(ch.qos.logback.classic.Level.OFF);
+            return;
+        }
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %-40.40logger{39} : %m%n");
+        encoder.start();
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName("BENCHMARK_FILE");
+        file.setFile("target/jmh-logging-" + logging + ".log");
+        file.setAppend(false);
+        file.setEncoder(encoder);
+        file.start();
+
+        if (logging.equals("SYNC_UNSAMPLED")) {
+            context.getTurboFilterList().removeIf(filter -> filter instanceof RepetitiveLogSampler);
+            root.addAppender(file);
+            return;
+        }
+        // Same settings as ASYNC_CONSOLE in logback-spring.xml
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setName("BENCHMARK_ASYNC");
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(256);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(file);
+        async.start();
+        root.addAppender(async);
+    }
+}
@@ -0,0 +1,89 @@
+package com.opspilot.platform.sla;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the SLA monitor's work with a million pending deadlines spread over three days, on a
+ * simulated one-second clock: advancing the wheel by one tick, and moving one deadline. Keys that
+ * expire are rescheduled, so the wheel stays at its size. {@code scanPerTick} is the polling
+ * alternative the wheel replaces: checking every pending deadline once per tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class TimerWheelBenchmark {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final long SPREAD_MILLIS = TimeUnit.DAYS.toMillis(3);
+
+    @Param({"1000000"})
+    public int deadlines;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private TimerWheel<Integer> wheel;
+    private long[] deadlineMillis;
+    private long now;
+    private final List<Integer> expired = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        now = System.currentTimeMillis();
+        wheel = new TimerWheel<>(TICK_MILLIS, now);
+        deadlineMillis = new long[deadlines];
+        for (int key = 0; key < deadlines; key++) {
+            schedule(key);
+        }
+    }
+
+    @Benchmark
+    public int advanceOneTick() {
+        now += TICK_MILLIS;
+        expired.clear();
+        int count = wheel.advance(now, expired::add);
+        for (int key : expired) {
+            schedule(key);
+        }
+        return count;
+    }
+
+    @Benchmark
+    public boolean reschedule() {
+        return schedule(random.nextInt(deadlines));
+    }
+
+    @Benchmark
+    public void scanPerTick(Blackhole blackhole) {
+        now += TICK_MILLIS;
+        for (int key = 0; key < deadlineMillis.length; key++) {
+            if (deadlineMillis[key] <= now) {
+                blackhole.consume(schedule(key));
+            }
+        }
+    }
+
+    private boolean schedule(int key) {
+        long deadline = now + TICK_MILLIS + random.nextLong(SPREAD_MILLIS);
+        deadlineMillis[key] = deadline;
+        return wheel.schedule(key, deadline);
+    }
+}
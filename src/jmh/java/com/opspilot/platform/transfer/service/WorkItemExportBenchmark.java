@@ -0,0 +1,138 @@
+package com.opspilot.platform.transfer.service;
+
+import com.opspilot.platform.BenchmarkApplication;
+import com.opspilot.platform.transfer.TransferFormat;
+import com.opspilot.platform.transfer.dto.WorkItemExportFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to export every work item through {@link WorkItemExportService}, without gzip, into an
+ * output stream that only counts bytes. The rows live in a file database under target/ because
+ * they do not fit in the heap; it is seeded once and kept for later trials and runs, until
+ * {@code mvn clean}. The fork runs with a 512 MB heap to show that the export does not grow with
+ * the row count. Peak heap and bytes written are printed after each iteration, and once seeding
+ * is done Hikari logs a leak warning for any connection held longer than two seconds. Seeding
+ * falls in the first iteration, hence the long timeout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+@Timeout(time = 60, timeUnit = TimeUnit.MINUTES)
+public class WorkItemExportBenchmark {
+
+    private static final int SEED_BATCH = 20_000;
+
+    @Param({"5000000"})
+    public int rows;
+
+    @Param({"CSV", "NDJSON"})
+    public TransferFormat format;
+
+    private static final Path DATABASE = Path.of("target", "jmh-export-db", "opspilot").toAbsolutePath();
+
+    private BenchmarkApplication application;
+    private WorkItemExportService exportService;
+    private CountingOutputStream out;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = BenchmarkApplication.start(
+                "spring.datasource.url=jdbc:h2:file:" + DATABASE,
+                "spring.jpa.hibernate.ddl-auto=update",
+                "opspilot.archive.enabled=false");
+        exportService = application.getBean(WorkItemExportService.class);
+        seed(application.getBean(JdbcTemplate.class));
+        application.getBean(HikariDataSource.class).setLeakDetectionThreshold(2000);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        out = new CountingOutputStream();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        long peakHeap = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        System.out.printf("%n%,d bytes written, peak heap %,d MB%n", out.bytes, peakHeap >> 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        return exportService.export(WorkItemExportFilter.builder().build(), format, out);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM work_items", Long.class);
+        if (existing >= rows) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM work_items");
+        UUID admin = jdbcTemplate.queryForObject(
+                "SELECT id FROM employees WHERE email = 'admin1@opspilot.com'", UUID.class);
+        UUID operator = jdbcTemplate.queryForObject(
+                "SELECT id FROM employees WHERE email = 'operator1@opspilot.com'", UUID.class);
+        // Ascending ids append to the primary key index instead of splitting random pages
+        for (int from = 1; from <= rows; from += SEED_BATCH) {
+            jdbcTemplate.update("""
+                    INSERT INTO work_items (id, title, description, status, created_by_id, assigned_to_id,
+                                            due_at, created_at, updated_at)
+                    SELECT CAST('00000000-0000-4000-8000-' || LPAD(X, 12, '0') AS UUID),
+                           'Work item ' || X, 'Check host ' || X || ' and record the result, node "a", rack b',
+                           CASEWHEN(MOD(X, 4) = 0, 'COMPLETED', 'OPEN'), ?, CASEWHEN(MOD(X, 2) = 0, ?, NULL),
+                           NULL, DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'),
+                           DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00')
+                    FROM SYSTEM_RANGE(?, ?)""", admin, operator, from, Math.min(from + SEED_BATCH - 1, rows));
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.opspilot.platform.workitem.service;
+
+import com.opspilot.platform.BenchmarkApplication;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.service.EmployeeService;
+import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionException;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Claim throughput of {@link WorkItemService#claimNext} with 200 concurrent claimers spread over
+ * the ten seeded operators; run with {@code -t} to compare other claimer counts. Each iteration
+ * starts with the pool topped up to 20,000 open, unassigned items. The secondary results split the calls into
+ * items claimed, calls that found nothing and calls that failed on a lock or pool timeout, per
+ * second. Every claimed id is recorded, and the number of double claims, which must be zero, is
+ * printed after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(200)
+public class ClaimBenchmark {
+
+    private static final int ITEMS_PER_ITERATION = 20_000;
+    private static final int OPERATORS = 10;
+
+    private BenchmarkApplication application;
+    private WorkItemService workItemService;
+    private JdbcTemplate jdbcTemplate;
+    private Employee[] operators;
+    private final AtomicInteger nextClaimer = new AtomicInteger();
+
+    private final Set<UUID> claimed = ConcurrentHashMap.newKeySet();
+    private final LongAdder doubleClaims = new LongAdder();
+
+    /**
+     * One claimer, acting as one of the operators; its public fields are reported by JMH.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Claimer {
+
+        public long claimed;
+        public long foundNothing;
+        public long failed;
+
+        private Employee operator;
+
+        @Setup(Level.Trial)
+        public void setUp(ClaimBenchmark benchmark) {
+            operator = benchmark.operators[benchmark.nextClaimer.getAndIncrement() % OPERATORS];
+        }
+
+        @Setup(Level.Iteration)
+        public void resetCounters() {
+            claimed = 0;
+            foundNothing = 0;
+            failed = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = BenchmarkApplication.start("opspilot.archive.enabled=false");
+        workItemService = application.getBean(WorkItemService.class);
+        jdbcTemplate = application.getBean(JdbcTemplate.class);
+        EmployeeService employeeService = application.getBean(EmployeeService.class);
+        operators = new Employee[OPERATORS];
+        for (int i = 0; i < OPERATORS; i++) {
+            operators[i] = employeeService.findEmployeeEntityByEmail("operator" + (i + 1) + "@opspilot.com");
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void topUpOpenItems() {
+        claimed.clear();
+        doubleClaims.reset();
+        int open = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM work_items WHERE status = 'OPEN' AND assigned_to_id IS NULL", Integer.class);
+        jdbcTemplate.update("""
+                INSERT INTO work_items (id, title, status, created_by_id, created_at, updated_at)
+                SELECT RANDOM_UUID(), 'Queued item ' || X, 'OPEN',
+                       (SELECT id FROM employees WHERE email = 'admin1@opspilot.com'),
+                       DATEADD('MILLISECOND', X, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)""", ITEMS_PER_ITERATION - open);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n%,d claims, %,d double claims%n", claimed.size() + doubleClaims.sum(), doubleClaims.sum());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public Optional<WorkItemResponse> claimNext(Claimer claimer) {
+        Optional<WorkItemResponse> result;
+        try {
+            result = workItemService.claimNext(claimer.operator, null);
+        } catch (DataAccessException | TransactionException e) {
+            claimer.failed++;
+            return Optional.empty();
+        }
+        if (result.isEmpty()) {
+            claimer.foundNothing++;
+        } else {
+            claimer.claimed++;
+            if (!claimed.add(result.get().getId())) {
+                doubleClaims.increment();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+package com.opspilot.platform.workitem.service;
+
+import com.opspilot.platform.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of one page of 50 work items from {@code GET /api/admin/workitems} over HTTP, with
+ * every description 10 KB long, for the full representation and for {@code fields=} selections.
+ * The response size of each selection is printed once at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SparseFieldsBenchmark {
+
+    private static final int DESCRIPTION_LENGTH = 10 * 1024;
+    private static final int EXTRA_ITEMS = 500;
+
+    /**
+     * The fields parameter; "all" sends none.
+     */
+    @Param({"all", "summary", "title,status,assignedToName"})
+    public String fields;
+
+    private BenchmarkApplication application;
+    private String token;
+    private String path;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        application = BenchmarkApplication.start("opspilot.archive.enabled=false");
+        token = application.token("admin1@opspilot.com", "ADMIN");
+        JdbcTemplate jdbcTemplate = application.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("""
+                INSERT INTO work_items (id, title, status, created_by_id, created_at, updated_at)
+                SELECT RANDOM_UUID(), 'Investigate alert ' || X, 'OPEN',
+                       (SELECT id FROM employees WHERE email = 'admin1@opspilot.com'),
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)""", EXTRA_ITEMS);
+        jdbcTemplate.update("""
+                UPDATE work_items SET description = LEFT(REPEAT('Disk usage on ' || title || ' crossed 90%. ', 400), ?)
+                """, DESCRIPTION_LENGTH);
+
+        path = "/api/admin/workitems?size=50"
+                + (fields.equals("all") ? "" : "&fields=" + URLEncoder.encode(fields, StandardCharsets.UTF_8));
+        HttpResponse<byte[]> response = application.get(path, token, "application/json");
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " answered " + response.statusCode());
+        }
+        System.out.printf("%n%s: %,d bytes per page%n", fields, response.body().length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public byte[] listPage() throws IOException, InterruptedException {
+        return application.get(path, token, "application/json").body();
+    }
+}
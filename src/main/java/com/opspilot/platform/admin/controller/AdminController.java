@@ -1,9 +1,14 @@
 package com.opspilot.platform.admin.controller;
 
+import com.opspilot.platform.archive.service.WorkItemArchiveService;
+import com.opspilot.platform.coalesce.service.RequestCoalescer;
 import com.opspilot.platform.config.DemoDataService;
+import com.opspilot.platform.observability.SqlBudget;
 import com.opspilot.platform.user.Employee;
 import com.opspilot.platform.user.service.EmployeeService;
+import com.opspilot.platform.workitem.WorkItemStatus;
 import com.opspilot.platform.workitem.dto.DashboardMetrics;
+import com.opspilot.platform.workitem.dto.WorkItemField;
 import com.opspilot.platform.workitem.dto.WorkItemResponse;
 import com.opspilot.platform.workitem.service.WorkItemService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,12 +25,14 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 /**
  * Admin controller for administrative operations.
- * Available only to ADMIN role.
+ * Available only to ADMIN role. The dashboard and full work item listing are read in refresh
+ * waves by many admins at once, so identical concurrent reads are coalesced into one.
  */
 @RestController
 @RequestMapping("/api/admin")
@@ -38,6 +45,8 @@ public class AdminController {
     private final WorkItemService workItemService;
     private final EmployeeService employeeService;
     private final DemoDataService demoDataService;
+    private final WorkItemArchiveService workItemArchiveService;
+    private final RequestCoalescer requestCoalescer;
 
     /**
      * Get paginated list of all work items.
@@ -46,30 +55,60 @@ public class AdminController {
      * @param size page size (default 10)
      * @param sortBy field to sort by (default "createdAt")
      * @param direction sort direction (asc/desc, default "desc")
-     * @return page of WorkItemResponse
+     * @param includeArchived whether to include archived work items (default false)
+     * @param fields comma-separated fields to return, or "summary" (optional; default all fields)
+     * @return page of WorkItemResponse, or of the selected fields when {@code fields} is given
      */
     @GetMapping("/workitems")
+    @SqlBudget(maxStatements = 2)
     @PreAuthorize("hasAnyRole('ADMIN', 'VIEWER')")
     @Operation(summary = "Get all work items (paginated)", description = "Retrieve paginated list of all work items (ADMIN and VIEWER)")
-    public ResponseEntity<Page<WorkItemResponse>> getAllWorkItems(
+    public ResponseEntity<Page<?>> getAllWorkItems(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String fields) {
 
-        log.info("Fetch all work items request - Page: {}, Size: {}", page, size);
+        log.debug("Fetch all work items request - Page: {}, Size: {}", page, size);
 
         Sort sort = direction.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<WorkItemResponse> workItemsPage = workItemService.fetchAllWorkItemsPaginated(pageable);
+        Page<?> workItemsPage = fields != null
+                ? workItemService.fetchWorkItemFieldsPaginated(null, WorkItemField.parse(fields), pageable, includeArchived)
+                : requestCoalescer.execute("workitems.all", List.of(pageable, includeArchived),
+                        () -> workItemService.fetchAllWorkItemsPaginated(pageable, includeArchived));
 
-        log.info("Retrieved page {} with {} work items", page, workItemsPage.getNumberOfElements());
+        log.debug("Retrieved page {} with {} work items", page, workItemsPage.getNumberOfElements());
         return ResponseEntity.ok(workItemsPage);
     }
 
+    /**
+     * Get paginated list of OPEN and IN_PROGRESS work items past their due date, most overdue first.
+     *
+     * @param page page number (default 0)
+     * @param size page size (default 10)
+     * @return page of overdue WorkItemResponse
+     */
+    @GetMapping("/workitems/overdue")
+    @SqlBudget(maxStatements = 2)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get overdue work items", description = "Retrieve open and in-progress work items past their due date (ADMIN only)")
+    public ResponseEntity<Page<WorkItemResponse>> getOverdueWorkItems(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("dueAt").ascending());
+        Page<WorkItemResponse> overdue = workItemService.fetchOverdueWorkItems(pageable);
+
+        log.debug("Retrieved page {} with {} overdue work items", page, overdue.getNumberOfElements());
+        return ResponseEntity.ok(overdue);
+    }
+
     /**
      * Assign a work item to an employee.
      *
@@ -87,7 +126,7 @@ public class AdminController {
             Authentication authentication) {
 
         String email = authentication.getName();
-        log.info("Assign work item request for ID: {} from admin: {}", id, email);
+        log.debug("Assign work item request for ID: {} from admin: {}", id, email);
 
         String employeeIdStr = assignmentData.get("employeeId");
         if (employeeIdStr == null || employeeIdStr.isBlank()) {
@@ -116,19 +155,39 @@ public class AdminController {
      * @return dashboard metrics
      */
     @GetMapping("/dashboard")
+    @SqlBudget(maxStatements = 8)
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get dashboard metrics", description = "Retrieve dashboard statistics (ADMIN only)")
     public ResponseEntity<DashboardMetrics> getDashboardMetrics(Authentication authentication) {
         String email = authentication.getName();
-        log.info("Dashboard metrics request from admin: {}", email);
+        log.debug("Dashboard metrics request from admin: {}", email);
 
         Employee currentEmployee = employeeService.findEmployeeEntityByEmail(email);
-        DashboardMetrics metrics = workItemService.fetchDashboardMetrics(currentEmployee.getId());
+        // Status counts are shared by every admin; the rest only by concurrent calls of the same admin
+        Map<WorkItemStatus, Long> countsByStatus = requestCoalescer.execute("dashboard.status-counts", null,
+                workItemService::fetchStatusCounts);
+        DashboardMetrics metrics = requestCoalescer.execute("dashboard", currentEmployee.getId(),
+                () -> workItemService.fetchDashboardMetrics(currentEmployee.getId(), countsByStatus));
 
-        log.info("Dashboard metrics retrieved successfully for admin: {}", email);
+        log.debug("Dashboard metrics retrieved successfully for admin: {}", email);
         return ResponseEntity.ok(metrics);
     }
 
+    /**
+     * Archive closed work items now instead of waiting for the scheduled run.
+     *
+     * @return number of work items moved to the archive
+     */
+    @PostMapping("/workitems/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Archive closed work items", description = "Move aged COMPLETED and REJECTED work items to the archive (ADMIN only)")
+    public ResponseEntity<Map<String, Object>> archiveClosedWorkItems() {
+        int archived = workItemArchiveService.archiveClosedItems();
+
+        log.info("Archive run requested: {} work items archived", archived);
+        return ResponseEntity.ok(Map.of("workItemsArchived", archived));
+    }
+
     /**
      * Alias endpoint for demo data loading.
      * Some clients may call /api/admin/demo-data instead of /api/admin/demo-data/load.
@@ -0,0 +1,31 @@
+package com.opspilot.platform.archive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for moving closed work items to the archive table.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.archive")
+public class ArchiveProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * COMPLETED and REJECTED items are archived once they have not been updated for this long.
+     */
+    private Duration minAge = Duration.ofDays(30);
+
+    /**
+     * Items moved per transaction, which bounds lock time on the live table.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Upper bound on batches per run, so a large backlog is drained over several runs.
+     */
+    private int maxBatchesPerRun = 50;
+}
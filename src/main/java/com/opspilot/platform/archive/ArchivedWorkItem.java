@@ -0,0 +1,64 @@
+package com.opspilot.platform.archive;
+
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a closed work item that has been moved out of the live {@code work_items} table.
+ * Columns mirror {@link com.opspilot.platform.workitem.WorkItem} so rows can be copied with a single
+ * INSERT ... SELECT; the id and timestamps are carried over unchanged.
+ */
+@Entity
+@Table(name = "work_items_archive", indexes = {
+    @Index(name = "idx_work_items_archive_created_by", columnList = "created_by_id"),
+    @Index(name = "idx_work_items_archive_assigned_to", columnList = "assigned_to_id"),
+    @Index(name = "idx_work_items_archive_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = {"createdBy", "assignedTo"})
+@EqualsAndHashCode(of = "id")
+public class ArchivedWorkItem {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "title", nullable = false, length = 255)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WorkItemStatus status;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "created_by_id", nullable = false, foreignKey = @ForeignKey(name = "fk_work_item_archive_created_by"))
+    private Employee createdBy;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_to_id", foreignKey = @ForeignKey(name = "fk_work_item_archive_assigned_to"))
+    private Employee assignedTo;
+
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
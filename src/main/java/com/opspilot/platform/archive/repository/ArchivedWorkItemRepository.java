@@ -0,0 +1,64 @@
+package com.opspilot.platform.archive.repository;
+
+import com.opspilot.platform.archive.ArchivedWorkItem;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.workitem.repository.StatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for archived work items.
+ * Rows only enter this table through {@link #copyFromLive(Collection, LocalDateTime)}.
+ */
+@Repository
+public interface ArchivedWorkItemRepository extends JpaRepository<ArchivedWorkItem, UUID> {
+
+    /**
+     * Copy live work items into the archive. The caller deletes the live rows in the same transaction.
+     *
+     * @param ids        ids of the live work items to copy
+     * @param archivedAt archive timestamp written to every copied row
+     * @return number of rows copied
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO work_items_archive
+                (id, title, description, status, created_by_id, assigned_to_id, due_at, created_at, updated_at, archived_at)
+            SELECT id, title, description, status, created_by_id, assigned_to_id, due_at, created_at, updated_at, :archivedAt
+            FROM work_items
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int copyFromLive(@Param("ids") Collection<UUID> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Count archived work items grouped by status.
+     *
+     * @return one row per status present in the archive
+     */
+    @Query("SELECT a.status AS status, COUNT(a) AS count FROM ArchivedWorkItem a GROUP BY a.status")
+    List<StatusCount> countGroupedByStatus();
+
+    /**
+     * Count archived work items assigned to an employee.
+     *
+     * @param employee the assignee
+     * @return number of archived items
+     */
+    long countByAssignedTo(Employee employee);
+
+    /**
+     * Count archived work items created by an employee.
+     *
+     * @param employee the creator
+     * @return number of archived items
+     */
+    long countByCreatedBy(Employee employee);
+}
@@ -0,0 +1,117 @@
+package com.opspilot.platform.archive.service;
+
+import com.opspilot.platform.archive.ArchiveProperties;
+import com.opspilot.platform.archive.repository.ArchivedWorkItemRepository;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.repository.WorkItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Moves closed work items from the live table to the archive.
+ * Each batch is copied and deleted in its own transaction, so a run never holds locks on more
+ * than one batch of rows and a failure only rolls back the batch in flight.
+ */
+@Service
+@Slf4j
+public class WorkItemArchiveService {
+
+    /**
+     * Statuses a work item cannot leave through the normal workflow.
+     */
+    static final Set<WorkItemStatus> CLOSED_STATUSES = EnumSet.of(WorkItemStatus.COMPLETED, WorkItemStatus.REJECTED);
+
+    private final WorkItemRepository workItemRepository;
+    private final ArchivedWorkItemRepository archivedWorkItemRepository;
+    private final ArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter archivedCounter;
+    private final Timer batchTimer;
+
+    public WorkItemArchiveService(WorkItemRepository workItemRepository,
+                                  ArchivedWorkItemRepository archivedWorkItemRepository,
+                                  ArchiveProperties properties,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.workItemRepository = workItemRepository;
+        this.archivedWorkItemRepository = archivedWorkItemRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.archivedCounter = meterRegistry.counter("opspilot.archive.moved");
+        this.batchTimer = Timer.builder("opspilot.archive.batch")
+                .description("Time to copy and delete one batch of archived work items")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled archive run.
+     */
+    @Scheduled(initialDelayString = "${opspilot.archive.initial-delay:1m}",
+               fixedDelayString = "${opspilot.archive.interval:15m}")
+    public void scheduledArchive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            archiveClosedItems();
+        } catch (Exception e) {
+            log.warn("Work item archive run failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Archive closed work items older than the configured age, up to the configured number of batches.
+     *
+     * @return number of work items moved
+     */
+    public int archiveClosedItems() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getMinAge());
+        int total = 0;
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            int moved = batchTimer.record(() -> archiveBatch(cutoff));
+            total += moved;
+            if (moved < properties.getBatchSize()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} closed work items last updated before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<UUID> ids = workItemRepository.findIdsToArchive(
+                    CLOSED_STATUSES, cutoff, PageRequest.of(0, properties.getBatchSize()));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            int copied = archivedWorkItemRepository.copyFromLive(ids, LocalDateTime.now());
+            int deleted = workItemRepository.deleteByIdIn(ids);
+            if (copied != deleted) {
+                throw new IllegalStateException(
+                        "Archive batch copied " + copied + " rows but deleted " + deleted);
+            }
+            return deleted;
+        });
+        int count = moved != null ? moved : 0;
+        archivedCounter.increment(count);
+        return count;
+    }
+}
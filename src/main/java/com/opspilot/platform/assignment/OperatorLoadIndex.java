@@ -0,0 +1,215 @@
+package com.opspilot.platform.assignment;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory index of operator workload, ordered by load.
+ * Load is the number of committed active work items plus assignments reserved by transactions
+ * still in flight, so concurrent creates see each other's picks before they commit.
+ * Every operation is O(log n) in the number of operators and runs under one lock, which makes
+ * pick-and-reserve atomic across threads.
+ */
+public class OperatorLoadIndex {
+
+    private static final Comparator<Slot> BY_LOAD = Comparator
+            .comparingInt(Slot::load)
+            .thenComparingLong(slot -> slot.lastReservedAt)
+            .thenComparing(slot -> slot.operatorId);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, Slot> slots = new HashMap<>();
+    private final TreeSet<Slot> byLoad = new TreeSet<>(BY_LOAD);
+    private long reservationSequence;
+
+    /**
+     * Replace the committed loads with a fresh snapshot. Pending reservations are kept for
+     * operators still present; operators missing from the snapshot are dropped.
+     *
+     * @param activeCounts committed active work items per operator
+     */
+    public void rebuild(Map<UUID, Integer> activeCounts) {
+        lock.lock();
+        try {
+            Map<UUID, Slot> previous = new HashMap<>(slots);
+            slots.clear();
+            byLoad.clear();
+            activeCounts.forEach((operatorId, count) -> {
+                Slot slot = new Slot(operatorId);
+                Slot old = previous.get(operatorId);
+                if (old != null) {
+                    slot.pending = old.pending;
+                    slot.lastReservedAt = old.lastReservedAt;
+                }
+                slot.committed = count;
+                slots.put(operatorId, slot);
+                byLoad.add(slot);
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Start tracking an operator. Does nothing if the operator is already indexed.
+     *
+     * @param operatorId the operator
+     * @param committed  committed active work items
+     */
+    public void add(UUID operatorId, int committed) {
+        lock.lock();
+        try {
+            if (slots.containsKey(operatorId)) {
+                return;
+            }
+            Slot slot = new Slot(operatorId);
+            slot.committed = committed;
+            slots.put(operatorId, slot);
+            byLoad.add(slot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop tracking an operator, so it is no longer picked. Releasing its outstanding
+     * reservations afterwards is a no-op.
+     *
+     * @param operatorId the operator
+     */
+    public void remove(UUID operatorId) {
+        lock.lock();
+        try {
+            Slot slot = slots.remove(operatorId);
+            if (slot != null) {
+                byLoad.remove(slot);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pick the least loaded operator and reserve one unit of load for it. Ties go to the operator
+     * reserved longest ago. Each reservation must be released with {@link #release(UUID)}.
+     *
+     * @return the chosen operator, or empty when no operators are indexed
+     */
+    public Optional<UUID> reserveLeastLoaded() {
+        lock.lock();
+        try {
+            Slot slot = byLoad.pollFirst();
+            if (slot == null) {
+                return Optional.empty();
+            }
+            slot.pending++;
+            slot.lastReservedAt = ++reservationSequence;
+            byLoad.add(slot);
+            return Optional.of(slot.operatorId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release a reservation once its transaction has completed.
+     *
+     * @param operatorId the reserved operator
+     */
+    public void release(UUID operatorId) {
+        update(operatorId, slot -> slot.pending = Math.max(0, slot.pending - 1));
+    }
+
+    /**
+     * Apply a committed change in an operator's active work item count.
+     *
+     * @param operatorId the operator; ignored when not indexed
+     * @param delta      change in active work items
+     */
+    public void adjust(UUID operatorId, int delta) {
+        update(operatorId, slot -> slot.committed = Math.max(0, slot.committed + delta));
+    }
+
+    /**
+     * Current load of one operator.
+     *
+     * @param operatorId the operator
+     * @return load, or empty when not indexed
+     */
+    public Optional<Integer> loadOf(UUID operatorId) {
+        lock.lock();
+        try {
+            Slot slot = slots.get(operatorId);
+            return slot != null ? Optional.of(slot.load()) : Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Snapshot of the load distribution.
+     *
+     * @return operator count and lowest, highest and total load
+     */
+    public LoadSummary summary() {
+        lock.lock();
+        try {
+            if (byLoad.isEmpty()) {
+                return new LoadSummary(0, 0, 0, 0);
+            }
+            long total = 0;
+            for (Slot slot : slots.values()) {
+                total += slot.load();
+            }
+            return new LoadSummary(slots.size(), byLoad.first().load(), byLoad.last().load(), total);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(UUID operatorId, Consumer<Slot> change) {
+        lock.lock();
+        try {
+            Slot slot = slots.get(operatorId);
+            if (slot == null) {
+                return;
+            }
+            byLoad.remove(slot);
+            change.accept(slot);
+            byLoad.add(slot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Load distribution across indexed operators.
+     */
+    public record LoadSummary(int operators, int minLoad, int maxLoad, long totalLoad) {
+    }
+
+    /**
+     * Mutable per-operator entry; only modified while removed from the ordered set.
+     */
+    private static final class Slot {
+
+        private final UUID operatorId;
+        private int committed;
+        private int pending;
+        private long lastReservedAt;
+
+        Slot(UUID operatorId) {
+            this.operatorId = operatorId;
+        }
+
+        int load() {
+            return committed + pending;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.opspilot.platform.assignment.service;
+
+import com.opspilot.platform.assignment.OperatorLoadIndex;
+import com.opspilot.platform.cluster.InvalidationTopic;
+import com.opspilot.platform.cluster.service.InvalidationBus;
+import com.opspilot.platform.user.AccessRole;
+import com.opspilot.platform.user.event.EmployeeChangedEvent;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.event.WorkItemChangedEvent;
+import com.opspilot.platform.workitem.repository.AssigneeLoad;
+import com.opspilot.platform.workitem.repository.WorkItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Picks the least loaded operator for new work items.
+ * Load is the number of OPEN and IN_PROGRESS items assigned to an operator, kept in an
+ * {@link OperatorLoadIndex}: rebuilt from the database at startup and periodically, and updated
+ * from committed work item changes in between, so picking an operator never runs a count query.
+ * Operators join the index when they register and leave it when they are deactivated.
+ * Committed load changes are also broadcast to the other replicas, whose indexes apply them too.
+ */
+@Service
+@Slf4j
+public class AutoAssignmentService {
+
+    static final Set<WorkItemStatus> ACTIVE_STATUSES = EnumSet.of(WorkItemStatus.OPEN, WorkItemStatus.IN_PROGRESS);
+
+    private final WorkItemRepository workItemRepository;
+    private final EmployeeRepository employeeRepository;
+    private final InvalidationBus invalidationBus;
+    private final OperatorLoadIndex index = new OperatorLoadIndex();
+    private final Counter autoAssignedCounter;
+
+    public AutoAssignmentService(WorkItemRepository workItemRepository,
+                                 EmployeeRepository employeeRepository,
+                                 InvalidationBus invalidationBus,
+                                 MeterRegistry meterRegistry) {
+        this.workItemRepository = workItemRepository;
+        this.employeeRepository = employeeRepository;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(InvalidationTopic.OPERATOR_LOAD,
+                (key, delta) -> index.adjust(UUID.fromString(key), (int) delta));
+        invalidationBus.subscribe(InvalidationTopic.EMPLOYEE, (key, delta) -> refreshOperator(UUID.fromString(key)));
+
+        this.autoAssignedCounter = meterRegistry.counter("opspilot.assignment.auto");
+        Gauge.builder("opspilot.assignment.operators", index, i -> i.summary().operators())
+                .description("Operators eligible for auto-assignment")
+                .register(meterRegistry);
+        Gauge.builder("opspilot.assignment.load.min", index, i -> i.summary().minLoad())
+                .description("Active work items of the least loaded operator")
+                .register(meterRegistry);
+        Gauge.builder("opspilot.assignment.load.max", index, i -> i.summary().maxLoad())
+                .description("Active work items of the most loaded operator")
+                .register(meterRegistry);
+        Gauge.builder("opspilot.assignment.load.spread", index, i -> i.summary().maxLoad() - i.summary().minLoad())
+                .description("Difference between the most and least loaded operator")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reload operator loads from the database. Also corrects drift from writes that bypass the
+     * work item service, such as bulk imports and demo data.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${opspilot.assignment.rebuild-interval:5m}",
+               fixedDelayString = "${opspilot.assignment.rebuild-interval:5m}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<UUID, Integer> loads = new HashMap<>();
+        for (AssigneeLoad load : workItemRepository.countActiveByAssignee(AccessRole.OPERATOR, ACTIVE_STATUSES)) {
+            loads.put(load.getEmployeeId(), (int) load.getActiveCount());
+        }
+        index.rebuild(loads);
+        log.debug("Rebuilt operator load index for {} operators", loads.size());
+    }
+
+    /**
+     * Choose the least loaded operator for a work item being created in the current transaction.
+     * The pick counts towards the operator's load until the transaction completes, when the
+     * committed change (if any) takes its place.
+     *
+     * @return the chosen operator id, or empty when there are no active operators
+     */
+    public Optional<UUID> reserveOperator() {
+        Optional<UUID> operatorId = index.reserveLeastLoaded();
+        operatorId.ifPresent(id -> {
+            autoAssignedCounter.increment();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new ReservationRelease(id));
+            } else {
+                index.release(id);
+            }
+        });
+        return operatorId;
+    }
+
+    /**
+     * Apply a committed assignment or status change to the index.
+     *
+     * @param event the domain event
+     */
+    @TransactionalEventListener
+    public void onWorkItemChanged(WorkItemChangedEvent event) {
+        boolean wasActive = event.getPreviousStatus() != null && ACTIVE_STATUSES.contains(event.getPreviousStatus());
+        boolean isActive = ACTIVE_STATUSES.contains(event.getStatus());
+        UUID previousAssignee = event.getPreviousAssigneeId();
+        UUID assignee = event.getAssigneeId();
+        if (wasActive == isActive && Objects.equals(previousAssignee, assignee)) {
+            return;
+        }
+        if (wasActive && previousAssignee != null) {
+            index.adjust(previousAssignee, -1);
+            invalidationBus.adjust(InvalidationTopic.OPERATOR_LOAD, previousAssignee, -1);
+        }
+        if (isActive && assignee != null) {
+            index.adjust(assignee, 1);
+            invalidationBus.adjust(InvalidationTopic.OPERATOR_LOAD, assignee, 1);
+        }
+    }
+
+    /**
+     * Start offering a newly registered operator, and stop offering a deactivated one, as soon
+     * as the change commits.
+     *
+     * @param event the domain event
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        refreshOperator(event.getEmployeeId());
+    }
+
+    /**
+     * Drop an operator that can no longer take work, typically one deactivated on another
+     * replica whose broadcast has not arrived yet.
+     *
+     * @param operatorId the operator
+     */
+    public void evictOperator(UUID operatorId) {
+        index.remove(operatorId);
+    }
+
+    /**
+     * Current load of an operator, for diagnostics and tests.
+     *
+     * @param operatorId the operator
+     * @return load, or empty when the operator is not indexed
+     */
+    public Optional<Integer> loadOf(UUID operatorId) {
+        return index.loadOf(operatorId);
+    }
+
+    private void refreshOperator(UUID employeeId) {
+        // Read past the entity cache, which a peer's change may not have evicted yet
+        if (employeeRepository.existsByIdAndRoleAndActiveTrue(employeeId, AccessRole.OPERATOR)) {
+            // New operators start without work; drift is corrected by the next rebuild
+            index.add(employeeId, 0);
+        } else {
+            index.remove(employeeId);
+        }
+    }
+
+    /**
+     * Releases a reservation after the transaction completes. Ordered after the transactional
+     * event listeners, so on commit the operator's committed load rises before the reservation
+     * is dropped and the load never dips in between.
+     */
+    private final class ReservationRelease implements TransactionSynchronization {
+
+        private final UUID operatorId;
+
+        private ReservationRelease(UUID operatorId) {
+            this.operatorId = operatorId;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            index.release(operatorId);
+        }
+    }
+}
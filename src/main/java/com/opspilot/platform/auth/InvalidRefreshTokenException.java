@@ -0,0 +1,25 @@
+package com.opspilot.platform.auth;
+
+import com.opspilot.platform.exception.DomainException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a refresh token is unknown, expired, revoked or already used.
+ * The message is the same in every case so it does not tell a caller which.
+ */
+public class InvalidRefreshTokenException extends DomainException {
+
+    public InvalidRefreshTokenException() {
+        super("Refresh token is invalid or expired; log in again");
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.UNAUTHORIZED;
+    }
+
+    @Override
+    public String getError() {
+        return "Unauthorized";
+    }
+}
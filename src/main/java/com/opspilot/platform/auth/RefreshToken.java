@@ -0,0 +1,61 @@
+package com.opspilot.platform.auth;
+
+import com.opspilot.platform.user.Employee;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a refresh token. Only the SHA-256 of the token is stored; the token itself
+ * is 256 random bits, so unlike a password it needs no slow hash. Each renewal marks the token used
+ * and issues a successor in the same family; a used token presented again revokes the family.
+ */
+@Entity
+@Table(name = "refresh_tokens",
+       uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash"),
+       indexes = {
+           @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+           @Index(name = "idx_refresh_tokens_employee_id", columnList = "employee_id"),
+           @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = {"tokenHash", "employee"})
+@EqualsAndHashCode(of = "id")
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, updatable = false, length = 64)
+    private String tokenHash;
+
+    // Shared by a login's first token and all of its successors
+    @Column(name = "family_id", nullable = false, updatable = false)
+    private UUID familyId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "employee_id", nullable = false, updatable = false)
+    private Employee employee;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,19 @@
+package com.opspilot.platform.auth;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for refresh tokens.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.auth.refresh-token")
+public class RefreshTokenProperties {
+
+    /**
+     * How long a refresh token can be renewed; each renewal starts a new period.
+     */
+    private Duration ttl = Duration.ofDays(14);
+}
@@ -1,7 +1,8 @@
 package com.opspilot.platform.auth.controller;
 
 import com.opspilot.platform.auth.dto.AuthResponse;
-import com.opspilot.platform.security.JwtTokenProvider;
+import com.opspilot.platform.auth.dto.RefreshTokenRequest;
+import com.opspilot.platform.auth.service.RefreshTokenService;
 import com.opspilot.platform.user.dto.EmployeeRegistrationRequest;
 import com.opspilot.platform.user.dto.EmployeeResponse;
 import com.opspilot.platform.user.dto.LoginRequest;
@@ -20,8 +21,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 /**
- * Authentication controller for employee registration and login.
- * Handles JWT token generation for authenticated users.
+ * Authentication controller for employee registration, login, token renewal and logout.
+ * Login verifies the password once and issues a short-lived access token with a refresh
+ * token; renewal exchanges the refresh token without checking the password again.
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -32,7 +34,7 @@ public class AuthController {
 
     private final EmployeeService employeeService;
     private final AuthenticationManager authenticationManager;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * Register a new employee.
@@ -43,7 +45,7 @@ public class AuthController {
     @PostMapping("/register")
     @Operation(summary = "Register new employee", description = "Create a new employee account in the system")
     public ResponseEntity<EmployeeResponse> register(@Valid @RequestBody EmployeeRegistrationRequest request) {
-        log.info("Registration request received for email: {}", request.getEmail());
+        log.debug("Registration request received for email: {}", request.getEmail());
 
         EmployeeResponse response = employeeService.registerEmployee(request);
 
@@ -52,15 +54,15 @@ public class AuthController {
     }
 
     /**
-     * Authenticate employee and generate JWT token.
+     * Authenticate employee and generate JWT access and refresh tokens.
      *
      * @param request login credentials
-     * @return JWT token and employee details
+     * @return tokens and employee details
      */
     @PostMapping("/login")
-    @Operation(summary = "Employee login", description = "Authenticate employee and receive JWT token")
+    @Operation(summary = "Employee login", description = "Authenticate employee and receive JWT access and refresh tokens")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        log.info("Login request received for email: {}", request.getEmail());
+        log.debug("Login request received for email: {}", request.getEmail());
 
         // Authenticate user
         Authentication authentication = authenticationManager.authenticate(
@@ -72,21 +74,36 @@ public class AuthController {
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // Generate JWT token
-        String jwt = jwtTokenProvider.generateToken(authentication);
-
-        // Get employee details
-        EmployeeResponse employee = employeeService.fetchEmployeeByEmail(request.getEmail());
-
-        AuthResponse authResponse = new AuthResponse(
-                jwt,
-                employee.getEmail(),
-                employee.getFullName(),
-                employee.getRole().name()
-        );
+        AuthResponse authResponse = refreshTokenService.login(authentication.getName());
 
         log.info("Employee logged in successfully: {}", request.getEmail());
         return ResponseEntity.ok(authResponse);
     }
-}
 
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token.
+     * The presented refresh token cannot be used again.
+     *
+     * @param request the refresh token
+     * @return tokens and employee details
+     */
+    @PostMapping("/refresh")
+    @Operation(summary = "Renew tokens", description = "Exchange a refresh token for new access and refresh tokens")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(refreshTokenService.refresh(request.getRefreshToken()));
+    }
+
+    /**
+     * Revoke a refresh token and every token renewed from the same login.
+     * Access tokens already issued stay valid until they expire.
+     *
+     * @param request the refresh token
+     * @return empty response
+     */
+    @PostMapping("/logout")
+    @Operation(summary = "Employee logout", description = "Revoke the refresh tokens of this login")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        refreshTokenService.logout(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -6,7 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * DTO for authentication response containing JWT token.
+ * DTO for authentication response containing a JWT access token and the refresh token
+ * that renews it.
  */
 @Data
 @Builder
@@ -19,6 +20,11 @@ public class AuthResponse {
     @Builder.Default
     private String type = "Bearer";
 
+    private String refreshToken;
+
+    // Access token lifetime in seconds
+    private Long expiresIn;
+
     private String email;
     private String fullName;
     private String role;
@@ -0,0 +1,72 @@
+package com.opspilot.platform.auth.repository;
+
+import com.opspilot.platform.auth.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for refresh tokens.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Find a token with its employee, served by the unique token_hash index.
+     *
+     * @param tokenHash SHA-256 of the presented token
+     * @return the token, if any
+     */
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.employee WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Mark a token used if it still is unused and unrevoked. Of two concurrent renewals with one
+     * token only the first gets 1; the other waits for its row lock and then gets 0.
+     *
+     * @param id  the token id
+     * @param now current time
+     * @return 1 if this call used the token, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.usedAt = :now WHERE r.id = :id AND r.usedAt IS NULL AND r.revokedAt IS NULL")
+    int markUsed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Revoke every token of a family.
+     *
+     * @param familyId the family
+     * @param now      current time
+     * @return number of tokens revoked
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") LocalDateTime now);
+
+    /**
+     * Revoke every token of an employee.
+     *
+     * @param employeeId the employee
+     * @param now        current time
+     * @return number of tokens revoked
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.employee.id = :employeeId AND r.revokedAt IS NULL")
+    int revokeAllForEmployee(@Param("employeeId") UUID employeeId, @Param("now") LocalDateTime now);
+
+    /**
+     * Delete tokens past their expiry. Used tokens are kept until then to detect their reuse.
+     *
+     * @param now current time
+     * @return number of tokens deleted
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,169 @@
+package com.opspilot.platform.auth.service;
+
+import com.opspilot.platform.auth.InvalidRefreshTokenException;
+import com.opspilot.platform.auth.RefreshToken;
+import com.opspilot.platform.auth.RefreshTokenProperties;
+import com.opspilot.platform.auth.dto.AuthResponse;
+import com.opspilot.platform.auth.repository.RefreshTokenRepository;
+import com.opspilot.platform.security.JwtTokenProvider;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.event.EmployeeChangedEvent;
+import com.opspilot.platform.user.event.EmployeeEventType;
+import com.opspilot.platform.user.service.EmployeeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Service issuing access tokens together with rotating refresh tokens.
+ * Access tokens are short-lived and checked in memory only; renewing one costs a lookup of the
+ * presented refresh token by its hash, a conditional update marking it used and the insert of its
+ * successor, with no password check. Presenting a used token again means it was copied, so the
+ * whole family is revoked and both holders have to log in again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository repository;
+    private final RefreshTokenProperties properties;
+    private final EmployeeService employeeService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * Issue tokens for an employee whose credentials have been verified, starting a new family.
+     *
+     * @param email the authenticated employee's email
+     * @return access and refresh token with employee details
+     */
+    public AuthResponse login(String email) {
+        Employee employee = employeeService.findEmployeeEntityByEmail(email);
+        return issue(employee, UUID.randomUUID(), LocalDateTime.now());
+    }
+
+    /**
+     * Exchange a refresh token for a new access token and its successor refresh token.
+     * Revocations made on the way to rejecting a token are committed, not rolled back.
+     *
+     * @param token the presented refresh token
+     * @return access and refresh token with employee details
+     * @throws InvalidRefreshTokenException if the token is unknown, expired, revoked or already used
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public AuthResponse refresh(String token) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken presented = repository.findByTokenHash(hash(token))
+                .orElseThrow(InvalidRefreshTokenException::new);
+        if (presented.getRevokedAt() != null || presented.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        Employee employee = presented.getEmployee();
+        if (presented.getUsedAt() != null || repository.markUsed(presented.getId(), now) == 0) {
+            int revoked = repository.revokeFamily(presented.getFamilyId(), now);
+            log.warn("Refresh token reuse for {}; revoked {} tokens of family {}",
+                    employee.getEmail(), revoked, presented.getFamilyId());
+            throw new InvalidRefreshTokenException();
+        }
+        if (!Boolean.TRUE.equals(employee.getActive())) {
+            repository.revokeFamily(presented.getFamilyId(), now);
+            throw new InvalidRefreshTokenException();
+        }
+
+        // Role is read again, so a role change takes effect at the next renewal
+        return issue(employee, presented.getFamilyId(), now);
+    }
+
+    /**
+     * Revoke the family of a refresh token. Unknown tokens are ignored.
+     *
+     * @param token the presented refresh token
+     */
+    public void logout(String token) {
+        repository.findByTokenHash(hash(token)).ifPresent(refreshToken -> {
+            repository.revokeFamily(refreshToken.getFamilyId(), LocalDateTime.now());
+            log.info("Employee logged out: {}", refreshToken.getEmployee().getEmail());
+        });
+    }
+
+    /**
+     * Revoke all refresh tokens of a deactivated employee in the deactivating transaction.
+     *
+     * @param event the domain event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revokeOnDeactivation(EmployeeChangedEvent event) {
+        if (event.getType() == EmployeeEventType.DEACTIVATED) {
+            int revoked = repository.revokeAllForEmployee(event.getEmployeeId(), LocalDateTime.now());
+            log.debug("Revoked {} refresh tokens of deactivated employee {}", revoked, event.getEmail());
+        }
+    }
+
+    /**
+     * Delete expired refresh tokens.
+     */
+    @Scheduled(initialDelayString = "${opspilot.auth.refresh-token.cleanup-interval:1h}",
+               fixedDelayString = "${opspilot.auth.refresh-token.cleanup-interval:1h}")
+    public void deleteExpiredTokens() {
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private AuthResponse issue(Employee employee, UUID familyId, LocalDateTime now) {
+        String refreshToken = newToken();
+        repository.save(RefreshToken.builder()
+                .tokenHash(hash(refreshToken))
+                .familyId(familyId)
+                .employee(employee)
+                .expiresAt(now.plus(properties.getTtl()))
+                .build());
+
+        String accessToken = jwtTokenProvider.generateTokenFromEmailAndRole(
+                employee.getEmail(), employee.getRole().name());
+        return AuthResponse.builder()
+                .token(accessToken)
+                .refreshToken(refreshToken)
+                .expiresIn(jwtTokenProvider.getExpirationMs() / 1000)
+                .email(employee.getEmail())
+                .fullName(employee.getFullName())
+                .role(employee.getRole().name())
+                .build();
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.opspilot.platform.cluster;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Entity representing one invalidation message of the table transport.
+ * Rows are written and polled with JDBC by
+ * {@link com.opspilot.platform.cluster.transport.TableInvalidationTransport}; the entity only
+ * defines the table.
+ */
+@Entity
+@Immutable
+@Table(name = "cluster_invalidations", indexes = {
+    @Index(name = "idx_cluster_invalidations_sent_at", columnList = "sent_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@EqualsAndHashCode(of = "id")
+public class ClusterInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "origin", nullable = false, updatable = false, length = 64)
+    private String origin;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "topic", nullable = false, updatable = false, length = 50)
+    private InvalidationTopic topic;
+
+    @Column(name = "cache_key", nullable = false, updatable = false)
+    private String cacheKey;
+
+    @Column(name = "delta", nullable = false, updatable = false)
+    private long delta;
+
+    @Column(name = "sent_at", nullable = false, updatable = false)
+    private long sentAt;
+}
@@ -0,0 +1,92 @@
+package com.opspilot.platform.cluster;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the cluster invalidation bus.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.cluster")
+public class ClusterProperties {
+
+    /**
+     * How invalidations reach the other replicas; NONE for a single instance.
+     */
+    private Transport transport = Transport.NONE;
+
+    /**
+     * Identifies this replica in sent messages, so it can ignore its own. Random when unset.
+     */
+    private String nodeId;
+
+    /**
+     * How long invalidations are collected before they are sent. Repeated evictions of one key
+     * are sent once and counter deltas for one key are summed.
+     */
+    private Duration coalesceWindow = Duration.ofMillis(50);
+
+    /**
+     * Pending keys that trigger a send before the coalesce window ends; also the largest batch sent.
+     */
+    private int maxBatchSize = 1000;
+
+    private Table table = new Table();
+
+    private Multicast multicast = new Multicast();
+
+    public enum Transport {
+
+        NONE,
+
+        /**
+         * Rows in the {@code cluster_invalidations} table, polled by every replica. Needs nothing
+         * beyond the shared database.
+         */
+        TABLE,
+
+        /**
+         * UDP multicast datagrams. Lower latency, but best effort: a lost datagram is not resent.
+         */
+        MULTICAST
+    }
+
+    @Data
+    public static class Table {
+
+        private Duration pollInterval = Duration.ofMillis(500);
+
+        /**
+         * How long a gap in the message ids is waited on before it is taken as a rolled back
+         * insert rather than one not yet committed.
+         */
+        private Duration settle = Duration.ofSeconds(2);
+
+        /**
+         * Messages older than this are deleted.
+         */
+        private Duration retention = Duration.ofMinutes(10);
+
+        private int fetchSize = 1000;
+    }
+
+    @Data
+    public static class Multicast {
+
+        private String group = "239.255.42.99";
+
+        private int port = 45599;
+
+        /**
+         * Network interface to join the group on; the system default when unset.
+         */
+        private String networkInterface;
+
+        /**
+         * Router hops a datagram may cross; 0 keeps it on this host.
+         */
+        private int timeToLive = 1;
+    }
+}
@@ -0,0 +1,16 @@
+package com.opspilot.platform.cluster;
+
+/**
+ * Applies invalidations received from other replicas to a local cache.
+ */
+@FunctionalInterface
+public interface InvalidationHandler {
+
+    /**
+     * Apply one invalidation. Called on the transport's receiving thread; must not block.
+     *
+     * @param key   the changed entry
+     * @param delta change to apply, for counter topics
+     */
+    void invalidate(String key, long delta);
+}
@@ -0,0 +1,13 @@
+package com.opspilot.platform.cluster;
+
+/**
+ * One invalidation as sent between replicas.
+ *
+ * @param topic        what changed
+ * @param key          which entry changed
+ * @param delta        change to apply, for counter topics; 0 otherwise
+ * @param origin       node id of the sender
+ * @param sentAtMillis when the oldest change coalesced into this message was published, in epoch milliseconds
+ */
+public record InvalidationMessage(InvalidationTopic topic, String key, long delta, String origin, long sentAtMillis) {
+}
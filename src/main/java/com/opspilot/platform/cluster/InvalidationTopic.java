@@ -0,0 +1,32 @@
+package com.opspilot.platform.cluster;
+
+/**
+ * Kinds of change broadcast on the invalidation bus.
+ */
+public enum InvalidationTopic {
+
+    /**
+     * An employee changed; the key is the employee id. Peers evict their cached copy.
+     */
+    EMPLOYEE(false),
+
+    /**
+     * An operator's count of active work items changed; the key is the operator id and the
+     * delta the change. Peers apply the delta to their load index.
+     */
+    OPERATOR_LOAD(true);
+
+    private final boolean counter;
+
+    InvalidationTopic(boolean counter) {
+        this.counter = counter;
+    }
+
+    /**
+     * @return true if messages carry deltas that are summed when coalesced, false if repeated
+     *         messages for a key are simply collapsed into one
+     */
+    public boolean isCounter() {
+        return counter;
+    }
+}
@@ -0,0 +1,285 @@
+package com.opspilot.platform.cluster.service;
+
+import com.opspilot.platform.cluster.ClusterProperties;
+import com.opspilot.platform.cluster.InvalidationHandler;
+import com.opspilot.platform.cluster.InvalidationMessage;
+import com.opspilot.platform.cluster.InvalidationTopic;
+import com.opspilot.platform.cluster.transport.InvalidationTransport;
+import com.opspilot.platform.cluster.transport.PartialSendException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Broadcasts changes that make in-process caches stale to the other replicas.
+ * Services publish an eviction or counter delta after their change commits; the bus collects
+ * them for the coalesce window, merging repeats of one key, and hands the batch to the
+ * configured transport. Messages received from peers are passed to the handlers subscribed to
+ * their topic. With no transport configured publishing does nothing, since a single instance
+ * keeps its own caches current.
+ *
+ * <p>Propagation takes at most the coalesce window plus the transport's delivery time (the poll
+ * interval for the table transport), and is recorded as {@code opspilot.cluster.propagation}.
+ */
+@Service
+@Slf4j
+public class InvalidationBus implements SmartLifecycle {
+
+    private final ClusterProperties properties;
+    private final InvalidationTransport transport;
+    private final String nodeId;
+    private final Map<InvalidationTopic, List<InvalidationHandler>> handlers = new EnumMap<>(InvalidationTopic.class);
+    private final ConcurrentHashMap<PendingKey, Pending> pending = new ConcurrentHashMap<>();
+    private final Object flushSignal = new Object();
+
+    private final Counter publishedCounter;
+    private final Counter coalescedCounter;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter receivedCounter;
+    private final Timer propagationTimer;
+
+    private volatile boolean running;
+    private Thread flushThread;
+
+    public InvalidationBus(ClusterProperties properties,
+                           ObjectProvider<InvalidationTransport> transport,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.transport = transport.getIfAvailable();
+        this.nodeId = properties.getNodeId() != null ? properties.getNodeId() : UUID.randomUUID().toString();
+        for (InvalidationTopic topic : InvalidationTopic.values()) {
+            handlers.put(topic, new CopyOnWriteArrayList<>());
+        }
+
+        this.publishedCounter = meterRegistry.counter("opspilot.cluster.published");
+        this.coalescedCounter = meterRegistry.counter("opspilot.cluster.coalesced");
+        this.sentCounter = meterRegistry.counter("opspilot.cluster.sent");
+        this.failedCounter = meterRegistry.counter("opspilot.cluster.send.failed");
+        this.receivedCounter = meterRegistry.counter("opspilot.cluster.received");
+        this.propagationTimer = Timer.builder("opspilot.cluster.propagation")
+                .description("Time from publishing an invalidation to applying it on a peer")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("opspilot.cluster.pending", pending, Map::size)
+                .description("Invalidations waiting for the end of the coalesce window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Register a handler for invalidations of a topic received from other replicas.
+     *
+     * @param topic   the topic
+     * @param handler applies received invalidations
+     */
+    public void subscribe(InvalidationTopic topic, InvalidationHandler handler) {
+        handlers.get(topic).add(handler);
+    }
+
+    /**
+     * Tell the other replicas to evict an entry. Call after the change has committed.
+     *
+     * @param topic what changed
+     * @param key   which entry changed
+     */
+    public void evict(InvalidationTopic topic, Object key) {
+        publish(topic, key.toString(), 0);
+    }
+
+    /**
+     * Tell the other replicas to apply a delta to a counter. Call after the change has committed.
+     *
+     * @param topic a counter topic
+     * @param key   which counter changed
+     * @param delta the change
+     */
+    public void adjust(InvalidationTopic topic, Object key, long delta) {
+        if (!topic.isCounter()) {
+            throw new IllegalArgumentException(topic + " is not a counter topic");
+        }
+        if (delta != 0) {
+            publish(topic, key.toString(), delta);
+        }
+    }
+
+    /**
+     * @return true if invalidations are sent to other replicas
+     */
+    public boolean isDistributed() {
+        return transport != null;
+    }
+
+    /**
+     * @return this replica's node id
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void start() {
+        if (transport == null) {
+            log.info("No cluster transport configured; caches are kept current for this instance only");
+            return;
+        }
+        transport.start(this::receive);
+        running = true;
+        flushThread = new Thread(this::flushLoop, "cluster-invalidation");
+        flushThread.setDaemon(true);
+        flushThread.start();
+        log.info("Cluster invalidation bus started on {} transport as node {}", transport.getName(), nodeId);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        synchronized (flushSignal) {
+            flushSignal.notifyAll();
+        }
+        try {
+            flushThread.join(properties.getCoalesceWindow().toMillis() * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushThread = null;
+        flush();
+        transport.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void publish(InvalidationTopic topic, String key, long delta) {
+        if (transport == null) {
+            return;
+        }
+        publishedCounter.increment();
+        merge(new PendingKey(topic, key), new Pending(delta, System.currentTimeMillis()));
+        if (pending.size() >= properties.getMaxBatchSize()) {
+            synchronized (flushSignal) {
+                flushSignal.notifyAll();
+            }
+        }
+    }
+
+    private void merge(PendingKey key, Pending value) {
+        pending.merge(key, value, (existing, added) -> {
+            coalescedCounter.increment();
+            if (!key.topic().isCounter()) {
+                return existing;
+            }
+            Pending sum = existing.plus(added);
+            // Deltas that cancel out need not be sent at all
+            return sum.delta() == 0 ? null : sum;
+        });
+    }
+
+    private void flushLoop() {
+        long windowMillis = properties.getCoalesceWindow().toMillis();
+        while (running) {
+            synchronized (flushSignal) {
+                try {
+                    flushSignal.wait(windowMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            flush();
+        }
+    }
+
+    private void flush() {
+        List<InvalidationMessage> batch = new ArrayList<>();
+        for (PendingKey key : pending.keySet()) {
+            Pending value = pending.remove(key);
+            if (value == null) {
+                continue;
+            }
+            batch.add(new InvalidationMessage(key.topic(), key.key(), value.delta(), nodeId, value.sinceMillis()));
+            if (batch.size() >= properties.getMaxBatchSize()) {
+                send(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private void send(List<InvalidationMessage> batch) {
+        List<InvalidationMessage> unsent;
+        Exception failure;
+        try {
+            transport.send(batch);
+            sentCounter.increment(batch.size());
+            return;
+        } catch (PartialSendException e) {
+            unsent = e.getUnsent();
+            failure = e;
+            sentCounter.increment(batch.size() - unsent.size());
+        } catch (Exception e) {
+            unsent = batch;
+            failure = e;
+        }
+        failedCounter.increment(unsent.size());
+        log.warn("Sending {} of {} cluster invalidations failed, retrying with the next batch: {}",
+                unsent.size(), batch.size(), failure.getMessage());
+        // Put back only what was not sent: a lost counter delta leaves peers permanently off,
+        // and one sent twice is applied twice
+        for (InvalidationMessage message : unsent) {
+            merge(new PendingKey(message.topic(), message.key()), new Pending(message.delta(), message.sentAtMillis()));
+        }
+    }
+
+    private void receive(List<InvalidationMessage> messages) {
+        long now = System.currentTimeMillis();
+        for (InvalidationMessage message : messages) {
+            if (nodeId.equals(message.origin())) {
+                continue;
+            }
+            receivedCounter.increment();
+            for (InvalidationHandler handler : handlers.get(message.topic())) {
+                try {
+                    handler.invalidate(message.key(), message.delta());
+                } catch (RuntimeException e) {
+                    log.warn("Applying {} invalidation for {} failed: {}", message.topic(), message.key(), e.getMessage());
+                }
+            }
+            // Across hosts this includes clock skew between the replicas
+            propagationTimer.record(Math.max(0, now - message.sentAtMillis()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private record PendingKey(InvalidationTopic topic, String key) {
+    }
+
+    /**
+     * Delta collected for one key, and when the oldest change in it was published.
+     */
+    private record Pending(long delta, long sinceMillis) {
+
+        private Pending plus(Pending other) {
+            return new Pending(delta + other.delta, Math.min(sinceMillis, other.sinceMillis));
+        }
+    }
+}
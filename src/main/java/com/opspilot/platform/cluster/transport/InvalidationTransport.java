@@ -0,0 +1,41 @@
+package com.opspilot.platform.cluster.transport;
+
+import com.opspilot.platform.cluster.InvalidationMessage;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries invalidation messages between replicas.
+ * Delivery is best effort and may include this node's own messages; the bus filters those out.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Get the transport name used in logs.
+     *
+     * @return transport name
+     */
+    String getName();
+
+    /**
+     * Start receiving.
+     *
+     * @param receiver called with each batch of messages received, on the transport's own thread
+     */
+    void start(Consumer<List<InvalidationMessage>> receiver);
+
+    /**
+     * Send a batch of messages to every replica.
+     *
+     * @param messages messages to send
+     * @throws PartialSendException if some of the batch was sent before the failure
+     * @throws Exception            if the batch could not be sent
+     */
+    void send(List<InvalidationMessage> messages) throws Exception;
+
+    /**
+     * Stop receiving and release resources.
+     */
+    void stop();
+}
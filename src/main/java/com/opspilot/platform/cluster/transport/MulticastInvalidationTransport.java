@@ -0,0 +1,158 @@
+package com.opspilot.platform.cluster.transport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opspilot.platform.cluster.ClusterProperties;
+import com.opspilot.platform.cluster.InvalidationMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.StandardSocketOptions;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Transport that sends invalidations as UDP multicast datagrams, each a JSON array of messages
+ * small enough to avoid IP fragmentation. Every replica on the group receives every datagram,
+ * including the sender (loopback is on, so several replicas can share one host). Datagrams are
+ * not acknowledged or resent.
+ */
+@Component
+@ConditionalOnProperty(prefix = "opspilot.cluster", name = "transport", havingValue = "multicast")
+@Slf4j
+public class MulticastInvalidationTransport implements InvalidationTransport {
+
+    /**
+     * Payload limit per datagram, below a 1500 byte Ethernet MTU after IP and UDP headers.
+     */
+    private static final int MAX_PAYLOAD = 1400;
+
+    private static final int RECEIVE_BUFFER = 64 * 1024;
+
+    private final ClusterProperties.Multicast properties;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean running;
+    private MulticastSocket socket;
+    private InetSocketAddress group;
+    private Thread receiverThread;
+
+    public MulticastInvalidationTransport(ClusterProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties.getMulticast();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String getName() {
+        return "multicast";
+    }
+
+    @Override
+    public void start(Consumer<List<InvalidationMessage>> receiver) {
+        try {
+            group = new InetSocketAddress(InetAddress.getByName(properties.getGroup()), properties.getPort());
+            socket = new MulticastSocket(properties.getPort());
+            socket.setTimeToLive(properties.getTimeToLive());
+            socket.setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+            NetworkInterface networkInterface = null;
+            if (properties.getNetworkInterface() != null) {
+                networkInterface = NetworkInterface.getByName(properties.getNetworkInterface());
+                if (networkInterface == null) {
+                    throw new IllegalStateException("Unknown network interface: " + properties.getNetworkInterface());
+                }
+                socket.setNetworkInterface(networkInterface);
+            }
+            socket.joinGroup(group, networkInterface);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot join multicast group " + properties.getGroup(), e);
+        }
+
+        running = true;
+        receiverThread = new Thread(() -> receive(receiver), "cluster-multicast-receiver");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+    }
+
+    /**
+     * Send the messages in as few datagrams as fit. If a datagram fails, the earlier ones have
+     * already gone out, so the failure names only the messages from the failed one onwards.
+     */
+    @Override
+    public void send(List<InvalidationMessage> messages) throws PartialSendException {
+        ByteArrayOutputStream datagram = new ByteArrayOutputStream(MAX_PAYLOAD);
+        datagram.write('[');
+        int datagramStart = 0;
+        try {
+            for (int i = 0; i < messages.size(); i++) {
+                byte[] encoded = objectMapper.writeValueAsBytes(messages.get(i));
+                if (datagram.size() > 1 && datagram.size() + encoded.length + 1 > MAX_PAYLOAD) {
+                    flush(datagram);
+                    datagram.reset();
+                    datagram.write('[');
+                    datagramStart = i;
+                }
+                if (datagram.size() > 1) {
+                    datagram.write(',');
+                }
+                datagram.write(encoded);
+            }
+            if (datagram.size() > 1) {
+                flush(datagram);
+            }
+        } catch (IOException e) {
+            throw new PartialSendException(messages.subList(datagramStart, messages.size()), e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.leaveGroup(group, null);
+        } catch (IOException e) {
+            log.debug("Leaving multicast group failed: {}", e.getMessage());
+        }
+        // Closing the socket unblocks the receiver thread
+        socket.close();
+        socket = null;
+        receiverThread = null;
+    }
+
+    private void flush(ByteArrayOutputStream datagram) throws IOException {
+        datagram.write(']');
+        byte[] payload = datagram.toByteArray();
+        socket.send(new DatagramPacket(payload, payload.length, group));
+    }
+
+    private void receive(Consumer<List<InvalidationMessage>> receiver) {
+        byte[] buffer = new byte[RECEIVE_BUFFER];
+        while (running) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                InvalidationMessage[] messages = objectMapper.readValue(
+                        packet.getData(), packet.getOffset(), packet.getLength(), InvalidationMessage[].class);
+                receiver.accept(List.of(messages));
+            } catch (SocketException e) {
+                if (running) {
+                    log.error("Multicast receive failed; no longer receiving invalidations: {}", e.getMessage());
+                }
+                return;
+            } catch (IOException e) {
+                log.warn("Discarding unreadable multicast datagram from {}: {}", packet.getAddress(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.opspilot.platform.cluster.transport;
+
+import com.opspilot.platform.cluster.InvalidationMessage;
+
+import java.util.List;
+
+/**
+ * Thrown by a transport that sent part of a batch before failing, naming the messages that
+ * were not sent so only those are retried. Resending a counter delta that did arrive would
+ * apply it twice on the peers.
+ */
+public class PartialSendException extends Exception {
+
+    private final transient List<InvalidationMessage> unsent;
+
+    public PartialSendException(List<InvalidationMessage> unsent, Throwable cause) {
+        super("Sending failed with " + unsent.size() + " messages unsent: " + cause.getMessage(), cause);
+        this.unsent = List.copyOf(unsent);
+    }
+
+    /**
+     * @return messages that were not sent
+     */
+    public List<InvalidationMessage> getUnsent() {
+        return unsent;
+    }
+}
@@ -0,0 +1,174 @@
+package com.opspilot.platform.cluster.transport;
+
+import com.opspilot.platform.cluster.ClusterProperties;
+import com.opspilot.platform.cluster.InvalidationMessage;
+import com.opspilot.platform.cluster.InvalidationTopic;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Transport that passes invalidations through the {@code cluster_invalidations} table.
+ * Senders insert rows; every replica polls for ids above the last one it delivered. Ids are
+ * assigned at insert but rows become visible at commit, so a gap below a visible row may be an
+ * insert still in flight: delivery stops at the gap until it fills or has been open for the
+ * settle time, after which it is taken as a rolled back insert and skipped.
+ */
+@Component
+@ConditionalOnProperty(prefix = "opspilot.cluster", name = "transport", havingValue = "table")
+@Slf4j
+public class TableInvalidationTransport implements InvalidationTransport {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO cluster_invalidations (origin, topic, cache_key, delta, sent_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String POLL_SQL = """
+            SELECT id, origin, topic, cache_key, delta, sent_at
+            FROM cluster_invalidations
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final int CLEANUP_EVERY_POLLS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterProperties.Table properties;
+
+    private volatile boolean running;
+    private Thread pollerThread;
+    private long lastDeliveredId;
+    private long gapOpenSince;
+
+    public TableInvalidationTransport(DataSource dataSource, ClusterProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties.getTable();
+    }
+
+    @Override
+    public String getName() {
+        return "table";
+    }
+
+    @Override
+    public void start(Consumer<List<InvalidationMessage>> receiver) {
+        // Messages sent before this replica started describe caches it has not filled yet
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cluster_invalidations", Long.class);
+        lastDeliveredId = maxId != null ? maxId : 0;
+
+        running = true;
+        pollerThread = new Thread(() -> poll(receiver), "cluster-table-poller");
+        pollerThread.setDaemon(true);
+        pollerThread.start();
+    }
+
+    @Override
+    public void send(List<InvalidationMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, m) -> {
+            ps.setString(1, m.origin());
+            ps.setString(2, m.topic().name());
+            ps.setString(3, m.key());
+            ps.setLong(4, m.delta());
+            ps.setLong(5, m.sentAtMillis());
+        });
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (pollerThread == null) {
+            return;
+        }
+        pollerThread.interrupt();
+        try {
+            pollerThread.join(properties.getPollInterval().toMillis() * 4);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pollerThread = null;
+    }
+
+    private void poll(Consumer<List<InvalidationMessage>> receiver) {
+        long pollMillis = properties.getPollInterval().toMillis();
+        int polls = 0;
+        while (running) {
+            try {
+                List<InvalidationMessage> delivered = fetchDeliverable();
+                if (!delivered.isEmpty()) {
+                    receiver.accept(delivered);
+                }
+                if (++polls % CLEANUP_EVERY_POLLS == 0) {
+                    deleteExpired();
+                }
+                // A full page means more are waiting; otherwise sleep until the next poll
+                if (delivered.size() < properties.getFetchSize()) {
+                    TimeUnit.MILLISECONDS.sleep(pollMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (DataAccessException e) {
+                log.warn("Polling cluster invalidations failed: {}", e.getMessage());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pollMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Read rows above the last delivered id, up to the first gap that may still fill.
+     */
+    private List<InvalidationMessage> fetchDeliverable() {
+        List<Row> rows = jdbcTemplate.query(POLL_SQL, (rs, rowNum) -> new Row(rs.getLong("id"),
+                new InvalidationMessage(
+                        InvalidationTopic.valueOf(rs.getString("topic")),
+                        rs.getString("cache_key"),
+                        rs.getLong("delta"),
+                        rs.getString("origin"),
+                        rs.getLong("sent_at"))), lastDeliveredId, properties.getFetchSize());
+
+        int deliverable = 0;
+        for (Row row : rows) {
+            if (row.id() != lastDeliveredId + 1 && !gapSettled()) {
+                break;
+            }
+            gapOpenSince = 0;
+            lastDeliveredId = row.id();
+            deliverable++;
+        }
+        return rows.subList(0, deliverable).stream().map(Row::message).toList();
+    }
+
+    private boolean gapSettled() {
+        long now = System.nanoTime();
+        if (gapOpenSince == 0) {
+            gapOpenSince = now;
+            return false;
+        }
+        return now - gapOpenSince >= properties.getSettle().toNanos();
+    }
+
+    private void deleteExpired() {
+        long cutoff = System.currentTimeMillis() - properties.getRetention().toMillis();
+        int deleted = jdbcTemplate.update("DELETE FROM cluster_invalidations WHERE sent_at < ?", cutoff);
+        if (deleted > 0) {
+            log.debug("Deleted {} expired cluster invalidations", deleted);
+        }
+    }
+
+    private record Row(long id, InvalidationMessage message) {
+    }
+}
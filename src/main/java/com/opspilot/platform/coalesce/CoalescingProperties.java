@@ -0,0 +1,38 @@
+package com.opspilot.platform.coalesce;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for coalescing identical concurrent reads.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Longest a caller waits for an identical read in flight before running its own.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * Per-read overrides of the timeout, by read name.
+     */
+    private Map<String, Duration> timeouts = new HashMap<>();
+
+    /**
+     * Get the timeout for a read, falling back to the default when not configured.
+     *
+     * @param name the read name
+     * @return timeout
+     */
+    public Duration timeoutFor(String name) {
+        return timeouts.getOrDefault(name, timeout);
+    }
+}
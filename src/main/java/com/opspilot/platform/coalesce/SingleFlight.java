@@ -0,0 +1,106 @@
+package com.opspilot.platform.coalesce;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight computation among concurrent callers with the same key.
+ * The first caller for a key runs the loader on its own thread; callers arriving while it runs
+ * wait for its result, or its exception, instead of running the loader again. Nothing is cached:
+ * the key is released as soon as the computation finishes, so a later caller starts a new one.
+ * A caller that waits longer than its timeout stops waiting and runs the loader itself.
+ *
+ * @param <K> key type; must implement equals and hashCode
+ * @param <V> result type; results are handed to several callers and must not be modified
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final LongAdder led = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    /**
+     * Run the loader, or wait for the run already in flight for the same key.
+     *
+     * @param key     identifies identical computations
+     * @param timeout how long to wait for a run in flight before running the loader
+     * @param loader  the computation
+     * @return the result
+     */
+    public V execute(K key, Duration timeout, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing, timeout, loader);
+        }
+
+        led.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return computations currently in flight
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    /**
+     * @return calls that ran the loader as the first caller for their key
+     */
+    public long getLedCount() {
+        return led.sum();
+    }
+
+    /**
+     * @return calls that waited for a computation already in flight
+     */
+    public long getSharedCount() {
+        return shared.sum();
+    }
+
+    /**
+     * @return waiting calls that gave up and ran the loader themselves
+     */
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+
+    private V await(CompletableFuture<V> flight, Duration timeout, Supplier<V> loader) {
+        shared.increment();
+        try {
+            return flight.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            // The leader already reported this failure; callers see the same exception
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Shared computation failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shared computation", e);
+        }
+    }
+}
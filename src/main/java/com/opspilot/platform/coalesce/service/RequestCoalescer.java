@@ -0,0 +1,93 @@
+package com.opspilot.platform.coalesce.service;
+
+import com.opspilot.platform.coalesce.CoalescingProperties;
+import com.opspilot.platform.coalesce.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Coalesces identical concurrent read-only calls, such as a wave of admins refreshing the
+ * dashboard, into one execution per distinct call. Calls are identical when they have the same
+ * read name and parameters and the caller holds the same roles, so a result computed for one role
+ * is never handed to another. Invoke outside any transaction: callers waiting for a shared result
+ * then hold no connection.
+ *
+ * <p>Each read name counts its calls as {@code opspilot.coalescing.calls} tagged led, shared or
+ * timed-out; shared calls are executions saved.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestCoalescer {
+
+    private final CoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SingleFlight<FlightKey, Object>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Run a read, or wait for an identical read already in flight.
+     *
+     * @param name       names the read; also selects its timeout
+     * @param parameters everything the result depends on besides the caller's roles; must implement
+     *                   equals and hashCode, may be null
+     * @param loader     the read; its result must not be modified by callers
+     * @param <T>        result type
+     * @return the result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object parameters, Supplier<T> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        FlightKey key = new FlightKey(currentRoles(), parameters);
+        return (T) flightFor(name).execute(key, properties.timeoutFor(name), loader::get);
+    }
+
+    private SingleFlight<FlightKey, Object> flightFor(String name) {
+        return flights.computeIfAbsent(name, key -> {
+            SingleFlight<FlightKey, Object> flight = new SingleFlight<>();
+            registerCounter(name, "led", flight, SingleFlight::getLedCount);
+            registerCounter(name, "shared", flight, SingleFlight::getSharedCount);
+            registerCounter(name, "timed-out", flight, SingleFlight::getTimedOutCount);
+            Gauge.builder("opspilot.coalescing.in.flight", flight, SingleFlight::inFlight)
+                    .description("Distinct reads currently executing")
+                    .tag("name", name)
+                    .register(meterRegistry);
+            return flight;
+        });
+    }
+
+    private void registerCounter(String name, String result, SingleFlight<FlightKey, Object> flight,
+                                 ToLongFunction<SingleFlight<FlightKey, Object>> count) {
+        FunctionCounter.builder("opspilot.coalescing.calls", flight, f -> count.applyAsLong(f))
+                .description("Coalesced read calls by whether they executed the read or shared one in flight")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static List<String> currentRoles() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return List.of();
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .toList();
+    }
+
+    private record FlightKey(List<String> roles, Object parameters) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.opspilot.platform.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary encodings of the JSON API for high-volume clients.
+ * Clients that send {@code Accept: application/cbor} or {@code application/x-jackson-smile}
+ * get the same documents as JSON clients in a binary encoding, and may send request bodies in
+ * either format. Both mappers are built from the application's Jackson builder, so property
+ * names, date handling and modules match the JSON mapper exactly; UUIDs are written as 16-byte
+ * binary values rather than 36-character strings.
+ */
+@Configuration
+public class BinaryMessageConverterConfig {
+
+    /**
+     * CBOR (RFC 8949) converter for {@code application/cbor}.
+     *
+     * @param builder the application's Jackson builder
+     * @return MappingJackson2CborHttpMessageConverter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile converter for {@code application/x-jackson-smile}.
+     *
+     * @param builder the application's Jackson builder
+     * @return MappingJackson2SmileHttpMessageConverter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -1,5 +1,6 @@
 package com.opspilot.platform.config;
 
+import com.opspilot.platform.rollup.service.ThroughputService;
 import com.opspilot.platform.user.AccessRole;
 import com.opspilot.platform.user.Employee;
 import com.opspilot.platform.user.repository.EmployeeRepository;
@@ -28,6 +29,7 @@ public class DataInitializer implements CommandLineRunner {
     private final EmployeeRepository employeeRepository;
     private final WorkItemRepository workItemRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ThroughputService throughputService;
 
     private static final String DEFAULT_PASSWORD = "Password123";
 
@@ -99,6 +101,9 @@ public class DataInitializer implements CommandLineRunner {
         int workItemCount = createWorkItems(employees);
         log.info("Created {} work items", workItemCount);
 
+        // Seed items are saved directly, bypassing the change events that maintain rollups
+        throughputService.backfill();
+
         log.info("Data initialization completed successfully!");
         log.info("Default password for all users: {}", DEFAULT_PASSWORD);
         log.info("Sample admin user: admin1@opspilot.com");
@@ -0,0 +1,125 @@
+package com.opspilot.platform.config;
+
+import com.opspilot.platform.datasource.DataSourceRoute;
+import com.opspilot.platform.datasource.H2StandInReplicator;
+import com.opspilot.platform.datasource.ReadWriteRoutingDataSource;
+import com.opspilot.platform.datasource.ReplicaLagTracker;
+import com.opspilot.platform.datasource.RoutingDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Read/write datasource routing configuration.
+ * When opspilot.datasource.routing.enabled is true, replaces the auto-configured DataSource with
+ * a primary pool (spring.datasource.*), a replica pool (opspilot.datasource.routing.replica.*)
+ * and a routing DataSource that picks between them per transaction.
+ * Requires spring.jpa.open-in-view=false so each transaction acquires its own connection.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "opspilot.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Configure the primary connection pool from spring.datasource.*.
+     *
+     * @param dataSourceProperties standard datasource properties
+     * @return primary HikariDataSource
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Configure the replica connection pool.
+     *
+     * @param properties routing properties
+     * @return replica HikariDataSource
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "opspilot.datasource.routing.replica.hikari")
+    public HikariDataSource replicaDataSource(RoutingDataSourceProperties properties) {
+        RoutingDataSourceProperties.Replica replica = properties.getReplica();
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .driverClassName(replica.getDriverClassName())
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    /**
+     * Configure replica lag tracking for read-your-writes.
+     *
+     * @param properties routing properties
+     * @param meterRegistry meter registry for the lag gauge
+     * @return ReplicaLagTracker
+     */
+    @Bean
+    public ReplicaLagTracker replicaLagTracker(RoutingDataSourceProperties properties, MeterRegistry meterRegistry) {
+        ReplicaLagTracker tracker = new ReplicaLagTracker(
+                properties.getAssumedReplicaLag(),
+                properties.getReplica().isStandInReplicator());
+        Gauge.builder("opspilot.datasource.replica.lag", tracker, ReplicaLagTracker::replicaLagMillis)
+                .description("Replica lag behind the primary")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        return tracker;
+    }
+
+    /**
+     * Configure the routing DataSource used by JPA and JDBC.
+     * The lazy proxy defers connection acquisition until the first statement, by which point
+     * the transaction's read-only flag is set and routing can rely on it.
+     *
+     * @return routing DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagTracker replicaLagTracker,
+                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicaLagTracker, meterRegistry);
+        routing.setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primaryDataSource,
+                DataSourceRoute.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Configure the stand-in replicator that keeps a local H2 replica in sync with the primary.
+     *
+     * @return H2StandInReplicator
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "opspilot.datasource.routing.replica", name = "stand-in-replicator", havingValue = "true")
+    public H2StandInReplicator h2StandInReplicator(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                   @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                   ReplicaLagTracker replicaLagTracker) {
+        return new H2StandInReplicator(primaryDataSource, replicaDataSource, replicaLagTracker);
+    }
+}
@@ -1,5 +1,7 @@
 package com.opspilot.platform.config;
 
+import com.opspilot.platform.assignment.service.AutoAssignmentService;
+import com.opspilot.platform.rollup.service.ThroughputService;
 import com.opspilot.platform.user.AccessRole;
 import com.opspilot.platform.user.Employee;
 import com.opspilot.platform.user.repository.EmployeeRepository;
@@ -12,7 +14,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for loading demo/sample data into the system.
@@ -25,6 +31,8 @@ public class DemoDataService {
 
     private final EmployeeRepository employeeRepository;
     private final WorkItemRepository workItemRepository;
+    private final ThroughputService throughputService;
+    private final AutoAssignmentService autoAssignmentService;
 
     private static final String[] WORK_ITEM_TITLES = {
         "Deploy Production Server",
@@ -88,11 +96,21 @@ public class DemoDataService {
         WorkItemStatus[] statuses = WorkItemStatus.values();
         int count = 20;
 
+        Map<UUID, Employee> operatorsById = operators.stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
         for (int i = 0; i < count; i++) {
             Employee creator = allEmployees.get(random.nextInt(allEmployees.size()));
-            Employee assignee = operators.get(random.nextInt(operators.size()));
             WorkItemStatus status = statuses[random.nextInt(statuses.length)];
 
+            // Active items go to the least loaded operator; closed ones do not affect load
+            Employee assignee = isActive(status)
+                    ? autoAssignmentService.reserveOperator().map(operatorsById::get).orElse(null)
+                    : null;
+            if (assignee == null) {
+                assignee = operators.get(random.nextInt(operators.size()));
+            }
+
             String title = WORK_ITEM_TITLES[random.nextInt(WORK_ITEM_TITLES.length)] + " #DM-" + (i + 1);
             String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
 
@@ -109,8 +127,15 @@ public class DemoDataService {
                     title, status, assignee.getEmail());
         }
 
+        // Demo items are saved directly, bypassing the change events that maintain rollups and load
+        throughputService.backfill();
+        autoAssignmentService.rebuild();
+
         log.info("Successfully loaded {} demo work items", count);
         return count;
     }
-}
 
+    private static boolean isActive(WorkItemStatus status) {
+        return status == WorkItemStatus.OPEN || status == WorkItemStatus.IN_PROGRESS;
+    }
+}
@@ -0,0 +1,29 @@
+package com.opspilot.platform.config;
+
+import com.opspilot.platform.observability.SqlStatementCountingInspector;
+import com.opspilot.platform.observability.SqlTimingSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate configuration for per-request SQL instrumentation.
+ * Registers the statement counter and JDBC timing listener used by the SQL budget filter.
+ */
+@Configuration
+public class HibernateInstrumentationConfig {
+
+    /**
+     * Register the statement inspector and session event listener with Hibernate.
+     *
+     * @return HibernatePropertiesCustomizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlInstrumentationCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCountingInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+}
@@ -2,7 +2,10 @@ package com.opspilot.platform.config;
 
 import com.opspilot.platform.security.CustomUserDetailsService;
 import com.opspilot.platform.security.JwtAuthenticationFilter;
+import com.opspilot.platform.security.ratelimit.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -36,6 +39,7 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     /**
      * Configure password encoder bean using BCrypt.
@@ -88,6 +92,9 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches (streaming downloads) continue a request that was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Allow preflight OPTIONS requests
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
@@ -100,6 +107,7 @@ public class SecurityConfig {
 
                         // Viewer read-only access to work items listing
                         .requestMatchers(HttpMethod.GET, "/api/admin/workitems").hasAnyRole("ADMIN", "VIEWER")
+                        .requestMatchers(HttpMethod.GET, "/api/admin/metrics/timeseries").hasAnyRole("ADMIN", "VIEWER")
 
                         // Admin endpoints (all other /api/admin/**)
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
@@ -112,7 +120,9 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Admission control runs after JWT so limits are keyed by the authenticated employee
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         // For H2 console
         http.headers(headers -> headers.frameOptions(frameOptions -> frameOptions.sameOrigin()));
@@ -120,6 +130,20 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Keep the rate limit filter out of the servlet container's filter chain.
+     * It must run only inside the security chain, after authentication, or it would
+     * be applied first with no authenticated employee and then skipped as already filtered.
+     *
+     * @return disabled FilterRegistrationBean
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     /**
      * Configure CORS to allow the frontend running on localhost:3000 and the deployed frontend from FRONTEND_URL env var.
      *
@@ -138,7 +162,9 @@ public class SecurityConfig {
 
         configuration.setAllowedOrigins(allowedOrigins);
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With"));
+        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With",
+                "Idempotency-Key"));
+        configuration.setExposedHeaders(List.of("Idempotent-Replayed"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,16 @@
+package com.opspilot.platform.datasource;
+
+/**
+ * Enum identifying the physical datasource a connection is routed to.
+ */
+public enum DataSourceRoute {
+    /**
+     * Primary database; receives all writes and reads that must see the caller's own recent writes
+     */
+    PRIMARY,
+
+    /**
+     * Read replica; receives read-only transactions
+     */
+    REPLICA
+}
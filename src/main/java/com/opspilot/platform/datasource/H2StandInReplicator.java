@@ -0,0 +1,118 @@
+package com.opspilot.platform.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stand-in for database replication when running against two local H2 instances.
+ * Periodically snapshots the primary with H2's SCRIPT command and replays it into the replica,
+ * then reports the snapshot time as the replica watermark. Not intended for production use.
+ */
+@Slf4j
+public class H2StandInReplicator {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagTracker lagTracker;
+
+    private List<String> appliedSchema = List.of();
+
+    public H2StandInReplicator(DataSource primary, DataSource replica, ReplicaLagTracker lagTracker) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagTracker = lagTracker;
+    }
+
+    /**
+     * Copy the primary into the replica.
+     * Schema is recreated only when it changed; data is replaced in a single replica transaction
+     * so readers never observe a half-copied table.
+     */
+    @Scheduled(fixedDelayString = "${opspilot.datasource.routing.replica.sync-interval:500ms}")
+    public void sync() {
+        long snapshotAt = System.currentTimeMillis();
+        try {
+            List<String> schema = new ArrayList<>();
+            List<String> data = new ArrayList<>();
+            List<String> tables = new ArrayList<>();
+            snapshotPrimary(schema, data, tables);
+
+            try (Connection connection = replica.getConnection()) {
+                if (!schema.equals(appliedSchema)) {
+                    recreateSchema(connection, schema);
+                    appliedSchema = schema;
+                }
+                replaceData(connection, tables, data);
+            }
+
+            lagTracker.reportReplicaWatermark(snapshotAt);
+        } catch (SQLException e) {
+            log.warn("Replica sync failed: {}", e.getMessage());
+        }
+    }
+
+    private void snapshotPrimary(List<String> schema, List<String> data, List<String> tables) throws SQLException {
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SCRIPT NOPASSWORDS NOSETTINGS NOVERSION")) {
+                while (rs.next()) {
+                    String sql = rs.getString(1);
+                    if (sql.startsWith("--")) {
+                        continue;
+                    }
+                    if (sql.startsWith("INSERT INTO")) {
+                        data.add(sql);
+                    } else {
+                        schema.add(sql);
+                    }
+                }
+            }
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                            + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+                while (rs.next()) {
+                    tables.add(rs.getString(1));
+                }
+            }
+        }
+    }
+
+    private void recreateSchema(Connection connection, List<String> schema) throws SQLException {
+        log.info("Recreating replica schema ({} statements)", schema.size());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : schema) {
+                statement.execute(sql);
+            }
+            // Rows are copied table by table, so foreign keys cannot be checked mid-copy
+            statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        }
+    }
+
+    private void replaceData(Connection connection, List<String> tables, List<String> data) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            for (String table : tables) {
+                statement.execute("DELETE FROM \"PUBLIC\".\"" + table + "\"");
+            }
+            for (String sql : data) {
+                statement.execute(sql);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.opspilot.platform.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adjusts the maximum size of each Hikari pool within configured bounds.
+ * Every interval it feeds the mean connection wait ({@code hikaricp.connections.acquire}) and
+ * hold time ({@code hikaricp.connections.usage}) of each pool to its {@link PoolSizeController}.
+ * Hold time rising with the pool size means the database itself is the bottleneck; H2 in
+ * particular serializes writers, so more connections only add contention.
+ */
+@Component
+@Slf4j
+public class PoolAutoSizer {
+
+    private final List<HikariDataSource> pools;
+    private final PoolSizingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, PoolState> states = new ConcurrentHashMap<>();
+
+    public PoolAutoSizer(List<HikariDataSource> pools, PoolSizingProperties properties, MeterRegistry meterRegistry) {
+        this.pools = pools;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Resize every running pool from the waits and hold times observed since the previous run.
+     */
+    @Scheduled(initialDelayString = "${opspilot.datasource.pool-sizing.interval:10s}",
+               fixedDelayString = "${opspilot.datasource.pool-sizing.interval:10s}")
+    public void adjust() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (HikariDataSource pool : pools) {
+            HikariPoolMXBean poolBean = pool.getHikariPoolMXBean();
+            Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool.getPoolName()).timer();
+            Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", pool.getPoolName()).timer();
+            // Not started yet, or metrics not bound
+            if (poolBean == null || acquire == null || usage == null) {
+                continue;
+            }
+            PoolState state = states.get(pool.getPoolName());
+            if (state == null) {
+                // The first run only takes a baseline, so startup traffic does not count as an interval
+                states.put(pool.getPoolName(), new PoolState(pool.getPoolName(), acquire, usage));
+                continue;
+            }
+            state.adjust(pool, poolBean, acquire, usage);
+        }
+    }
+
+    /**
+     * Metric snapshots and sizing decisions of one pool between runs.
+     */
+    private final class PoolState {
+
+        private final PoolSizeController controller = new PoolSizeController(properties);
+        private final Counter growCounter;
+        private final Counter shrinkCounter;
+
+        private long acquireCount;
+        private double acquireNanos;
+        private long usageCount;
+        private double usageMillis;
+
+        private PoolState(String name, Timer acquire, Timer usage) {
+            record(acquire, usage);
+            this.growCounter = meterRegistry.counter("opspilot.datasource.pool.resizes", "pool", name, "direction", "grow");
+            this.shrinkCounter = meterRegistry.counter("opspilot.datasource.pool.resizes", "pool", name, "direction", "shrink");
+        }
+
+        private void adjust(HikariDataSource pool, HikariPoolMXBean poolBean, Timer acquire, Timer usage) {
+            long acquired = acquire.count() - acquireCount;
+            double meanWaitMillis = acquired > 0
+                    ? (acquire.totalTime(TimeUnit.NANOSECONDS) - acquireNanos) / acquired / 1_000_000 : 0;
+            long released = usage.count() - usageCount;
+            double meanHoldMillis = released > 0 ? (usage.totalTime(TimeUnit.MILLISECONDS) - usageMillis) / released : -1;
+            record(acquire, usage);
+
+            int size = pool.getMaximumPoolSize();
+            PoolSizeController.Decision decision = controller.next(size, meanWaitMillis,
+                    poolBean.getThreadsAwaitingConnection() > 0, meanHoldMillis);
+            if (decision.size() == size) {
+                return;
+            }
+            log.info("Resizing connection pool {} from {} to {}: {}", pool.getPoolName(), size, decision.size(),
+                    decision.reason());
+            // Idle connections above the minimum are retired by Hikari's housekeeper after the idle timeout
+            if (pool.getMinimumIdle() > decision.size()) {
+                pool.setMinimumIdle(decision.size());
+            }
+            pool.setMaximumPoolSize(decision.size());
+            (decision.size() > size ? growCounter : shrinkCounter).increment();
+        }
+
+        private void record(Timer acquire, Timer usage) {
+            acquireCount = acquire.count();
+            acquireNanos = acquire.totalTime(TimeUnit.NANOSECONDS);
+            usageCount = usage.count();
+            usageMillis = usage.totalTime(TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.opspilot.platform.datasource;
+
+/**
+ * Sizing decisions for one connection pool, made once per interval from the mean connection
+ * wait and hold time observed in it.
+ * The pool grows while callers wait longer than the target. A growth step after which the mean
+ * hold time rose beyond the tolerance is undone, and the size that regressed becomes a ceiling
+ * the pool stays below; it is probed again after a cooldown that doubles every time the probe
+ * regresses too, so under database-bound load the size settles instead of oscillating.
+ * The pool shrinks one connection at a time after a run of intervals without waiting.
+ */
+public class PoolSizeController {
+
+    private static final int MAX_BACKOFF = 8;
+
+    private final PoolSizingProperties properties;
+
+    // Mean hold time in the interval before the last growth, or negative if the last run did not grow
+    private double holdBeforeGrowth = -1;
+    private int quietIntervals;
+
+    // Smallest size known to slow the database down, or 0 when none
+    private int ceiling;
+    private int cooldownIntervals;
+    private int intervalsUntilProbe;
+
+    public PoolSizeController(PoolSizingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Decide the pool size for the next interval.
+     *
+     * @param size           current maximum pool size
+     * @param meanWaitMillis mean connection wait in the interval
+     * @param threadsWaiting whether callers are queued for a connection right now
+     * @param meanHoldMillis mean connection hold time in the interval, or negative when no connection was returned
+     * @return the new size and why, with an unchanged size when nothing should change
+     */
+    public Decision next(int size, double meanWaitMillis, boolean threadsWaiting, double meanHoldMillis) {
+        double grewFrom = holdBeforeGrowth;
+        holdBeforeGrowth = -1;
+        if (intervalsUntilProbe > 0) {
+            intervalsUntilProbe--;
+        }
+
+        boolean waiting = threadsWaiting || meanWaitMillis > properties.getTargetAcquireTime().toMillis();
+        if (!waiting) {
+            if (++quietIntervals >= properties.getShrinkAfterQuietIntervals() && size > properties.getMinPoolSize()) {
+                quietIntervals = 0;
+                return new Decision(size - 1, "no waits for " + properties.getShrinkAfterQuietIntervals() + " intervals");
+            }
+            return new Decision(size, null);
+        }
+        quietIntervals = 0;
+
+        // Sub-millisecond hold times are noise; compare from one millisecond up
+        if (grewFrom >= 0 && meanHoldMillis > Math.max(grewFrom, 1) * (1 + properties.getLatencyTolerance())) {
+            regressedAt(size);
+            int reverted = Math.max(properties.getMinPoolSize(), size - properties.getGrowthStep());
+            return new Decision(reverted, String.format("hold time rose from %.1fms to %.1fms after growing",
+                    grewFrom, meanHoldMillis));
+        }
+        if (grewFrom >= 0 && ceiling > 0 && size >= ceiling) {
+            // The probe held: the database copes with this size now
+            ceiling = 0;
+        }
+
+        int target = Math.min(properties.getMaxPoolSize(), size + properties.getGrowthStep());
+        if (ceiling > 0) {
+            target = Math.min(target, intervalsUntilProbe > 0 ? ceiling - 1 : ceiling);
+        }
+        if (target <= size) {
+            return new Decision(size, null);
+        }
+        holdBeforeGrowth = meanHoldMillis;
+        return new Decision(target, String.format("mean wait %.1fms", meanWaitMillis));
+    }
+
+    private void regressedAt(int size) {
+        int base = Math.max(1, properties.getRegressionCooldownIntervals());
+        if (ceiling == 0) {
+            cooldownIntervals = base;
+        } else if (intervalsUntilProbe == 0) {
+            // A probe of the ceiling regressed again: wait longer before the next one
+            cooldownIntervals = Math.min(cooldownIntervals * 2, base * MAX_BACKOFF);
+        }
+        ceiling = ceiling == 0 ? size : Math.min(ceiling, size);
+        intervalsUntilProbe = cooldownIntervals;
+    }
+
+    /**
+     * Outcome of one interval.
+     *
+     * @param size   maximum pool size for the next interval
+     * @param reason why the size changed, or null when it did not
+     */
+    public record Decision(int size, String reason) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.opspilot.platform.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for adaptive connection pool sizing.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.datasource.pool-sizing")
+public class PoolSizingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Smallest maximum pool size the sizer shrinks to.
+     */
+    private int minPoolSize = 4;
+
+    /**
+     * Largest maximum pool size the sizer grows to.
+     */
+    private int maxPoolSize = 32;
+
+    /**
+     * Connections added at a time while callers wait longer than the target.
+     */
+    private int growthStep = 2;
+
+    /**
+     * Mean connection wait above which the pool grows.
+     */
+    private Duration targetAcquireTime = Duration.ofMillis(20);
+
+    /**
+     * Rise in mean connection hold time after growing that is taken as the database slowing
+     * down under the extra connections, rather than the pool being too small.
+     */
+    private double latencyTolerance = 0.5;
+
+    /**
+     * Intervals the pool stays below a size that slowed the database down before trying it again;
+     * doubles, up to eight times, each time the retry slows it down too.
+     */
+    private int regressionCooldownIntervals = 30;
+
+    /**
+     * Consecutive intervals without waiting before the pool shrinks by one connection.
+     */
+    private int shrinkAfterQuietIntervals = 6;
+}
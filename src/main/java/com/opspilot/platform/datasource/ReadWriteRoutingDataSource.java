@@ -0,0 +1,67 @@
+package com.opspilot.platform.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routing DataSource that sends read-only transactions to the replica and everything else to the primary.
+ * Reads by an employee whose own recent write may not have reached the replica stay on the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so routing happens after the transaction's
+ * read-only flag is known.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagTracker lagTracker;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReadWriteRoutingDataSource(ReplicaLagTracker lagTracker, MeterRegistry meterRegistry) {
+        this.lagTracker = lagTracker;
+        this.primaryRoutes = meterRegistry.counter("opspilot.datasource.routes", "route", DataSourceRoute.PRIMARY.name());
+        this.replicaRoutes = meterRegistry.counter("opspilot.datasource.routes", "route", DataSourceRoute.REPLICA.name());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String username = currentUsername();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteOnCommit(username);
+            primaryRoutes.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+
+        if (!lagTracker.isReplicaReady()
+                || (username != null && lagTracker.hasUnreplicatedWrite(username))) {
+            primaryRoutes.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+
+        replicaRoutes.increment();
+        return DataSourceRoute.REPLICA;
+    }
+
+    private void trackWriteOnCommit(String username) {
+        if (username == null
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lagTracker.recordWrite(username);
+            }
+        });
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
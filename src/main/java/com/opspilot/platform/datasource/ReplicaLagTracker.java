@@ -0,0 +1,99 @@
+package com.opspilot.platform.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks how far the replica lags the primary and when each employee last wrote,
+ * so an employee's reads stay on the primary until the replica has caught up with their writes.
+ */
+public class ReplicaLagTracker {
+
+    private final Duration assumedReplicaLag;
+    private final boolean awaitWatermark;
+    private final ConcurrentHashMap<String, Long> lastWriteMillis = new ConcurrentHashMap<>();
+
+    private volatile boolean watermarkReported;
+    private volatile long replicaWatermarkMillis;
+
+    /**
+     * Create a tracker.
+     *
+     * @param assumedReplicaLag lag to assume while no replicator reports a watermark
+     * @param awaitWatermark whether a replicator will report watermarks, in which case the
+     *                       replica is not used until the first report arrives
+     */
+    public ReplicaLagTracker(Duration assumedReplicaLag, boolean awaitWatermark) {
+        this.assumedReplicaLag = assumedReplicaLag;
+        this.awaitWatermark = awaitWatermark;
+    }
+
+    /**
+     * Check whether the replica may serve reads at all.
+     *
+     * @return false while waiting for the replicator's first watermark
+     */
+    public boolean isReplicaReady() {
+        return watermarkReported || !awaitWatermark;
+    }
+
+    /**
+     * Record a committed write by an employee.
+     *
+     * @param username the writing employee's email
+     */
+    public void recordWrite(String username) {
+        lastWriteMillis.put(username, System.currentTimeMillis());
+    }
+
+    /**
+     * Report that the replica now contains every write committed on the primary up to the given time.
+     *
+     * @param watermarkMillis primary time reflected by the replica
+     */
+    public void reportReplicaWatermark(long watermarkMillis) {
+        this.replicaWatermarkMillis = watermarkMillis;
+        this.watermarkReported = true;
+        // Writes older than the watermark are visible on the replica and need no tracking
+        lastWriteMillis.values().removeIf(writtenAt -> writtenAt < watermarkMillis);
+    }
+
+    /**
+     * Get the primary time reflected by the replica.
+     *
+     * @return watermark in epoch milliseconds
+     */
+    public long replicaWatermark() {
+        if (watermarkReported) {
+            return replicaWatermarkMillis;
+        }
+        return System.currentTimeMillis() - assumedReplicaLag.toMillis();
+    }
+
+    /**
+     * Get the current replica lag.
+     *
+     * @return lag in milliseconds
+     */
+    public long replicaLagMillis() {
+        return Math.max(0, System.currentTimeMillis() - replicaWatermark());
+    }
+
+    /**
+     * Check whether an employee has written something the replica may not have yet.
+     *
+     * @param username the employee's email
+     * @return true if the employee's reads must go to the primary
+     */
+    public boolean hasUnreplicatedWrite(String username) {
+        Long writtenAt = lastWriteMillis.get(username);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (writtenAt < replicaWatermark()) {
+            lastWriteMillis.remove(username, writtenAt);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package com.opspilot.platform.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for read/write datasource routing.
+ * The primary datasource keeps using spring.datasource.*; these properties describe the replica.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled = false;
+
+    private Replica replica = new Replica();
+
+    /**
+     * Lag assumed for the replica when no replicator reports a watermark.
+     * A caller's reads go to the primary for this long after their own write.
+     */
+    private Duration assumedReplicaLag = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+
+        /**
+         * Run the in-process H2 replicator that copies the primary into the replica (local use only).
+         */
+        private boolean standInReplicator = false;
+
+        /**
+         * Delay between stand-in replicator runs.
+         */
+        private Duration syncInterval = Duration.ofMillis(500);
+    }
+}
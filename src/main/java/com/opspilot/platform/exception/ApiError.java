@@ -0,0 +1,24 @@
+package com.opspilot.platform.exception;
+
+import java.time.LocalDateTime;
+
+/**
+ * Error response body, with the same fields as the map bodies of the other handlers.
+ *
+ * @param timestamp when the error was answered
+ * @param status    HTTP status code
+ * @param error     short error title
+ * @param message   what went wrong
+ */
+public record ApiError(LocalDateTime timestamp, int status, String error, String message) {
+
+    /**
+     * Build the body for a domain exception.
+     *
+     * @param ex the exception
+     * @return ApiError
+     */
+    public static ApiError of(DomainException ex) {
+        return new ApiError(LocalDateTime.now(), ex.getStatus().value(), ex.getError(), ex.getMessage());
+    }
+}
@@ -0,0 +1,25 @@
+package com.opspilot.platform.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Base class for expected business failures: a missing resource, a conflicting change or an
+ * invalid request. These are answered with a client error, so no stack trace is captured; the
+ * message says what went wrong.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+
+    /**
+     * @return HTTP status to answer with
+     */
+    public abstract HttpStatus getStatus();
+
+    /**
+     * @return short error title for the response body
+     */
+    public abstract String getError();
+}
@@ -0,0 +1,23 @@
+package com.opspilot.platform.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a request is well-formed but its values are not acceptable.
+ */
+public class DomainValidationException extends DomainException {
+
+    public DomainValidationException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+
+    @Override
+    public String getError() {
+        return "Invalid Request";
+    }
+}
@@ -74,6 +74,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    /**
+     * Handle expected business failures: not found, conflict and invalid values.
+     * These are routine (stale links, scanners, double submits), so they are logged at debug
+     * and carry no stack trace.
+     */
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ApiError> handleDomainException(DomainException ex) {
+        log.debug("{}: {}", ex.getError(), ex.getMessage());
+        return ResponseEntity.status(ex.getStatus()).body(ApiError.of(ex));
+    }
+
     /**
      * Handle illegal argument exception.
      */
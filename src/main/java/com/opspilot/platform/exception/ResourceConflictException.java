@@ -0,0 +1,23 @@
+package com.opspilot.platform.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a change conflicts with the current state of a resource.
+ */
+public class ResourceConflictException extends DomainException {
+
+    public ResourceConflictException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.CONFLICT;
+    }
+
+    @Override
+    public String getError() {
+        return "Conflict";
+    }
+}
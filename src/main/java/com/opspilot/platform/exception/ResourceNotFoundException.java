@@ -0,0 +1,34 @@
+package com.opspilot.platform.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a requested or referenced resource does not exist.
+ */
+public class ResourceNotFoundException extends DomainException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+
+    /**
+     * Not found by ID, e.g. "Work item not found with ID: ...".
+     *
+     * @param resource resource name, capitalized
+     * @param id       the missing ID
+     * @return the exception
+     */
+    public static ResourceNotFoundException withId(String resource, Object id) {
+        return new ResourceNotFoundException(resource + " not found with ID: " + id);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.NOT_FOUND;
+    }
+
+    @Override
+    public String getError() {
+        return "Not Found";
+    }
+}
@@ -0,0 +1,51 @@
+package com.opspilot.platform.history;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the work item transition history.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.history")
+public class HistoryProperties {
+
+    private Mode mode = Mode.ASYNC;
+
+    /**
+     * Transitions buffered between committed changes and the background writer (ASYNC only).
+     * When the buffer is full the committing thread writes its transition itself, in a new transaction.
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * Transitions written per JDBC batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Longest time the writer waits for a batch to fill before writing what it has.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * Attempts per batch before its transitions are dropped and counted as lost.
+     */
+    private int maxAttempts = 3;
+
+    public enum Mode {
+
+        /**
+         * Written in the service transaction; history commits or rolls back with the change.
+         */
+        SYNC,
+
+        /**
+         * Queued after commit and written in batches in the background. Faster writes, but
+         * transitions still buffered when the process dies are lost.
+         */
+        ASYNC
+    }
+}
@@ -0,0 +1,60 @@
+package com.opspilot.platform.history;
+
+import com.opspilot.platform.workitem.WorkItemStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing one recorded change to a work item.
+ * Rows are append-only and written in JDBC batches by
+ * {@link com.opspilot.platform.history.service.TransitionWriter}. The work item id is not a
+ * foreign key, so history outlives the move of closed items to the archive.
+ */
+@Entity
+@Immutable
+@Table(name = "work_item_transitions", indexes = {
+    @Index(name = "idx_work_item_transitions_item_occurred_at", columnList = "work_item_id, occurred_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@EqualsAndHashCode(of = "id")
+public class WorkItemTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "work_item_id", nullable = false, updatable = false)
+    private UUID workItemId;
+
+    @Column(name = "event_type", nullable = false, updatable = false, length = 50)
+    private String eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", updatable = false, length = 20)
+    private WorkItemStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, updatable = false, length = 20)
+    private WorkItemStatus toStatus;
+
+    @Column(name = "from_assignee_id", updatable = false)
+    private UUID fromAssigneeId;
+
+    @Column(name = "to_assignee_id", updatable = false)
+    private UUID toAssigneeId;
+
+    @Column(name = "actor", updatable = false)
+    private String actor;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,63 @@
+package com.opspilot.platform.history.controller;
+
+import com.opspilot.platform.history.dto.TransitionResponse;
+import com.opspilot.platform.history.service.TransitionHistoryService;
+import com.opspilot.platform.observability.SqlBudget;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Controller for work item transition history.
+ * History is append-only and kept for archived work items too.
+ */
+@RestController
+@RequestMapping("/api/workitems")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Work Item History", description = "Status and assignment history of work items")
+@SecurityRequirement(name = "bearerAuth")
+public class WorkItemHistoryController {
+
+    private final TransitionHistoryService transitionHistoryService;
+
+    /**
+     * Get the paginated history of a work item.
+     *
+     * @param id work item ID
+     * @param page page number (default 0)
+     * @param size page size (default 20)
+     * @param direction sort direction by time (asc/desc, default "asc")
+     * @return page of transitions
+     */
+    @GetMapping("/{id}/history")
+    @SqlBudget(maxStatements = 4)
+    @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR', 'VIEWER')")
+    @Operation(summary = "Get work item history", description = "Fetch every recorded change of a work item, oldest first by default")
+    public ResponseEntity<Page<TransitionResponse>> getHistory(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "asc") String direction) {
+
+        log.debug("Fetch history request for work item: {} - Page: {}, Size: {}", id, page, size);
+
+        Sort sort = direction.equalsIgnoreCase("desc")
+                ? Sort.by("occurredAt").descending().and(Sort.by("id").descending())
+                : Sort.by("occurredAt").ascending().and(Sort.by("id").ascending());
+
+        Pageable pageable = PageRequest.of(page, size, sort);
+        return ResponseEntity.ok(transitionHistoryService.fetchHistory(id, pageable));
+    }
+}
@@ -0,0 +1,30 @@
+package com.opspilot.platform.history.dto;
+
+import com.opspilot.platform.workitem.WorkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for one entry in a work item's history.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransitionResponse {
+
+    private Long id;
+    private UUID workItemId;
+    private String eventType;
+    private WorkItemStatus fromStatus;
+    private WorkItemStatus toStatus;
+    private UUID fromAssigneeId;
+    private UUID toAssigneeId;
+    private String actor;
+    private LocalDateTime occurredAt;
+}
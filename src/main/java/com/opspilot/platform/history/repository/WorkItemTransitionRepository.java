@@ -0,0 +1,26 @@
+package com.opspilot.platform.history.repository;
+
+import com.opspilot.platform.history.WorkItemTransition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for reading work item transitions.
+ * Rows are only inserted by {@link com.opspilot.platform.history.service.TransitionWriter}.
+ */
+@Repository
+public interface WorkItemTransitionRepository extends JpaRepository<WorkItemTransition, Long> {
+
+    /**
+     * Find the transitions of one work item, served by the (work_item_id, occurred_at) index.
+     *
+     * @param workItemId the work item
+     * @param pageable   pagination parameters
+     * @return page of transitions
+     */
+    Page<WorkItemTransition> findByWorkItemId(UUID workItemId, Pageable pageable);
+}
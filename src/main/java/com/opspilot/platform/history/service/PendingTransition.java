@@ -0,0 +1,33 @@
+package com.opspilot.platform.history.service;
+
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.event.WorkItemChangedEvent;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * A transition waiting to be written; keeps only the columns, not the event snapshot.
+ */
+record PendingTransition(UUID workItemId,
+                         String eventType,
+                         WorkItemStatus fromStatus,
+                         WorkItemStatus toStatus,
+                         UUID fromAssigneeId,
+                         UUID toAssigneeId,
+                         String actor,
+                         LocalDateTime occurredAt) {
+
+    static PendingTransition of(WorkItemChangedEvent event) {
+        return new PendingTransition(
+                event.getWorkItemId(),
+                event.getType().name(),
+                event.getPreviousStatus(),
+                event.getStatus(),
+                event.getPreviousAssigneeId(),
+                event.getAssigneeId(),
+                event.getActor(),
+                LocalDateTime.ofInstant(event.getOccurredAt(), ZoneId.systemDefault()));
+    }
+}
@@ -0,0 +1,65 @@
+package com.opspilot.platform.history.service;
+
+import com.opspilot.platform.archive.repository.ArchivedWorkItemRepository;
+import com.opspilot.platform.exception.ResourceNotFoundException;
+import com.opspilot.platform.history.WorkItemTransition;
+import com.opspilot.platform.history.dto.TransitionResponse;
+import com.opspilot.platform.history.repository.WorkItemTransitionRepository;
+import com.opspilot.platform.workitem.repository.WorkItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Service class for reading work item transition history.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TransitionHistoryService {
+
+    private final WorkItemTransitionRepository transitionRepository;
+    private final WorkItemRepository workItemRepository;
+    private final ArchivedWorkItemRepository archivedWorkItemRepository;
+
+    /**
+     * Fetch the transitions of a live or archived work item. In ASYNC mode the most recent
+     * changes may take up to one flush interval to appear.
+     *
+     * @param workItemId the ID of the work item
+     * @param pageable pagination parameters
+     * @return page of TransitionResponse
+     * @throws ResourceNotFoundException if work item not found
+     */
+    public Page<TransitionResponse> fetchHistory(UUID workItemId, Pageable pageable) {
+        log.debug("Fetching history of work item {} - Page: {}, Size: {}",
+                  workItemId, pageable.getPageNumber(), pageable.getPageSize());
+
+        if (!workItemRepository.existsById(workItemId) && !archivedWorkItemRepository.existsById(workItemId)) {
+            throw ResourceNotFoundException.withId("Work item", workItemId);
+        }
+
+        return transitionRepository.findByWorkItemId(workItemId, pageable)
+                .map(TransitionHistoryService::toResponse);
+    }
+
+    private static TransitionResponse toResponse(WorkItemTransition transition) {
+        return TransitionResponse.builder()
+                .id(transition.getId())
+                .workItemId(transition.getWorkItemId())
+                .eventType(transition.getEventType())
+                .fromStatus(transition.getFromStatus())
+                .toStatus(transition.getToStatus())
+                .fromAssigneeId(transition.getFromAssigneeId())
+                .toAssigneeId(transition.getToAssigneeId())
+                .actor(transition.getActor())
+                .occurredAt(transition.getOccurredAt())
+                .build();
+    }
+}
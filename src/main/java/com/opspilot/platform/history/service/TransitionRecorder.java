@@ -0,0 +1,51 @@
+package com.opspilot.platform.history.service;
+
+import com.opspilot.platform.history.HistoryProperties;
+import com.opspilot.platform.workitem.event.WorkItemChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Records every work item change as a transition.
+ * In SYNC mode the row is written inside the publishing service transaction; in ASYNC mode
+ * committed changes are handed to the {@link TransitionWriter} buffer, so a rolled back change
+ * never leaves history behind in either mode.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransitionRecorder {
+
+    private final TransitionWriter transitionWriter;
+    private final HistoryProperties properties;
+
+    /**
+     * Write the transition in the service transaction (SYNC mode).
+     *
+     * @param event the domain event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordInTransaction(WorkItemChangedEvent event) {
+        if (properties.getMode() == HistoryProperties.Mode.SYNC) {
+            transitionWriter.write(List.of(PendingTransition.of(event)));
+        }
+    }
+
+    /**
+     * Queue the transition once the change has committed (ASYNC mode).
+     *
+     * @param event the domain event
+     */
+    @TransactionalEventListener
+    public void recordAfterCommit(WorkItemChangedEvent event) {
+        if (properties.getMode() == HistoryProperties.Mode.ASYNC) {
+            transitionWriter.enqueue(PendingTransition.of(event));
+        }
+    }
+}
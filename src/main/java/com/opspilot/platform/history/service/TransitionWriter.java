@@ -0,0 +1,183 @@
+package com.opspilot.platform.history.service;
+
+import com.opspilot.platform.history.HistoryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes work item transitions to {@code work_item_transitions} in JDBC batches.
+ * In ASYNC mode transitions are queued in a bounded ring buffer and drained by one background
+ * thread, which writes whatever has accumulated, up to the batch size, each time it wakes. On
+ * shutdown the writer stops accepting new work and drains the buffer before the data source closes.
+ * Buffered and overflowing batches are written in a transaction of their own: an overflow is written
+ * from an after-commit callback, whose thread still holds the finished service transaction.
+ */
+@Service
+@Slf4j
+public class TransitionWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO work_item_transitions
+                (work_item_id, event_type, from_status, to_status, from_assignee_id, to_assignee_id, actor, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final HistoryProperties properties;
+    private final ArrayBlockingQueue<PendingTransition> buffer;
+
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public TransitionWriter(DataSource dataSource,
+                            PlatformTransactionManager transactionManager,
+                            HistoryProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+
+        this.writtenCounter = meterRegistry.counter("opspilot.history.written");
+        this.overflowCounter = meterRegistry.counter("opspilot.history.overflow");
+        this.droppedCounter = meterRegistry.counter("opspilot.history.dropped");
+        Gauge.builder("opspilot.history.buffered", buffer, ArrayBlockingQueue::size)
+                .description("Transitions waiting for the background writer")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a transition for the background writer. When the buffer is full, or the writer is not
+     * running, the calling thread writes the transition itself, in a new transaction and with the
+     * writer's retries, instead of dropping it.
+     *
+     * @param transition the transition
+     */
+    void enqueue(PendingTransition transition) {
+        if (running && buffer.offer(transition)) {
+            return;
+        }
+        overflowCounter.increment();
+        writeWithRetry(List.of(transition));
+    }
+
+    /**
+     * Insert transitions in one JDBC batch, joining the caller's transaction if there is one.
+     *
+     * @param transitions transitions to insert
+     */
+    void write(List<PendingTransition> transitions) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, transitions, transitions.size(), (ps, t) -> {
+            ps.setObject(1, t.workItemId());
+            ps.setString(2, t.eventType());
+            ps.setString(3, t.fromStatus() != null ? t.fromStatus().name() : null);
+            ps.setString(4, t.toStatus().name());
+            ps.setObject(5, t.fromAssigneeId());
+            ps.setObject(6, t.toAssigneeId());
+            ps.setString(7, t.actor());
+            ps.setTimestamp(8, Timestamp.valueOf(t.occurredAt()));
+        });
+        writtenCounter.increment(transitions.size());
+    }
+
+    @Override
+    public void start() {
+        if (properties.getMode() != HistoryProperties.Mode.ASYNC) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::drain, "history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+        try {
+            writerThread.join(properties.getFlushInterval().toMillis() * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+        if (!buffer.isEmpty()) {
+            List<PendingTransition> remaining = new ArrayList<>();
+            buffer.drainTo(remaining);
+            writeWithRetry(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        long flushMillis = properties.getFlushInterval().toMillis();
+        List<PendingTransition> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingTransition first = buffer.poll(flushMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, properties.getBatchSize() - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeWithRetry(List<PendingTransition> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                newTransaction.executeWithoutResult(status -> write(batch));
+                return;
+            } catch (DataAccessException | TransactionException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    droppedCounter.increment(batch.size());
+                    log.error("Dropped {} work item transitions after {} attempts: {}",
+                            batch.size(), attempt, e.getMessage());
+                    return;
+                }
+                log.warn("Writing {} work item transitions failed, retrying: {}", batch.size(), e.getMessage());
+                try {
+                    Thread.sleep(properties.getFlushInterval().toMillis() * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.opspilot.platform.idempotency;
+
+import com.opspilot.platform.exception.ResourceConflictException;
+
+/**
+ * Thrown when a request with the same idempotency key is still being processed.
+ */
+public class IdempotencyConflictException extends ResourceConflictException {
+
+    public IdempotencyConflictException(String key) {
+        super("A request with Idempotency-Key " + key + " is still being processed; retry later");
+    }
+
+    @Override
+    public String getError() {
+        return "Request In Progress";
+    }
+}
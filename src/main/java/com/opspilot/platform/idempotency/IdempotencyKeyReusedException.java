@@ -0,0 +1,24 @@
+package com.opspilot.platform.idempotency;
+
+import com.opspilot.platform.exception.DomainException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when an idempotency key is sent again with a different request body.
+ */
+public class IdempotencyKeyReusedException extends DomainException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key " + key + " was already used for a different request");
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.UNPROCESSABLE_ENTITY;
+    }
+
+    @Override
+    public String getError() {
+        return "Idempotency Key Reused";
+    }
+}
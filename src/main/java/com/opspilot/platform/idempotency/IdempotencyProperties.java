@@ -0,0 +1,29 @@
+package com.opspilot.platform.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for {@code Idempotency-Key} handling.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * How long a key and its stored response are kept; retries after this run again.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Keys kept in memory in front of the key table; least recently used keys are evicted first.
+     */
+    private int maxCachedKeys = 10_000;
+
+    /**
+     * Longest time a duplicate waits for the first request with the same key to finish.
+     */
+    private Duration inFlightTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,12 @@
+package com.opspilot.platform.idempotency;
+
+/**
+ * A request guarded by an idempotency key.
+ *
+ * @param key       client-supplied key, or null when the client did not send one
+ * @param owner     the calling employee; keys of different employees never collide
+ * @param operation the guarded operation, such as {@code workitem.create}
+ * @param payload   the request body, fingerprinted to detect a key reused for a different request
+ */
+public record IdempotentRequest(String key, String owner, String operation, Object payload) {
+}
@@ -0,0 +1,11 @@
+package com.opspilot.platform.idempotency;
+
+/**
+ * Outcome of an idempotent request.
+ *
+ * @param body     the response body
+ * @param replayed true when the body is the stored response of an earlier request with the same key
+ * @param <T>      response type
+ */
+public record IdempotentResult<T>(T body, boolean replayed) {
+}
@@ -0,0 +1,39 @@
+package com.opspilot.platform.idempotency.repository;
+
+import com.opspilot.platform.idempotency.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for stored idempotency keys.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    /**
+     * Find a stored key, served by the unique (owner, operation, idempotency_key) index.
+     *
+     * @param owner          the calling employee
+     * @param operation      the guarded operation
+     * @param idempotencyKey the client-supplied key
+     * @return the stored key, if any
+     */
+    Optional<IdempotencyRecord> findByOwnerAndOperationAndIdempotencyKey(String owner, String operation,
+                                                                         String idempotencyKey);
+
+    /**
+     * Delete keys past their expiry.
+     *
+     * @param now current time
+     * @return number of keys deleted
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
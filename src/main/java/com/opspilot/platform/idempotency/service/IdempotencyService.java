@@ -0,0 +1,262 @@
+package com.opspilot.platform.idempotency.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.opspilot.platform.idempotency.IdempotencyConflictException;
+import com.opspilot.platform.idempotency.IdempotencyKeyReusedException;
+import com.opspilot.platform.idempotency.IdempotencyProperties;
+import com.opspilot.platform.idempotency.IdempotencyRecord;
+import com.opspilot.platform.idempotency.IdempotentRequest;
+import com.opspilot.platform.idempotency.IdempotentResult;
+import com.opspilot.platform.idempotency.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request at most once per idempotency key and replays its response to retries.
+ * Lookups go to a bounded, expiring in-memory cache first and to the {@code idempotency_keys}
+ * table second. A request that misses both inserts its key and runs in one transaction, so the
+ * change and the key commit together; the unique key index makes a duplicate on another instance
+ * wait and then replay. Duplicates arriving at this instance while the first is running wait for
+ * it instead of starting a transaction of their own.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    /**
+     * Longest accepted key, matching the key column.
+     */
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Scope, StoredResponse> recentResponses;
+    private final ConcurrentHashMap<Scope, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+    private final Counter collapsedCounter;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              IdempotencyProperties properties,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recentResponses = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxCachedKeys())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+
+        this.executedCounter = meterRegistry.counter("opspilot.idempotency.executed");
+        this.replayedCounter = meterRegistry.counter("opspilot.idempotency.replayed");
+        this.collapsedCounter = meterRegistry.counter("opspilot.idempotency.collapsed");
+    }
+
+    /**
+     * Run an action once per idempotency key. Without a key the action simply runs.
+     * The action runs in a transaction together with the key insert and must not commit on its own.
+     *
+     * @param request      the guarded request
+     * @param responseType type of the response, for replaying stored responses
+     * @param action       the work to do
+     * @param <T>          response type
+     * @return the response, and whether it was replayed
+     * @throws IllegalArgumentException       if the key is blank or too long
+     * @throws IdempotencyKeyReusedException  if the key was used for a different request
+     * @throws IdempotencyConflictException   if the first request with the key is still running
+     */
+    public <T> IdempotentResult<T> execute(IdempotentRequest request, Class<T> responseType, Supplier<T> action) {
+        if (request.key() == null) {
+            return new IdempotentResult<>(action.get(), false);
+        }
+        if (request.key().isBlank() || request.key().length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        Scope scope = new Scope(request.owner(), request.operation(), request.key());
+        String requestHash = fingerprint(request.payload());
+        while (true) {
+            StoredResponse cached = recentResponses.getIfPresent(scope);
+            if (cached != null) {
+                return replay(cached, requestHash, scope, responseType);
+            }
+
+            CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(scope, mine);
+            if (running != null) {
+                collapsedCounter.increment();
+                Optional<StoredResponse> finished = await(running, scope);
+                if (finished.isPresent()) {
+                    return replay(finished.get(), requestHash, scope, responseType);
+                }
+                // The first request failed without storing anything; try again ourselves
+                continue;
+            }
+
+            try {
+                Outcome<T> outcome = lead(scope, requestHash, action);
+                mine.complete(outcome.stored());
+                recentResponses.put(scope, outcome.stored());
+                if (outcome.result() != null) {
+                    return new IdempotentResult<>(outcome.result(), false);
+                }
+                return replay(outcome.stored(), requestHash, scope, responseType);
+            } catch (RuntimeException e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(scope, mine);
+            }
+        }
+    }
+
+    /**
+     * Delete expired keys from the key table.
+     */
+    @Scheduled(initialDelayString = "${opspilot.idempotency.cleanup-interval:1h}",
+               fixedDelayString = "${opspilot.idempotency.cleanup-interval:1h}")
+    public void deleteExpiredKeys() {
+        Integer deleted = transactionTemplate.execute(status -> repository.deleteExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+
+    /**
+     * Replay the stored response, or insert the key and run the action in one transaction.
+     */
+    private <T> Outcome<T> lead(Scope scope, String requestHash, Supplier<T> action) {
+        Outcome<T> outcome = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<IdempotencyRecord> existing = findRecord(scope);
+            if (existing.isPresent()) {
+                if (existing.get().getExpiresAt().isAfter(now)) {
+                    return new Outcome<T>(null, toStored(existing.get()));
+                }
+                repository.delete(existing.get());
+                repository.flush();
+            }
+
+            IdempotencyRecord record;
+            try {
+                record = repository.saveAndFlush(IdempotencyRecord.builder()
+                        .owner(scope.owner())
+                        .operation(scope.operation())
+                        .idempotencyKey(scope.key())
+                        .requestHash(requestHash)
+                        .expiresAt(now.plus(properties.getTtl()))
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // Another instance committed the same key first
+                status.setRollbackOnly();
+                return null;
+            }
+            T result = action.get();
+            record.setResponseBody(serialize(result));
+            executedCounter.increment();
+            return new Outcome<>(result, toStored(record));
+        });
+        if (outcome != null) {
+            return outcome;
+        }
+
+        IdempotencyRecord winner = transactionTemplate.execute(status -> findRecord(scope).orElse(null));
+        if (winner == null || winner.getResponseBody() == null) {
+            throw new IdempotencyConflictException(scope.key());
+        }
+        return new Outcome<>(null, toStored(winner));
+    }
+
+    private Optional<StoredResponse> await(CompletableFuture<StoredResponse> running, Scope scope) {
+        try {
+            return Optional.of(running.get(properties.getInFlightTimeout().toMillis(), TimeUnit.MILLISECONDS));
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException(scope.key());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException(scope.key());
+        }
+    }
+
+    private <T> IdempotentResult<T> replay(StoredResponse stored, String requestHash, Scope scope, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException(scope.key());
+        }
+        replayedCounter.increment();
+        log.debug("Replaying stored response for {} key {}", scope.operation(), scope.key());
+        try {
+            return new IdempotentResult<>(objectMapper.readValue(stored.body(), responseType), true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read stored response for idempotency key " + scope.key(), e);
+        }
+    }
+
+    private Optional<IdempotencyRecord> findRecord(Scope scope) {
+        return repository.findByOwnerAndOperationAndIdempotencyKey(scope.owner(), scope.operation(), scope.key());
+    }
+
+    private static StoredResponse toStored(IdempotencyRecord record) {
+        return new StoredResponse(record.getRequestHash(), record.getResponseBody());
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize response for idempotency key", e);
+        }
+    }
+
+    private String fingerprint(Object payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] body = payload != null ? objectMapper.writeValueAsBytes(payload) : new byte[0];
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot fingerprint request body", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Scope(String owner, String operation, String key) {
+    }
+
+    private record StoredResponse(String requestHash, String body) {
+    }
+
+    /**
+     * Either a fresh result (with its stored form) or only the stored response of an earlier request.
+     */
+    private record Outcome<T>(T result, StoredResponse stored) {
+    }
+}
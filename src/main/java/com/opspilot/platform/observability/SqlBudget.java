@@ -0,0 +1,22 @@
+package com.opspilot.platform.observability;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of SQL statements a controller endpoint may issue per request.
+ * Exceeding the budget is logged and counted; with opspilot.sql.budget.enforce=true the request fails instead.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    /**
+     * Maximum number of statements allowed per request.
+     */
+    int maxStatements();
+}
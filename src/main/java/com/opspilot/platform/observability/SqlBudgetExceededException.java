@@ -0,0 +1,11 @@
+package com.opspilot.platform.observability;
+
+/**
+ * Thrown when an endpoint exceeds its declared SQL statement budget while enforcement is enabled.
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String endpoint, int budget, int actual) {
+        super(String.format("SQL budget exceeded for %s: %d statements issued, budget is %d", endpoint, actual, budget));
+    }
+}
@@ -0,0 +1,85 @@
+package com.opspilot.platform.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servlet filter that opens a per-request SQL statistics scope.
+ * Records statement count and DB time per endpoint as metrics and warns on budget overruns and likely N+1 patterns.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public SqlBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${opspilot.sql.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementContext.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            // Static resources, actuator and unmatched requests are not tracked per endpoint
+            return;
+        }
+        String endpoint = request.getMethod() + " " + pattern;
+
+        DistributionSummary.builder("opspilot.sql.statements")
+                .description("SQL statements issued per request")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+
+        Timer.builder("opspilot.sql.time")
+                .description("Time spent executing SQL per request")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(stats.getExecutionNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.isOverBudget()) {
+            meterRegistry.counter("opspilot.sql.budget.exceeded", "endpoint", endpoint).increment();
+            log.warn("SQL budget exceeded for {}: {} statements, budget {}",
+                    endpoint, stats.getStatementCount(), stats.getBudget());
+        }
+
+        if (stats.getMaxRepeatCount() >= nPlusOneThreshold) {
+            meterRegistry.counter("opspilot.sql.n_plus_one.suspected", "endpoint", endpoint).increment();
+            log.warn("Possible N+1 on {}: statement repeated {} times: {}",
+                    endpoint, stats.getMaxRepeatCount(), stats.getMostRepeatedStatement());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.opspilot.platform.observability;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Applies declared {@link SqlBudget} limits and exposes SQL statistics as response headers.
+ * Runs just before the body is written, when all queries for the request have been issued
+ * but the response headers can still be modified.
+ */
+@RestControllerAdvice
+public class SqlBudgetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+    public static final String EXECUTION_TIME_HEADER = "X-Sql-Time-Ms";
+    public static final String MAX_REPEAT_HEADER = "X-Sql-Max-Repeat";
+
+    private final boolean exposeHeaders;
+    private final boolean enforce;
+
+    public SqlBudgetResponseAdvice(
+            @Value("${opspilot.sql.expose-headers:false}") boolean exposeHeaders,
+            @Value("${opspilot.sql.budget.enforce:false}") boolean enforce) {
+        this.exposeHeaders = exposeHeaders;
+        this.enforce = enforce;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        SqlStatementStats stats = SqlStatementContext.current();
+        if (stats == null) {
+            return body;
+        }
+
+        SqlBudget budget = returnType.getMethodAnnotation(SqlBudget.class);
+        if (budget != null) {
+            stats.setBudget(budget.maxStatements());
+            if (enforce && stats.isOverBudget()) {
+                throw new SqlBudgetExceededException(
+                        request.getMethod() + " " + request.getURI().getPath(),
+                        budget.maxStatements(),
+                        stats.getStatementCount());
+            }
+        }
+
+        if (exposeHeaders) {
+            response.getHeaders().set(STATEMENT_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set(EXECUTION_TIME_HEADER, String.format("%.3f", stats.getExecutionMillis()));
+            response.getHeaders().set(MAX_REPEAT_HEADER, String.valueOf(stats.getMaxRepeatCount()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,40 @@
+package com.opspilot.platform.observability;
+
+/**
+ * Thread-bound holder for the SQL statistics of the request currently being served.
+ * Hibernate instantiates the inspector and session listener itself, so they reach the stats through this holder.
+ */
+public final class SqlStatementContext {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementContext() {
+    }
+
+    /**
+     * Start collecting statistics for the current thread.
+     *
+     * @return the new statistics holder
+     */
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Get the statistics for the current thread.
+     *
+     * @return current statistics, or null when no request scope is active
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stop collecting statistics for the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,81 @@
+package com.opspilot.platform.observability;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mutable per-request SQL statistics.
+ * Collected by the Hibernate statement inspector and session listener for the thread serving the request.
+ */
+@Getter
+public class SqlStatementStats {
+
+    /**
+     * Upper bound on distinct statements tracked for N+1 detection, so a pathological request cannot grow the map unbounded.
+     */
+    private static final int MAX_TRACKED_STATEMENTS = 256;
+
+    private int statementCount;
+    private long executionNanos;
+    private int maxRepeatCount;
+    private String mostRepeatedStatement;
+    private Integer budget;
+
+    private final Map<String, Integer> repeats = new HashMap<>();
+    private long executionStartNanos;
+
+    /**
+     * Record a statement about to be prepared.
+     *
+     * @param sql the SQL as generated by Hibernate (parameters are placeholders, so repeats match exactly)
+     */
+    void recordStatement(String sql) {
+        statementCount++;
+
+        Integer current = repeats.get(sql);
+        if (current == null && repeats.size() >= MAX_TRACKED_STATEMENTS) {
+            return;
+        }
+        int updated = current == null ? 1 : current + 1;
+        repeats.put(sql, updated);
+        if (updated > maxRepeatCount) {
+            maxRepeatCount = updated;
+            mostRepeatedStatement = sql;
+        }
+    }
+
+    void executionStarted() {
+        executionStartNanos = System.nanoTime();
+    }
+
+    void executionEnded() {
+        if (executionStartNanos != 0) {
+            executionNanos += System.nanoTime() - executionStartNanos;
+            executionStartNanos = 0;
+        }
+    }
+
+    void setBudget(Integer budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Total time spent executing statements, in milliseconds.
+     *
+     * @return execution time in milliseconds
+     */
+    public double getExecutionMillis() {
+        return executionNanos / 1_000_000.0;
+    }
+
+    /**
+     * Check whether the request exceeded its declared statement budget.
+     *
+     * @return true if a budget is declared and was exceeded
+     */
+    public boolean isOverBudget() {
+        return budget != null && statementCount > budget;
+    }
+}
@@ -0,0 +1,36 @@
+package com.opspilot.platform.observability;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that accumulates JDBC execution time for the current request.
+ * Registered through hibernate.session.events.auto, so Hibernate creates one instance per session.
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlStatementStats stats = SqlStatementContext.current();
+        if (stats != null) {
+            stats.executionStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats stats = SqlStatementContext.current();
+        if (stats != null) {
+            stats.executionEnded();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
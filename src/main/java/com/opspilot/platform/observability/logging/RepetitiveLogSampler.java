@@ -0,0 +1,127 @@
+package com.opspilot.platform.observability.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that rate limits repetitive log statements.
+ * Events are keyed by logger and message template (not the formatted message), so a flood of
+ * "Invalid JWT token: {}" lines counts as one key regardless of the token. Each key may log
+ * {@code burst} events per window; beyond that only every {@code sampleRate}-th event passes.
+ * Runs before formatting, so dropped events cost no string building or appender work.
+ *
+ * <p>Only loggers under the configured name prefixes are sampled, and only up to {@code maxLevel}
+ * (WARN by default). ERROR events and events carrying a throwable are never dropped, so incident
+ * stack traces from the application, Spring or Hibernate always reach the appenders.
+ */
+public class RepetitiveLogSampler extends TurboFilter {
+
+    private int burst = 20;
+    private long windowMillis = 1000;
+    private int sampleRate = 100;
+    private int maxKeys = 10_000;
+    private Level maxLevel = Level.WARN;
+    private List<String> loggerPrefixes = List.of();
+
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || !isStarted() || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !isSampled(logger, level, params, t)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String key = logger.getName() + '|' + format;
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= maxKeys) {
+                // Too many distinct templates to track; let them through rather than grow without bound
+                return FilterReply.NEUTRAL;
+            }
+            window = windows.computeIfAbsent(key, k -> new Window());
+        }
+        return window.admit(System.currentTimeMillis()) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled(Logger logger, Level level, Object[] params, Throwable t) {
+        if (level.isGreaterOrEqual(Level.ERROR) || !maxLevel.isGreaterOrEqual(level) || t != null) {
+            return false;
+        }
+        // log.warn("...: {}", value, exception) passes the exception as the last parameter
+        if (params != null && params.length > 0 && params[params.length - 1] instanceof Throwable) {
+            return false;
+        }
+        String name = logger.getName();
+        for (String prefix : loggerPrefixes) {
+            if (name.equals(prefix) || name.startsWith(prefix + '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public void setWindowMillis(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Highest level that is sampled; ERROR is never sampled whatever this is set to.
+     *
+     * @param maxLevel level name, e.g. INFO or WARN
+     */
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.WARN);
+    }
+
+    /**
+     * Logger name prefixes whose events are sampled, comma separated. Nothing is sampled when empty.
+     *
+     * @param loggers logger name prefixes, e.g. com.opspilot.platform
+     */
+    public void setLoggers(String loggers) {
+        this.loggerPrefixes = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Fixed window counter for one key. Races at window boundaries may admit a few extra events,
+     * which is acceptable for log sampling and keeps the hot path lock-free.
+     */
+    private final class Window {
+
+        private final AtomicLong start = new AtomicLong();
+        private final AtomicLong count = new AtomicLong();
+
+        boolean admit(long now) {
+            long windowStart = start.get();
+            if (now - windowStart >= windowMillis && start.compareAndSet(windowStart, now)) {
+                count.set(0);
+            }
+            long n = count.incrementAndGet();
+            return n <= burst || (n - burst) % sampleRate == 0;
+        }
+    }
+}
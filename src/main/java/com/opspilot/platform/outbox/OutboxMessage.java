@@ -0,0 +1,33 @@
+package com.opspilot.platform.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable view of an outbox event as handed to sinks.
+ * Sinks receive messages in outbox order; the id increases monotonically and can be used for deduplication.
+ */
+@Value
+public class OutboxMessage {
+
+    long id;
+    String aggregateType;
+    UUID aggregateId;
+    String eventType;
+    @JsonRawValue
+    String payload;
+    LocalDateTime createdAt;
+
+    public static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(
+                event.getId(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getEventType(),
+                event.getPayload(),
+                event.getCreatedAt());
+    }
+}
@@ -0,0 +1,57 @@
+package com.opspilot.platform.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the transactional outbox relay and its sinks.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.outbox")
+public class OutboxProperties {
+
+    private boolean relayEnabled = true;
+
+    /**
+     * Events claimed and delivered per relay transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Upper bound on batches per relay run, so one run cannot monopolise the scheduler thread.
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * How long the relay waits at a gap in event ids, from when it first sees it, for a transaction
+     * that has not committed yet. Transactions of this process are waited for until they complete;
+     * this bounds the wait for ones on other replicas, so it must exceed the longest of those.
+     */
+    private Duration gapTimeout = Duration.ofSeconds(5);
+
+    private File file = new File();
+
+    private Http http = new Http();
+
+    @Data
+    public static class File {
+
+        /**
+         * NDJSON file the file sink appends to; the sink is disabled when unset.
+         */
+        private String path;
+    }
+
+    @Data
+    public static class Http {
+
+        /**
+         * Endpoint receiving batches as a JSON array; the sink is disabled when unset.
+         */
+        private String url;
+
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,29 @@
+package com.opspilot.platform.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entity recording how far each sink has been delivered.
+ * Sinks advance independently, so a failing sink neither blocks nor re-sends to the others.
+ */
+@Entity
+@Table(name = "outbox_sink_offsets")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "sinkName")
+public class OutboxSinkOffset {
+
+    @Id
+    @Column(name = "sink_name", length = 50, nullable = false)
+    private String sinkName;
+
+    /**
+     * Id of the last event delivered to the sink; 0 before the first delivery.
+     */
+    @Column(name = "last_delivered_id", nullable = false)
+    private long lastDeliveredId;
+}
@@ -0,0 +1,38 @@
+package com.opspilot.platform.outbox.repository;
+
+import com.opspilot.platform.outbox.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for OutboxEvent entity operations.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Find the next events for a sink.
+     *
+     * @param afterId  the sink's last delivered id
+     * @param pageable batch size
+     * @return events in outbox order
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id > :afterId ORDER BY e.id")
+    List<OutboxEvent> findBatchAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Delete events every sink has received.
+     *
+     * @param id highest id delivered to all sinks
+     * @return number of events deleted
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id <= :id")
+    int deleteDeliveredUpTo(@Param("id") long id);
+}
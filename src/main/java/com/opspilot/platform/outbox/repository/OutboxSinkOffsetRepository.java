@@ -0,0 +1,45 @@
+package com.opspilot.platform.outbox.repository;
+
+import com.opspilot.platform.outbox.OutboxSinkOffset;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Repository interface for OutboxSinkOffset entity operations.
+ */
+@Repository
+public interface OutboxSinkOffsetRepository extends JpaRepository<OutboxSinkOffset, String> {
+
+    /**
+     * Lock a sink's offset for a delivery.
+     * A relay on another replica delivering to the same sink waits, so batches go out once and in order.
+     *
+     * @param sinkName the sink
+     * @return the offset, if the sink was delivered to before
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OutboxSinkOffset o WHERE o.sinkName = :sinkName")
+    Optional<OutboxSinkOffset> findForUpdate(@Param("sinkName") String sinkName);
+
+    /**
+     * Get the lowest offset among sinks; events up to it were delivered everywhere.
+     *
+     * @param sinkNames the configured sinks
+     * @return lowest last delivered id, or null if none of them has an offset
+     */
+    @Query("SELECT MIN(o.lastDeliveredId) FROM OutboxSinkOffset o WHERE o.sinkName IN :sinkNames")
+    Long findLowestOffset(@Param("sinkNames") Collection<String> sinkNames);
+
+    /**
+     * @param sinkNames the configured sinks
+     * @return number of them with an offset
+     */
+    long countBySinkNameIn(Collection<String> sinkNames);
+}
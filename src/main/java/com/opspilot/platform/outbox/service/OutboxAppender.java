@@ -0,0 +1,78 @@
+package com.opspilot.platform.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opspilot.platform.outbox.OutboxEvent;
+import com.opspilot.platform.outbox.repository.OutboxEventRepository;
+import com.opspilot.platform.workitem.event.WorkItemChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Appends work item domain events to the outbox table.
+ * Runs synchronously inside the publishing service transaction, so the outbox row
+ * commits or rolls back together with the change it describes. Ids appended by transactions
+ * that have not completed yet are tracked, so the {@link OutboxRelay} can wait for them.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxAppender {
+
+    static final String WORK_ITEM_AGGREGATE = "WorkItem";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentSkipListSet<Long> uncommittedIds = new ConcurrentSkipListSet<>();
+
+    /**
+     * Append a work item change to the outbox.
+     *
+     * @param event the domain event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onWorkItemChanged(WorkItemChangedEvent event) {
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .aggregateType(WORK_ITEM_AGGREGATE)
+                .aggregateId(event.getWorkItemId())
+                .eventType(event.getType().name())
+                .payload(serialize(event))
+                .build();
+        Long id = outboxEventRepository.save(outboxEvent).getId();
+        uncommittedIds.add(id);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                uncommittedIds.remove(id);
+            }
+        });
+    }
+
+    /**
+     * Whether a transaction in this process appended an outbox id between the given ids and has
+     * not committed or rolled back yet.
+     *
+     * @param afterId  exclusive lower bound
+     * @param beforeId exclusive upper bound
+     * @return true when such an id is still pending
+     */
+    boolean hasUncommittedBetween(long afterId, long beforeId) {
+        Long pending = uncommittedIds.higher(afterId);
+        return pending != null && pending < beforeId;
+    }
+
+    private String serialize(WorkItemChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize work item event " + event.getWorkItemId(), e);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.opspilot.platform.outbox.service;
+
+import com.opspilot.platform.outbox.OutboxEvent;
+import com.opspilot.platform.outbox.OutboxMessage;
+import com.opspilot.platform.outbox.OutboxProperties;
+import com.opspilot.platform.outbox.OutboxSinkOffset;
+import com.opspilot.platform.outbox.repository.OutboxEventRepository;
+import com.opspilot.platform.outbox.repository.OutboxSinkOffsetRepository;
+import com.opspilot.platform.outbox.sink.OutboxSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relays outbox events to the configured sinks.
+ * Each sink has its own offset: a batch is read past it, delivered and the offset advanced in
+ * one transaction, so a failing sink retries only its own batch and never re-sends to the
+ * others. Events every configured sink has received are then deleted, so all replicas must be
+ * configured with the same sinks. Delivery is ordered and at-least-once per sink.
+ *
+ * <p>Ids are allocated at insert but become visible at commit, so a transaction that commits
+ * late leaves a temporary gap below ids already visible. The relay stops a batch at a gap while a
+ * transaction in this process still holds one of the missing ids, however long it runs, and
+ * otherwise until the gap has been open for the gap timeout: ids appended on another replica are
+ * only waited for that long, so the timeout must exceed the longest transaction appending events.
+ */
+@Service
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSinkOffsetRepository offsetRepository;
+    private final List<OutboxSink> sinks;
+    private final OutboxProperties properties;
+    private final OutboxAppender outboxAppender;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, Gap> openGaps = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> deliveredCounters = new HashMap<>();
+    private final Map<String, Counter> failedBatchCounters = new HashMap<>();
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxSinkOffsetRepository offsetRepository,
+                       List<OutboxSink> sinks,
+                       OutboxAppender outboxAppender,
+                       OutboxProperties properties,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.offsetRepository = offsetRepository;
+        this.sinks = sinks;
+        this.outboxAppender = outboxAppender;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        for (OutboxSink sink : sinks) {
+            deliveredCounters.put(sink.getName(), meterRegistry.counter("opspilot.outbox.delivered", "sink", sink.getName()));
+            failedBatchCounters.put(sink.getName(), meterRegistry.counter("opspilot.outbox.failed.batches", "sink", sink.getName()));
+        }
+        this.batchTimer = Timer.builder("opspilot.outbox.batch")
+                .description("Time to read, deliver and record one outbox batch for one sink")
+                .register(meterRegistry);
+        Gauge.builder("opspilot.outbox.lag", lagMillis, AtomicLong::get)
+                .description("Age of the oldest event in the last delivered batch")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+
+        log.info("Outbox relay sinks: {}", sinks.stream().map(OutboxSink::getName).toList());
+    }
+
+    /**
+     * Drain pending events to every sink, up to the configured number of batches per sink and run,
+     * then delete what all sinks have received.
+     */
+    @Scheduled(fixedDelayString = "${opspilot.outbox.poll-interval:200ms}")
+    public void relay() {
+        if (!properties.isRelayEnabled()) {
+            return;
+        }
+        for (OutboxSink sink : sinks) {
+            relayTo(sink);
+        }
+        transactionTemplate.executeWithoutResult(status -> deleteDelivered());
+    }
+
+    private void relayTo(OutboxSink sink) {
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            int delivered;
+            try {
+                delivered = batchTimer.recordCallable(() -> relayBatch(sink));
+            } catch (Exception e) {
+                failedBatchCounters.get(sink.getName()).increment();
+                log.warn("Outbox delivery to {} failed, will retry: {}", sink.getName(), e.getMessage());
+                return;
+            }
+            if (delivered < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    private int relayBatch(OutboxSink sink) {
+        Integer delivered = transactionTemplate.execute(status -> {
+            OutboxSinkOffset offset = offsetRepository.findForUpdate(sink.getName())
+                    .orElseGet(() -> offsetRepository.save(new OutboxSinkOffset(sink.getName(), 0)));
+            List<OutboxEvent> batch = untilUnsettledGap(sink.getName(), offset.getLastDeliveredId(),
+                    outboxEventRepository.findBatchAfter(offset.getLastDeliveredId(),
+                            PageRequest.of(0, properties.getBatchSize())));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                sink.deliver(batch.stream().map(OutboxMessage::of).toList());
+            } catch (Exception e) {
+                throw new IllegalStateException("Sink " + sink.getName() + " failed: " + e.getMessage(), e);
+            }
+
+            offset.setLastDeliveredId(batch.get(batch.size() - 1).getId());
+            lagMillis.set(Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now()).toMillis());
+            return batch.size();
+        });
+        int count = delivered != null ? delivered : 0;
+        deliveredCounters.get(sink.getName()).increment(count);
+        return count;
+    }
+
+    /**
+     * Cut a batch at the first id gap that has not settled: the missing ids may belong to
+     * transactions that have not committed yet.
+     */
+    private List<OutboxEvent> untilUnsettledGap(String sinkName, long lastDeliveredId, List<OutboxEvent> batch) {
+        long previous = lastDeliveredId;
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            if (event.getId() != previous + 1 && !gapSettled(sinkName, previous, event.getId())) {
+                return batch.subList(0, i);
+            }
+            previous = event.getId();
+        }
+        return batch;
+    }
+
+    /**
+     * A gap is settled once no transaction in this process holds a missing id and the gap has
+     * been open for the gap timeout, counted from when this relay first saw it.
+     */
+    private boolean gapSettled(String sinkName, long afterId, long beforeId) {
+        if (outboxAppender.hasUncommittedBetween(afterId, beforeId)) {
+            return false;
+        }
+        long now = System.nanoTime();
+        Gap gap = openGaps.get(sinkName);
+        if (gap == null || gap.afterId() != afterId) {
+            openGaps.put(sinkName, new Gap(afterId, now));
+            return false;
+        }
+        if (now - gap.openSince() < properties.getGapTimeout().toNanos()) {
+            return false;
+        }
+        // Kept until another gap replaces it, so a failed delivery does not restart the wait
+        log.debug("Passing outbox id gap ({}, {}) for sink {}", afterId, beforeId, sinkName);
+        return true;
+    }
+
+    private void deleteDelivered() {
+        List<String> sinkNames = sinks.stream().map(OutboxSink::getName).toList();
+        // A sink without an offset has not received anything yet
+        if (sinkNames.isEmpty() || offsetRepository.countBySinkNameIn(sinkNames) < sinkNames.size()) {
+            return;
+        }
+        Long deliveredEverywhere = offsetRepository.findLowestOffset(sinkNames);
+        if (deliveredEverywhere != null && deliveredEverywhere > 0) {
+            outboxEventRepository.deleteDeliveredUpTo(deliveredEverywhere);
+        }
+    }
+
+    private record Gap(long afterId, long openSince) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.opspilot.platform.outbox.sink;
+
+import com.opspilot.platform.outbox.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sink that republishes relayed messages as Spring application events.
+ * In-process consumers subscribe with {@code @EventListener} on {@link OutboxMessage}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String getName() {
+        return "in-process";
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
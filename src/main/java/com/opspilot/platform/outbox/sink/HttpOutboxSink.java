@@ -0,0 +1,47 @@
+package com.opspilot.platform.outbox.sink;
+
+import com.opspilot.platform.outbox.OutboxMessage;
+import com.opspilot.platform.outbox.OutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+/**
+ * Sink that POSTs each relayed batch as a JSON array to a configured endpoint.
+ * Any non-2xx response fails the batch so it is retried on the next relay run.
+ */
+@Component
+@ConditionalOnProperty(prefix = "opspilot.outbox.http", name = "url")
+public class HttpOutboxSink implements OutboxSink {
+
+    private final RestClient restClient;
+
+    public HttpOutboxSink(OutboxProperties properties, RestClient.Builder restClientBuilder) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getHttp().getTimeout());
+        requestFactory.setReadTimeout(properties.getHttp().getTimeout());
+
+        this.restClient = restClientBuilder
+                .baseUrl(properties.getHttp().getUrl())
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return "http";
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(messages)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,29 @@
+package com.opspilot.platform.outbox.sink;
+
+import com.opspilot.platform.outbox.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox events.
+ * Delivery is at-least-once: each sink tracks its own offset and a batch is retried from its
+ * first message if this sink throws, so sinks must tolerate duplicates (message ids are
+ * monotonically increasing).
+ */
+public interface OutboxSink {
+
+    /**
+     * Get the sink name used in metrics and logs.
+     *
+     * @return sink name
+     */
+    String getName();
+
+    /**
+     * Deliver a batch of messages in order.
+     *
+     * @param messages messages in outbox order
+     * @throws Exception if delivery failed and the batch must be retried
+     */
+    void deliver(List<OutboxMessage> messages) throws Exception;
+}
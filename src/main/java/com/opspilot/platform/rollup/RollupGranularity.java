@@ -0,0 +1,41 @@
+package com.opspilot.platform.rollup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Enum representing the bucket size of a throughput time series.
+ * Rollups are stored hourly; coarser granularities are summed from hourly rows.
+ */
+public enum RollupGranularity {
+    /**
+     * One bucket per hour
+     */
+    HOUR(Duration.ofHours(1)),
+
+    /**
+     * One bucket per calendar day
+     */
+    DAY(Duration.ofDays(1));
+
+    private final Duration step;
+
+    RollupGranularity(Duration step) {
+        this.step = step;
+    }
+
+    public Duration getStep() {
+        return step;
+    }
+
+    /**
+     * Truncate a timestamp to the start of its bucket.
+     *
+     * @param time the timestamp
+     * @return start of the bucket containing the timestamp
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return this == DAY ? time.truncatedTo(ChronoUnit.DAYS) : time.truncatedTo(ChronoUnit.HOURS);
+    }
+}
@@ -0,0 +1,54 @@
+package com.opspilot.platform.rollup;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing pre-aggregated work item throughput for one hour and one assignee.
+ * Rows are incremented as work items are created, completed or rejected, so charts read
+ * one row per bucket instead of scanning work items.
+ */
+@Entity
+@Table(name = "work_item_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_work_item_rollups_bucket_assignee", columnNames = {"bucket_start", "assignee_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@EqualsAndHashCode(of = "id")
+public class WorkItemRollup {
+
+    /**
+     * Assignee key for work items without an assignee; the unique key cannot contain nulls.
+     */
+    public static final UUID UNASSIGNED = new UUID(0L, 0L);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    /**
+     * Start of the hour this row aggregates, in server local time like work item timestamps.
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "assignee_id", nullable = false)
+    private UUID assigneeId;
+
+    @Column(name = "created_count", nullable = false)
+    private long createdCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private long rejectedCount;
+}
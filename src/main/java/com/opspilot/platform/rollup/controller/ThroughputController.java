@@ -0,0 +1,77 @@
+package com.opspilot.platform.rollup.controller;
+
+import com.opspilot.platform.observability.SqlBudget;
+import com.opspilot.platform.rollup.RollupGranularity;
+import com.opspilot.platform.rollup.dto.TimeSeriesResponse;
+import com.opspilot.platform.rollup.service.ThroughputService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Admin controller for work item throughput charts.
+ * Serves created, completed and rejected counts from pre-aggregated hourly rollups.
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Metrics", description = "Work item throughput time series (ADMIN and VIEWER)")
+@SecurityRequirement(name = "bearerAuth")
+public class ThroughputController {
+
+    private final ThroughputService throughputService;
+
+    /**
+     * Get work item throughput per hour or day.
+     *
+     * @param granularity bucket size (HOUR or DAY, default HOUR)
+     * @param from range start (ISO date-time, default 24 hours or 30 days before {@code to})
+     * @param to range end, exclusive (ISO date-time, default now)
+     * @param assigneeId restrict to one assignee (optional)
+     * @return time series with one point per bucket
+     */
+    @GetMapping("/timeseries")
+    @SqlBudget(maxStatements = 1)
+    @PreAuthorize("hasAnyRole('ADMIN', 'VIEWER')")
+    @Operation(summary = "Get throughput time series", description = "Work items created, completed and rejected per bucket (ADMIN and VIEWER)")
+    public ResponseEntity<TimeSeriesResponse> getTimeSeries(
+            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) UUID assigneeId) {
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from
+                : granularity == RollupGranularity.DAY ? end.minusDays(30) : end.minusHours(24);
+        log.debug("Time series request - Granularity: {}, From: {}, To: {}, Assignee: {}",
+                granularity, start, end, assigneeId);
+
+        return ResponseEntity.ok(throughputService.fetchTimeSeries(granularity, start, end, assigneeId));
+    }
+
+    /**
+     * Rebuild rollups from existing work items.
+     *
+     * @return number of rollup rows written
+     */
+    @PostMapping("/timeseries/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Backfill throughput rollups", description = "Rebuild hourly rollups from live and archived work items (ADMIN only)")
+    public ResponseEntity<Map<String, Object>> backfill() {
+        int rows = throughputService.backfill();
+
+        log.info("Throughput rollup backfill completed: {} rows", rows);
+        return ResponseEntity.ok(Map.of("rollupRowsWritten", rows));
+    }
+}
@@ -0,0 +1,23 @@
+package com.opspilot.platform.rollup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one bucket of a throughput time series.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSeriesPoint {
+
+    private LocalDateTime bucketStart;
+    private long created;
+    private long completed;
+    private long rejected;
+}
@@ -0,0 +1,28 @@
+package com.opspilot.platform.rollup.dto;
+
+import com.opspilot.platform.rollup.RollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for a throughput time series.
+ * Contains one point per bucket in [from, to), including empty buckets.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSeriesResponse {
+
+    private RollupGranularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private UUID assigneeId;
+    private List<TimeSeriesPoint> points;
+}
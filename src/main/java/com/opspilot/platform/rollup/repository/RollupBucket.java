@@ -0,0 +1,17 @@
+package com.opspilot.platform.rollup.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection for hourly rollup counts summed across assignees.
+ */
+public interface RollupBucket {
+
+    LocalDateTime getBucketStart();
+
+    long getCreated();
+
+    long getCompleted();
+
+    long getRejected();
+}
@@ -0,0 +1,100 @@
+package com.opspilot.platform.rollup.repository;
+
+import com.opspilot.platform.rollup.WorkItemRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for hourly work item rollups.
+ */
+@Repository
+public interface WorkItemRollupRepository extends JpaRepository<WorkItemRollup, Long> {
+
+    /**
+     * Sum hourly buckets in [from, to) across all assignees, ordered by bucket.
+     *
+     * @param from inclusive start
+     * @param to   exclusive end
+     * @return one row per non-empty hour
+     */
+    @Query("""
+            SELECT r.bucketStart AS bucketStart, SUM(r.createdCount) AS created,
+                   SUM(r.completedCount) AS completed, SUM(r.rejectedCount) AS rejected
+            FROM WorkItemRollup r
+            WHERE r.bucketStart >= :from AND r.bucketStart < :to
+            GROUP BY r.bucketStart
+            ORDER BY r.bucketStart
+            """)
+    List<RollupBucket> sumByHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Hourly buckets in [from, to) for one assignee, ordered by bucket.
+     *
+     * @param from       inclusive start
+     * @param to         exclusive end
+     * @param assigneeId assignee key
+     * @return one row per non-empty hour
+     */
+    @Query("""
+            SELECT r.bucketStart AS bucketStart, r.createdCount AS created,
+                   r.completedCount AS completed, r.rejectedCount AS rejected
+            FROM WorkItemRollup r
+            WHERE r.bucketStart >= :from AND r.bucketStart < :to AND r.assigneeId = :assigneeId
+            ORDER BY r.bucketStart
+            """)
+    List<RollupBucket> findByHourForAssignee(@Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("assigneeId") UUID assigneeId);
+
+    /**
+     * Delete all rollup rows ahead of a backfill.
+     *
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM WorkItemRollup r")
+    int deleteAllRollups();
+
+    /**
+     * Rebuild rollups from live and archived work items. Creation is bucketed by created_at and
+     * closing by updated_at, both under the current assignee, since per-transition history is not kept.
+     *
+     * @param unassigned assignee key used for work items without an assignee
+     * @return number of rollup rows inserted
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO work_item_rollups (bucket_start, assignee_id, created_count, completed_count, rejected_count)
+            SELECT bucket_start, assignee_id, SUM(created), SUM(completed), SUM(rejected)
+            FROM (
+                SELECT DATE_TRUNC('HOUR', created_at) AS bucket_start,
+                       COALESCE(assigned_to_id, CAST(:unassigned AS UUID)) AS assignee_id,
+                       1 AS created, 0 AS completed, 0 AS rejected
+                FROM work_items
+                UNION ALL
+                SELECT DATE_TRUNC('HOUR', updated_at), COALESCE(assigned_to_id, CAST(:unassigned AS UUID)), 0,
+                       CASE WHEN status = 'COMPLETED' THEN 1 ELSE 0 END,
+                       CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END
+                FROM work_items
+                WHERE status IN ('COMPLETED', 'REJECTED')
+                UNION ALL
+                SELECT DATE_TRUNC('HOUR', created_at), COALESCE(assigned_to_id, CAST(:unassigned AS UUID)), 1, 0, 0
+                FROM work_items_archive
+                UNION ALL
+                SELECT DATE_TRUNC('HOUR', updated_at), COALESCE(assigned_to_id, CAST(:unassigned AS UUID)), 0,
+                       CASE WHEN status = 'COMPLETED' THEN 1 ELSE 0 END,
+                       CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END
+                FROM work_items_archive
+                WHERE status IN ('COMPLETED', 'REJECTED')
+            ) transitions
+            GROUP BY bucket_start, assignee_id
+            """, nativeQuery = true)
+    int backfillFromWorkItems(@Param("unassigned") UUID unassigned);
+}
@@ -0,0 +1,139 @@
+package com.opspilot.platform.rollup.service;
+
+import com.opspilot.platform.rollup.WorkItemRollup;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.event.WorkItemChangedEvent;
+import com.opspilot.platform.workitem.event.WorkItemEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Increments hourly rollups from work item change events.
+ * Runs inside the publishing service transaction, so counters only move when the change commits.
+ * Each increment runs in a savepoint: a rollup that cannot be written is logged and counted, and
+ * never rolls back the change itself ({@link ThroughputService#backfill()} restores the counters).
+ */
+@Component
+@Slf4j
+public class RollupRecorder {
+
+    private static final String UPDATE_SQL = """
+            UPDATE work_item_rollups
+            SET created_count = created_count + ?,
+                completed_count = completed_count + ?,
+                rejected_count = rejected_count + ?
+            WHERE bucket_start = ? AND assignee_id = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO work_item_rollups (created_count, completed_count, rejected_count, bucket_start, assignee_id)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter failedCounter;
+
+    public RollupRecorder(DataSource dataSource, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.failedCounter = meterRegistry.counter("opspilot.rollup.failed");
+    }
+
+    /**
+     * Record creation, completion and rejection in the rollup for the event's hour and assignee.
+     *
+     * @param event the domain event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onWorkItemChanged(WorkItemChangedEvent event) {
+        long created = event.getType() == WorkItemEventType.CREATED ? 1 : 0;
+        long completed = enteredStatus(event, WorkItemStatus.COMPLETED) ? 1 : 0;
+        long rejected = enteredStatus(event, WorkItemStatus.REJECTED) ? 1 : 0;
+        if (created + completed + rejected == 0) {
+            return;
+        }
+
+        LocalDateTime bucketStart = LocalDateTime.ofInstant(event.getOccurredAt(), ZoneId.systemDefault())
+                .truncatedTo(ChronoUnit.HOURS);
+        increment(bucketStart, assigneeKey(event), created, completed, rejected);
+    }
+
+    /**
+     * Add to the counters of one hourly bucket in the current transaction, creating the row on
+     * first use. Concurrent first writes to the same bucket both succeed: the one that loses the
+     * insert adds to the row the other created.
+     *
+     * @param bucketStart start of the hour
+     * @param assigneeId  assignee key, {@link WorkItemRollup#UNASSIGNED} when none
+     * @param created     work items created
+     * @param completed   work items completed
+     * @param rejected    work items rejected
+     */
+    public void increment(LocalDateTime bucketStart, UUID assigneeId, long created, long completed, long rejected) {
+        Object[] args = {created, completed, rejected, Timestamp.valueOf(bucketStart), assigneeId};
+        try {
+            inSavepoint(() -> {
+                if (jdbcTemplate.update(UPDATE_SQL, args) > 0) {
+                    return null;
+                }
+                try {
+                    return inSavepoint(() -> jdbcTemplate.update(INSERT_SQL, args));
+                } catch (DuplicateKeyException e) {
+                    // Another transaction created the bucket first; the insert waited for it to commit
+                    return jdbcTemplate.update(UPDATE_SQL, args);
+                }
+            });
+        } catch (DataAccessException e) {
+            failedCounter.increment();
+            log.warn("Could not update the work item rollup for {} / {}; run a backfill to correct it: {}",
+                    bucketStart, assigneeId, e.getMessage());
+        }
+    }
+
+    /**
+     * Run JDBC work on the transaction's connection and undo only that work if it fails. The JPA
+     * transaction manager cannot create savepoints, so they are set on the connection directly.
+     */
+    private <T> T inSavepoint(Supplier<T> work) {
+        return jdbcTemplate.execute((ConnectionCallback<T>) connection -> {
+            if (connection.getAutoCommit()) {
+                return work.get();
+            }
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                T result = work.get();
+                connection.releaseSavepoint(savepoint);
+                return result;
+            } catch (RuntimeException e) {
+                connection.rollback(savepoint);
+                throw e;
+            }
+        });
+    }
+
+    private static boolean enteredStatus(WorkItemChangedEvent event, WorkItemStatus status) {
+        return event.getStatus() == status && event.getPreviousStatus() != status;
+    }
+
+    private static UUID assigneeKey(WorkItemChangedEvent event) {
+        return event.getAssigneeId() != null ? event.getAssigneeId() : WorkItemRollup.UNASSIGNED;
+    }
+}
@@ -39,7 +39,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         log.debug("Loading user details for email: {}", email);
 
-        Employee employee = employeeRepository.findByEmail(email)
+        Employee employee = employeeRepository.findByNaturalEmail(email)
                 .orElseThrow(() -> {
                     log.warn("Employee not found with email: {}", email);
                     return new UsernameNotFoundException("Employee not found with email: " + email);
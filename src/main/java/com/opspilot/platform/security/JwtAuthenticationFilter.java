@@ -1,5 +1,7 @@
 package com.opspilot.platform.security;
 
+import com.opspilot.platform.security.revocation.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,11 +20,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * JWT Authentication Filter to intercept requests and validate JWT tokens.
- * Extracts token from Authorization header, extracts roles from token,
- * and sets authentication in SecurityContext with proper authorities.
+ * Extracts token from Authorization header, verifies it and reads its claims once,
+ * rejects tokens revoked by employee deactivation, and sets authentication in
+ * SecurityContext with the roles from the token.
  */
 @Component
 @RequiredArgsConstructor
@@ -30,6 +34,7 @@ import java.util.Collection;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -38,11 +43,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
+            Optional<Claims> claims = StringUtils.hasText(jwt) ? jwtTokenProvider.parseClaims(jwt) : Optional.empty();
+            if (claims.isPresent()
+                    && tokenRevocationService.isRevoked(claims.get().getSubject(), claims.get().getIssuedAt())) {
+                log.debug("Rejected revoked token for user: {}", claims.get().getSubject());
+            } else if (claims.isPresent()) {
+                String username = claims.get().getSubject();
 
                 // Extract roles directly from JWT token
-                Collection<? extends GrantedAuthority> authorities = jwtTokenProvider.getRolesFromToken(jwt);
+                Collection<? extends GrantedAuthority> authorities = jwtTokenProvider.getRolesFromClaims(claims.get());
 
                 // Create UserDetails with username and authorities from token
                 UserDetails userDetails = User.builder()
@@ -64,7 +73,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 log.debug("Set authentication for user: {} with authorities: {}", username, authorities);
             }
         } catch (Exception e) {
-            log.error("Cannot set user authentication: {}", e.getMessage());
+            log.warn("Cannot set user authentication: {}", e.getMessage());
         }
 
         filterChain.doFilter(request, response);
@@ -1,6 +1,7 @@
 package com.opspilot.platform.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +29,7 @@ import java.util.stream.Collectors;
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser parser;
     private final long jwtExpirationMs;
 
     public JwtTokenProvider(
@@ -37,6 +40,7 @@ public class JwtTokenProvider {
         }
         // HS256 requires a sufficiently long secret; Keys.hmacShaKeyFor will also validate
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
         this.jwtExpirationMs = jwtExpirationMs;
     }
 
@@ -91,6 +95,21 @@ public class JwtTokenProvider {
         return token;
     }
 
+    /**
+     * Verify a token and read its claims in one pass, for callers that need several of them.
+     *
+     * @param token the JWT token
+     * @return the claims, or empty if the token is malformed, forged or expired
+     */
+    public Optional<Claims> parseClaims(String token) {
+        try {
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
+        } catch (Exception e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * Extract username (email) from JWT token.
      *
@@ -98,13 +117,7 @@ public class JwtTokenProvider {
      * @return username (email)
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+        return parser.parseSignedClaims(token).getPayload().getSubject();
     }
 
     /**
@@ -114,12 +127,16 @@ public class JwtTokenProvider {
      * @return collection of GrantedAuthority
      */
     public Collection<? extends GrantedAuthority> getRolesFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return getRolesFromClaims(parser.parseSignedClaims(token).getPayload());
+    }
 
+    /**
+     * Convert the roles claim of verified claims to a GrantedAuthority collection.
+     *
+     * @param claims verified token claims
+     * @return collection of GrantedAuthority
+     */
+    public Collection<? extends GrantedAuthority> getRolesFromClaims(Claims claims) {
         String roles = claims.get("roles", String.class);
 
         if (roles == null || roles.isEmpty()) {
@@ -144,6 +161,13 @@ public class JwtTokenProvider {
         return authorities;
     }
 
+    /**
+     * @return access token lifetime in milliseconds
+     */
+    public long getExpirationMs() {
+        return jwtExpirationMs;
+    }
+
     /**
      * Validate JWT token.
      *
@@ -151,15 +175,6 @@ public class JwtTokenProvider {
      * @return true if token is valid, false otherwise
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+        return parseClaims(token).isPresent();
     }
 }
@@ -0,0 +1,112 @@
+package com.opspilot.platform.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control state: per-key token buckets and per-endpoint-class concurrency bulkheads.
+ * Bucket memory is bounded by {@link RateLimitProperties#getMaxKeys()}; full buckets carry no
+ * state and are swept when the bound is reached. If every tracked key is still active, new keys
+ * are turned away until a sweep frees room, while tracked keys keep their own limits.
+ */
+@Component
+@Slf4j
+public class AdmissionController {
+
+    // Also the retry delay for keys turned away while the bound is reached
+    static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimitProperties properties;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<EndpointClass, Semaphore> bulkheads = new EnumMap<>(EndpointClass.class);
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final AtomicLong lastSweepNanos;
+    private final Counter keysExhaustedCounter;
+
+    public AdmissionController(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.lastSweepNanos = new AtomicLong(System.nanoTime() - SWEEP_INTERVAL_NANOS);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            bulkheads.put(endpointClass, new Semaphore(properties.limitFor(endpointClass).getMaxConcurrent()));
+        }
+        this.keysExhaustedCounter = meterRegistry.counter("opspilot.ratelimit.keys.exhausted");
+        Gauge.builder("opspilot.ratelimit.keys", buckets, Map::size)
+                .description("Tracked rate limit buckets")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Try to take a rate limit permit for a caller.
+     *
+     * @param subject employee email, or client address for unauthenticated requests
+     * @param endpointClass class of the requested endpoint
+     * @return 0 if admitted, otherwise nanoseconds until a permit becomes available
+     */
+    public long tryAcquirePermit(String subject, EndpointClass endpointClass) {
+        return tryAcquirePermit(subject, endpointClass, System.nanoTime());
+    }
+
+    long tryAcquirePermit(String subject, EndpointClass endpointClass, long now) {
+        String key = endpointClass.name() + ':' + subject;
+
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= properties.getMaxKeys()) {
+                sweepIdleBuckets(now);
+            }
+            if (buckets.size() >= properties.getMaxKeys()) {
+                keysExhaustedCounter.increment();
+                return SWEEP_INTERVAL_NANOS;
+            }
+            RateLimitProperties.Limit limit = properties.limitFor(endpointClass);
+            bucket = buckets.computeIfAbsent(key,
+                    k -> new TokenBucket(limit.getPermitsPerSecond(), limit.getBurst(), now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * Try to enter the concurrency bulkhead of an endpoint class without waiting.
+     *
+     * @param endpointClass class of the requested endpoint
+     * @return true if a slot was taken and must be released with {@link #exitBulkhead(EndpointClass)}
+     */
+    public boolean tryEnterBulkhead(EndpointClass endpointClass) {
+        return bulkheads.get(endpointClass).tryAcquire();
+    }
+
+    /**
+     * Release a bulkhead slot taken by {@link #tryEnterBulkhead(EndpointClass)}.
+     *
+     * @param endpointClass class of the completed request
+     */
+    public void exitBulkhead(EndpointClass endpointClass) {
+        bulkheads.get(endpointClass).release();
+    }
+
+    private void sweepIdleBuckets(long now) {
+        // One thread sweeps, at most once per interval, so a flood of new keys cannot make every request scan
+        if (now - lastSweepNanos.get() < SWEEP_INTERVAL_NANOS || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            lastSweepNanos.set(now);
+            int before = buckets.size();
+            buckets.values().removeIf(bucket -> bucket.isIdle(now));
+            log.debug("Swept rate limit buckets: {} -> {}", before, buckets.size());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.opspilot.platform.security.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Enum classifying API requests for admission control.
+ * Each class has its own per-employee rate limit and its own concurrency bulkhead.
+ */
+public enum EndpointClass {
+    /**
+     * Authentication endpoints (login, registration); keyed by client address since no token exists yet
+     */
+    LOGIN,
+
+    /**
+     * Refresh token renewal and logout; a hash lookup with no password check, so allowed more often than login
+     */
+    TOKEN_RENEWAL,
+
+    /**
+     * Dashboard metrics, the most expensive read
+     */
+    DASHBOARD,
+
+    /**
+     * Other admin reads such as full work item and employee listings
+     */
+    ADMIN_READ,
+
+    /**
+     * Regular reads of the caller's own work items
+     */
+    READ,
+
+    /**
+     * Creates, status updates and assignments
+     */
+    WRITE;
+
+    /**
+     * Classify a request by path and method.
+     *
+     * @param request the HTTP request
+     * @return endpoint class, or null when the request is not subject to admission control,
+     * such as health checks and CORS preflights
+     */
+    public static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (!path.startsWith("/api/") || path.startsWith("/api/health")
+                || "OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            return null;
+        }
+        if (path.equals("/api/auth/refresh") || path.equals("/api/auth/logout")) {
+            return TOKEN_RENEWAL;
+        }
+        if (path.startsWith("/api/auth/")) {
+            return LOGIN;
+        }
+        boolean read = "GET".equalsIgnoreCase(request.getMethod()) || "HEAD".equalsIgnoreCase(request.getMethod());
+        if (!read) {
+            return WRITE;
+        }
+        if (path.startsWith("/api/admin/dashboard")) {
+            return DASHBOARD;
+        }
+        if (path.startsWith("/api/admin/")) {
+            return ADMIN_READ;
+        }
+        return READ;
+    }
+}
@@ -0,0 +1,188 @@
+package com.opspilot.platform.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control filter installed after the JWT filter in the security chain.
+ * Applies a per-employee token bucket and a per-endpoint-class concurrency bulkhead,
+ * answering 429 with Retry-After when either is exhausted. Async requests such as streaming
+ * exports hold their bulkhead slot until the response completes.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final AdmissionController admissionController;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public RateLimitFilter(AdmissionController admissionController, RateLimitProperties properties,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.admissionController = admissionController;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.trustedProxies = properties.getTrustedProxies().stream().map(IpAddressMatcher::new).toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        EndpointClass endpointClass = properties.isEnabled() ? EndpointClass.of(request) : null;
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = admissionController.tryAcquirePermit(resolveSubject(request, endpointClass), endpointClass);
+        if (waitNanos > 0) {
+            reject(response, endpointClass, "rate", TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+            return;
+        }
+
+        if (!admissionController.tryEnterBulkhead(endpointClass)) {
+            reject(response, endpointClass, "concurrency", 1);
+            return;
+        }
+        BulkheadSlot slot = new BulkheadSlot(endpointClass);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streaming responses keep running after this dispatch returns; hold the slot until they finish
+                request.getAsyncContext().addListener(slot);
+            } else {
+                slot.release();
+            }
+        }
+    }
+
+    /**
+     * A taken bulkhead slot, released once when the request completes.
+     */
+    private final class BulkheadSlot implements AsyncListener {
+
+        private final EndpointClass endpointClass;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private BulkheadSlot(EndpointClass endpointClass) {
+            this.endpointClass = endpointClass;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                admissionController.exitBulkhead(endpointClass);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Async restarted within the same request: keep listening
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * Resolve the rate limit key: the authenticated employee, or the client address
+     * for login and other unauthenticated requests.
+     */
+    private String resolveSubject(HttpServletRequest request, EndpointClass endpointClass) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (endpointClass != EndpointClass.LOGIN && authentication != null && authentication.isAuthenticated()) {
+            return authentication.getName();
+        }
+        return "ip:" + resolveClientAddress(request);
+    }
+
+    /**
+     * Resolve the client address. Behind trusted proxies, X-Forwarded-For is walked from the
+     * nearest hop outwards and the first address that is not a trusted proxy is the client;
+     * hops further out were supplied by the client itself and could be forged.
+     */
+    private String resolveClientAddress(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+        if (forwardedFor == null || !isTrustedProxy(address)) {
+            return address;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            address = hops[i].trim();
+            if (!isTrustedProxy(address)) {
+                return address;
+            }
+        }
+        return address;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        try {
+            return trustedProxies.stream().anyMatch(proxy -> proxy.matches(address));
+        } catch (IllegalArgumentException e) {
+            // Not an IP address: a malformed forwarded hop is never a proxy we trust
+            return false;
+        }
+    }
+
+    private void reject(HttpServletResponse response, EndpointClass endpointClass, String reason,
+                        long retryAfterSeconds) throws IOException {
+        meterRegistry.counter("opspilot.ratelimit.rejected",
+                "endpointClass", endpointClass.name(), "reason", reason).increment();
+        log.debug("Rejected {} request ({} limit)", endpointClass, reason);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("error", "Too Many Requests");
+        body.put("message", "Request limit exceeded, retry after " + retryAfterSeconds + "s");
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
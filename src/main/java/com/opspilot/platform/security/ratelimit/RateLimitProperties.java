@@ -0,0 +1,83 @@
+package com.opspilot.platform.security.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration properties for per-employee rate limiting and per-endpoint-class bulkheads.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on tracked (employee, endpoint class) buckets.
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * Addresses or CIDR ranges of reverse proxies whose X-Forwarded-For entries are trusted when
+     * keying unauthenticated requests by client address. The client is the nearest hop not in this
+     * list; when empty, X-Forwarded-For is ignored and the connection's remote address is used.
+     */
+    private List<String> trustedProxies = new ArrayList<>();
+
+    private Map<EndpointClass, Limit> limits = defaultLimits();
+
+    @Data
+    public static class Limit {
+
+        /**
+         * Sustained requests per second per key.
+         */
+        private double permitsPerSecond;
+
+        /**
+         * Requests a key may issue back-to-back before being throttled.
+         */
+        private int burst;
+
+        /**
+         * Maximum requests of this class in flight across all callers.
+         */
+        private int maxConcurrent;
+
+        public Limit() {
+        }
+
+        public Limit(double permitsPerSecond, int burst, int maxConcurrent) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            this.maxConcurrent = maxConcurrent;
+        }
+    }
+
+    private static Map<EndpointClass, Limit> defaultLimits() {
+        Map<EndpointClass, Limit> limits = new EnumMap<>(EndpointClass.class);
+        limits.put(EndpointClass.LOGIN, new Limit(0.2, 5, 8));
+        limits.put(EndpointClass.TOKEN_RENEWAL, new Limit(2, 20, 16));
+        limits.put(EndpointClass.DASHBOARD, new Limit(2, 10, 4));
+        limits.put(EndpointClass.ADMIN_READ, new Limit(10, 40, 8));
+        limits.put(EndpointClass.READ, new Limit(20, 50, 32));
+        limits.put(EndpointClass.WRITE, new Limit(10, 20, 16));
+        return limits;
+    }
+
+    /**
+     * Get the limit for an endpoint class, falling back to the built-in default when not configured.
+     *
+     * @param endpointClass the endpoint class
+     * @return configured limit
+     */
+    public Limit limitFor(EndpointClass endpointClass) {
+        Limit limit = limits.get(endpointClass);
+        return limit != null ? limit : defaultLimits().get(endpointClass);
+    }
+}
@@ -0,0 +1,59 @@
+package com.opspilot.platform.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as a generic cell rate algorithm (GCRA).
+ * The whole bucket state is a single "theoretical arrival time", updated with CAS,
+ * so acquiring a permit never blocks and allocates nothing.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * Create a bucket.
+     *
+     * @param permitsPerSecond sustained refill rate
+     * @param burst maximum number of permits available at once
+     * @param nowNanos current time from {@link System#nanoTime()}
+     */
+    public TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, burst - 1);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Try to take one permit.
+     *
+     * @param nowNanos current time from {@link System#nanoTime()}
+     * @return 0 if a permit was taken, otherwise nanoseconds until the next permit becomes available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            long base = Math.max(tat, nowNanos);
+            long waitNanos = base - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Check whether the bucket has fully refilled, in which case it is indistinguishable
+     * from a new bucket and can be discarded.
+     *
+     * @param nowNanos current time from {@link System#nanoTime()}
+     * @return true if the bucket is full
+     */
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrivalNanos.get() <= nowNanos;
+    }
+}
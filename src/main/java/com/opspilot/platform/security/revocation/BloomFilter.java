@@ -0,0 +1,109 @@
+package com.opspilot.platform.security.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over strings: answers "definitely absent" or "possibly present" from a fixed
+ * bit array, whatever the number of entries. Probes use double hashing of one 64-bit hash.
+ *
+ * <p>Adding and testing are lock-free and may run concurrently; an entry is visible to
+ * {@link #mightContain} as soon as {@link #put} returns. Entries cannot be removed.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int capacity;
+
+    /**
+     * Create a filter sized for the given number of entries at the given false positive rate.
+     *
+     * @param capacity          expected entries
+     * @param falsePositiveRate probability that an absent entry tests as present at capacity
+     */
+    public BloomFilter(int capacity, double falsePositiveRate) {
+        if (capacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Capacity must be positive and the false positive rate between 0 and 1");
+        }
+        long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.bitCount = Math.max(64, (optimalBits + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * LN2));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+        this.capacity = capacity;
+    }
+
+    /**
+     * Add an entry.
+     *
+     * @param value the entry
+     */
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * Test an entry.
+     *
+     * @param value the entry
+     * @return false if the entry was never added; true if it probably was
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return entries the filter was sized for
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    private long index(int combinedHash) {
+        // Flip negative hashes instead of taking abs, which fails for Integer.MIN_VALUE
+        return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitCount;
+    }
+
+    /**
+     * 64-bit FNV-1a over the chars, without allocating, finished with the MurmurHash3 mixer so
+     * both halves are well distributed.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb3fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
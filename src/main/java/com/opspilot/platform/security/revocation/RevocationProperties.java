@@ -0,0 +1,43 @@
+package com.opspilot.platform.security.revocation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for token revocation of deactivated employees.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.revocation")
+public class RevocationProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How often watermarks set on other replicas are read; revocations reach every replica within
+     * about this long.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(2);
+
+    /**
+     * How far each refresh reads back before the previous one, to catch watermarks that committed
+     * late or were stamped by a replica with a lagging clock.
+     */
+    private Duration refreshOverlap = Duration.ofSeconds(10);
+
+    /**
+     * How often the index is rebuilt from scratch, dropping watermarks older than any live token.
+     */
+    private Duration rebuildInterval = Duration.ofHours(1);
+
+    /**
+     * Revoked employees the filter is sized for; it is rebuilt larger when exceeded.
+     */
+    private int expectedRevocations = 10_000;
+
+    /**
+     * Share of unrevoked employees that fall through the filter to the exact watermark lookup.
+     */
+    private double falsePositiveRate = 0.01;
+}
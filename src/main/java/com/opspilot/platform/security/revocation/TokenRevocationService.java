@@ -0,0 +1,203 @@
+package com.opspilot.platform.security.revocation;
+
+import com.opspilot.platform.user.event.EmployeeChangedEvent;
+import com.opspilot.platform.user.event.EmployeeEventType;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.user.repository.TokenWatermark;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Rejects tokens issued to an employee before their token watermark, which deactivation sets.
+ * Watermarks are held in memory behind a {@link BloomFilter} of the affected emails, so the
+ * check on every request is a few bit probes and a map lookup only for the rare employees that
+ * have one. Watermarks set on this replica apply on commit; those set on other replicas are
+ * read incrementally from the tokens_valid_after index every refresh interval. Watermarks older
+ * than the longest token lifetime cannot reject anything and are dropped at each full rebuild.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private final EmployeeRepository employeeRepository;
+    private final RevocationProperties properties;
+    private final Duration maxTokenLifetime;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Counter rejectedCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile Index index;
+    private LocalDateTime refreshedUpTo;
+
+    public TokenRevocationService(EmployeeRepository employeeRepository,
+                                  RevocationProperties properties,
+                                  @Value("${jwt.expiration:86400000}") long jwtExpirationMs,
+                                  MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.properties = properties;
+        this.maxTokenLifetime = Duration.ofMillis(jwtExpirationMs);
+        this.index = new Index(new BloomFilter(properties.getExpectedRevocations(), properties.getFalsePositiveRate()));
+
+        this.rejectedCounter = meterRegistry.counter("opspilot.revocation.rejected");
+        this.falsePositiveCounter = meterRegistry.counter("opspilot.revocation.filter.false.positives");
+        Gauge.builder("opspilot.revocation.watermarks", this, service -> service.index.watermarks.size())
+                .description("Employees with a token watermark younger than the longest token lifetime")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check whether a token was revoked.
+     *
+     * @param email    the token subject
+     * @param issuedAt the token's issued-at time
+     * @return true if the token was issued at or before the subject's watermark
+     */
+    public boolean isRevoked(String email, Date issuedAt) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        Index current = index;
+        if (!current.filter.mightContain(email)) {
+            return false;
+        }
+        Long watermark = current.watermarks.get(email);
+        if (watermark == null) {
+            falsePositiveCounter.increment();
+            return false;
+        }
+        // Issued-at has second precision, so tokens from the second of deactivation are rejected too
+        if (issuedAt == null || issuedAt.getTime() <= watermark) {
+            rejectedCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Load all watermarks younger than the longest token lifetime into a fresh index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${opspilot.revocation.rebuild-interval:1h}",
+               fixedDelayString = "${opspilot.revocation.rebuild-interval:1h}")
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<TokenWatermark> live = employeeRepository.findTokenWatermarksAfter(startedAt.minus(maxTokenLifetime));
+            Index fresh = new Index(newFilter(live.size()));
+            live.forEach(watermark -> fresh.add(watermark.getEmail(), toEpochMillis(watermark.getTokensValidAfter())));
+            index = fresh;
+            refreshedUpTo = startedAt;
+            log.debug("Rebuilt token revocation index with {} watermarks", live.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Read watermarks set since the previous refresh, including those set on other replicas.
+     */
+    @Scheduled(fixedDelayString = "${opspilot.revocation.refresh-interval:2s}")
+    public void refresh() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (refreshedUpTo == null) {
+                return;
+            }
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<TokenWatermark> changed = employeeRepository.findTokenWatermarksAfter(
+                    refreshedUpTo.minus(properties.getRefreshOverlap()));
+            for (TokenWatermark watermark : changed) {
+                add(watermark.getEmail(), toEpochMillis(watermark.getTokensValidAfter()));
+            }
+            refreshedUpTo = startedAt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Apply a watermark set on this replica as soon as its transaction commits.
+     *
+     * @param event the domain event
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!properties.isEnabled() || event.getType() != EmployeeEventType.DEACTIVATED
+                || event.getTokensValidAfter() == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            add(event.getEmail(), toEpochMillis(event.getTokensValidAfter()));
+        } finally {
+            lock.unlock();
+        }
+        log.info("Revoked tokens of {} issued before {}", event.getEmail(), event.getTokensValidAfter());
+    }
+
+    /**
+     * Add a watermark, moving to a larger filter first if this one is full. Callers hold the lock.
+     */
+    private void add(String email, long watermarkMillis) {
+        Index current = index;
+        if (!current.watermarks.containsKey(email) && current.watermarks.size() >= current.filter.capacity()) {
+            Index larger = new Index(newFilter(current.watermarks.size() + 1));
+            current.watermarks.forEach(larger::add);
+            index = larger;
+            current = larger;
+        }
+        current.add(email, watermarkMillis);
+    }
+
+    private BloomFilter newFilter(int entries) {
+        int capacity = Math.max(properties.getExpectedRevocations(), entries * 2);
+        return new BloomFilter(capacity, properties.getFalsePositiveRate());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Filter and exact watermarks, swapped as one when the index is rebuilt or grown.
+     */
+    private static final class Index {
+
+        private final BloomFilter filter;
+        private final Map<String, Long> watermarks = new ConcurrentHashMap<>();
+
+        private Index(BloomFilter filter) {
+            this.filter = filter;
+        }
+
+        private void add(String email, long watermarkMillis) {
+            // The map first, so a filter hit always finds the watermark
+            watermarks.merge(email, watermarkMillis, Math::max);
+            filter.put(email);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.opspilot.platform.sla;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for work item due dates and overdue detection.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.sla")
+public class SlaProperties {
+
+    /**
+     * Whether breaches are detected. Due dates are stored and reported either way.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Due date given to new work items created without one; unset to leave them without a deadline.
+     */
+    private Duration defaultResolutionTime = Duration.ofDays(3);
+
+    /**
+     * Resolution of the deadline timer; breaches are detected at most this late.
+     */
+    private Duration tick = Duration.ofSeconds(1);
+}
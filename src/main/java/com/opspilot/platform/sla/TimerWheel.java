@@ -0,0 +1,239 @@
+package com.opspilot.platform.sla;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel holding one deadline per key.
+ * Four levels of 64 slots cover 64, 64², 64³ and 64⁴ ticks; with one-second ticks that is about
+ * a minute, an hour, three days and six months. A deadline is filed in the coarsest slot it needs
+ * and moved down a level each time its slot comes round, so advancing one tick only touches the
+ * slots that are due instead of every pending deadline. Deadlines beyond the top level wait in
+ * its last slot and are refiled when it is reached.
+ *
+ * <p>Schedule, reschedule and cancel are O(1). Not thread-safe; callers synchronize.
+ *
+ * @param <K> deadline key, compared by {@code equals}
+ */
+public class TimerWheel<K> {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final Slot<K>[][] wheels;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * Create an empty wheel.
+     *
+     * @param tickMillis resolution; deadlines fire at most one tick late
+     * @param nowMillis  current time in epoch milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickMillis, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        this.wheels = new Slot[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new Slot<>();
+            }
+        }
+    }
+
+    /**
+     * Schedule or reschedule the deadline for a key.
+     *
+     * @param key            the key
+     * @param deadlineMillis deadline in epoch milliseconds
+     * @return false if the deadline has already passed, in which case nothing is scheduled
+     *         and any earlier deadline for the key is cancelled
+     */
+    public boolean schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long expiryTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        if (expiryTick <= currentTick) {
+            return false;
+        }
+        Entry<K> entry = new Entry<>(key, expiryTick);
+        entries.put(key, entry);
+        file(entry);
+        return true;
+    }
+
+    /**
+     * Remove the deadline for a key.
+     *
+     * @param key the key
+     * @return true if a deadline was pending
+     */
+    public boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.slot != null) {
+            entry.slot.unlink(entry);
+        }
+        return true;
+    }
+
+    /**
+     * Advance the wheel to the given time and hand every expired key to the consumer, in
+     * deadline order to within one tick. Expired keys are removed before the consumer sees them.
+     *
+     * @param nowMillis current time in epoch milliseconds
+     * @param expired   receives expired keys
+     * @return number of keys expired
+     */
+    public int advance(long nowMillis, Consumer<? super K> expired) {
+        long targetTick = nowMillis / tickMillis;
+        int count = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Slot<K> due = wheels[0][(int) (currentTick & SLOT_MASK)];
+            Entry<K> entry = due.detachAll();
+            while (entry != null) {
+                Entry<K> next = entry.next;
+                entry.next = null;
+                // Skip entries the consumer cancelled or rescheduled while the chain was detached
+                if (entries.get(entry.key) == entry) {
+                    if (entry.expiryTick <= currentTick) {
+                        entries.remove(entry.key);
+                        expired.accept(entry.key);
+                        count++;
+                    } else {
+                        file(entry);
+                    }
+                }
+                entry = next;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return number of pending deadlines
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drop all pending deadlines.
+     */
+    public void clear() {
+        entries.clear();
+        for (Slot<K>[] wheel : wheels) {
+            for (Slot<K> slot : wheel) {
+                slot.detachAll();
+            }
+        }
+    }
+
+    /**
+     * Refile the slot of every level whose window starts at the current tick one level down.
+     * Higher levels go first so their entries can fall all the way to level 0.
+     */
+    private void cascade() {
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            int shift = SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            Entry<K> entry = wheels[level][(int) ((currentTick >>> shift) & SLOT_MASK)].detachAll();
+            while (entry != null) {
+                Entry<K> next = entry.next;
+                entry.next = null;
+                if (entries.get(entry.key) == entry) {
+                    file(entry);
+                }
+                entry = next;
+            }
+        }
+    }
+
+    private void file(Entry<K> entry) {
+        long delta = entry.expiryTick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if (delta < 1L << (shift + SLOT_BITS)) {
+                // Entries cascading down on their own expiry tick land in the slot about to be drained
+                int index = (int) ((Math.max(entry.expiryTick, currentTick) >>> shift) & SLOT_MASK);
+                wheels[level][index].link(entry);
+                return;
+            }
+        }
+        // Beyond the top level: park in the last slot of its current rotation and refile from there
+        int shift = SLOT_BITS * (LEVELS - 1);
+        wheels[LEVELS - 1][(int) (((currentTick >>> shift) - 1) & SLOT_MASK)].link(entry);
+    }
+
+    private static final class Entry<K> {
+
+        private final K key;
+        private final long expiryTick;
+        private Slot<K> slot;
+        private Entry<K> prev;
+        private Entry<K> next;
+
+        private Entry(K key, long expiryTick) {
+            this.key = key;
+            this.expiryTick = expiryTick;
+        }
+    }
+
+    /**
+     * Doubly linked list of entries, so cancelling does not search the slot.
+     */
+    private static final class Slot<K> {
+
+        private Entry<K> head;
+
+        private void link(Entry<K> entry) {
+            entry.slot = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        private void unlink(Entry<K> entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            }
+            entry.slot = null;
+            entry.prev = null;
+            entry.next = null;
+        }
+
+        /**
+         * Empty the slot and return its entries as a singly linked chain through {@code next}.
+         */
+        private Entry<K> detachAll() {
+            Entry<K> first = head;
+            for (Entry<K> entry = first; entry != null; entry = entry.next) {
+                entry.slot = null;
+                entry.prev = null;
+            }
+            head = null;
+            return first;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.opspilot.platform.sla.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Published when an OPEN or IN_PROGRESS work item passes its due date.
+ * Published outside any transaction from the deadline timer thread, once per deadline; a work
+ * item whose due date is moved and missed again is reported again.
+ */
+@Value
+@Builder
+public class WorkItemSlaBreachedEvent {
+
+    UUID workItemId;
+    Instant detectedAt;
+}
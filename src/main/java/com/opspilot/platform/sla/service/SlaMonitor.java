@@ -0,0 +1,232 @@
+package com.opspilot.platform.sla.service;
+
+import com.opspilot.platform.sla.SlaProperties;
+import com.opspilot.platform.sla.TimerWheel;
+import com.opspilot.platform.sla.event.WorkItemSlaBreachedEvent;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.event.WorkItemChangedEvent;
+import com.opspilot.platform.workitem.repository.WorkItemDeadline;
+import com.opspilot.platform.workitem.repository.WorkItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Detects work items that pass their due date.
+ * Upcoming deadlines of OPEN and IN_PROGRESS items are held in a {@link TimerWheel}: loaded from
+ * the (status, due_at) index at startup and kept current from committed work item changes, so
+ * breaches are found by advancing the wheel once per tick rather than by querying the table.
+ * Items already overdue when the wheel is loaded are counted but not reported again.
+ *
+ * <p>A replica's wheel hears only of changes made on that replica, so expired deadlines are
+ * checked against the table before they are reported: an item another replica resolved is
+ * dropped, and one whose due date it moved is rescheduled. Every replica that tracks an item
+ * reports its breach, so consumers of {@link WorkItemSlaBreachedEvent} must tolerate repeats.
+ */
+@Service
+@Slf4j
+public class SlaMonitor {
+
+    /**
+     * Statuses in which a work item can breach its due date.
+     */
+    public static final Set<WorkItemStatus> TRACKED_STATUSES = EnumSet.of(WorkItemStatus.OPEN, WorkItemStatus.IN_PROGRESS);
+
+    /**
+     * Expired deadlines checked against the table per query.
+     */
+    private static final int RECHECK_BATCH_SIZE = 500;
+
+    private final WorkItemRepository workItemRepository;
+    private final SlaProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TimerWheel<UUID> deadlines;
+    private final Counter breachCounter;
+
+    public SlaMonitor(WorkItemRepository workItemRepository,
+                      SlaProperties properties,
+                      ApplicationEventPublisher eventPublisher,
+                      MeterRegistry meterRegistry) {
+        this.workItemRepository = workItemRepository;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.deadlines = new TimerWheel<>(properties.getTick().toMillis(), System.currentTimeMillis());
+
+        this.breachCounter = meterRegistry.counter("opspilot.sla.breaches");
+        Gauge.builder("opspilot.sla.pending", this, SlaMonitor::pendingDeadlines)
+                .description("Work item deadlines waiting in the timer wheel")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reload deadlines from the database. Runs at startup and after writes that bypass the work
+     * item service, such as bulk imports. Changes committed while loading wait for the lock and
+     * are applied on top, so none are lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int overdue = 0;
+        lock.lock();
+        try {
+            deadlines.clear();
+            try (Stream<WorkItemDeadline> stream = workItemRepository.streamDeadlines(TRACKED_STATUSES)) {
+                Iterator<WorkItemDeadline> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    WorkItemDeadline deadline = iterator.next();
+                    if (!deadlines.schedule(deadline.getId(), toEpochMillis(deadline.getDueAt()))) {
+                        overdue++;
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.info("Tracking {} work item deadlines; {} items already overdue", pendingDeadlines(), overdue);
+    }
+
+    /**
+     * Advance the timer wheel and report the deadlines that passed since the previous tick.
+     */
+    @Scheduled(fixedRateString = "${opspilot.sla.tick:1s}")
+    public void tick() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<UUID> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            deadlines.advance(System.currentTimeMillis(), expired::add);
+        } finally {
+            lock.unlock();
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        List<UUID> breached = confirmBreaches(expired);
+        if (breached.isEmpty()) {
+            return;
+        }
+
+        Instant detectedAt = Instant.now();
+        for (UUID workItemId : breached) {
+            log.debug("Work item {} is overdue", workItemId);
+            eventPublisher.publishEvent(WorkItemSlaBreachedEvent.builder()
+                    .workItemId(workItemId)
+                    .detectedAt(detectedAt)
+                    .build());
+        }
+        breachCounter.increment(breached.size());
+        log.info("{} work items passed their due date", breached.size());
+    }
+
+    /**
+     * Keep the expired deadlines that are still current in the table. Deadlines that moved are
+     * rescheduled; if the table cannot be read, all of them are retried on the next tick.
+     *
+     * @param expired work items whose deadline passed in the wheel
+     * @return work items that are still open and past their due date
+     */
+    private List<UUID> confirmBreaches(List<UUID> expired) {
+        Map<UUID, LocalDateTime> current = new HashMap<>();
+        try {
+            for (int from = 0; from < expired.size(); from += RECHECK_BATCH_SIZE) {
+                List<UUID> ids = expired.subList(from, Math.min(from + RECHECK_BATCH_SIZE, expired.size()));
+                for (WorkItemDeadline deadline : workItemRepository.findDeadlines(ids, TRACKED_STATUSES)) {
+                    current.put(deadline.getId(), deadline.getDueAt());
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Checking {} expired deadlines failed, retrying next tick: {}", expired.size(), e.getMessage());
+            long retryAt = System.currentTimeMillis() + properties.getTick().toMillis();
+            lock.lock();
+            try {
+                expired.forEach(workItemId -> deadlines.schedule(workItemId, retryAt));
+            } finally {
+                lock.unlock();
+            }
+            return List.of();
+        }
+
+        List<UUID> breached = new ArrayList<>();
+        lock.lock();
+        try {
+            for (UUID workItemId : expired) {
+                LocalDateTime dueAt = current.get(workItemId);
+                // Absent: resolved or undated on another replica. Not overdue: its due date moved
+                if (dueAt != null && !deadlines.schedule(workItemId, toEpochMillis(dueAt))) {
+                    breached.add(workItemId);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return breached;
+    }
+
+    /**
+     * Track, move or drop the deadline of a committed work item change.
+     *
+     * @param event the domain event
+     */
+    @TransactionalEventListener
+    public void onWorkItemChanged(WorkItemChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime dueAt = event.getSnapshot() != null ? event.getSnapshot().getDueAt() : null;
+        lock.lock();
+        try {
+            if (dueAt != null && TRACKED_STATUSES.contains(event.getStatus())) {
+                deadlines.schedule(event.getWorkItemId(), toEpochMillis(dueAt));
+            } else {
+                deadlines.cancel(event.getWorkItemId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of deadlines waiting in the timer wheel
+     */
+    public int pendingDeadlines() {
+        lock.lock();
+        try {
+            return deadlines.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,49 @@
+package com.opspilot.platform.transfer;
+
+import java.util.Locale;
+
+/**
+ * Enum representing the file formats supported for bulk work item export and import.
+ */
+public enum TransferFormat {
+    /**
+     * Comma-separated values with a header row (RFC 4180 quoting)
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * Newline-delimited JSON, one object per line
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    TransferFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parse a format request parameter, ignoring case.
+     *
+     * @param value the parameter value
+     * @return the matching format
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static TransferFormat fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported format: " + value + " (expected csv or ndjson)");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.opspilot.platform.transfer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for bulk work item export and import.
+ */
+@Data
+@ConfigurationProperties(prefix = "opspilot.transfer")
+public class TransferProperties {
+
+    /**
+     * Rows read per query and short read-only transaction during an export. The connection is
+     * returned to the pool before each chunk is written to the client.
+     */
+    private int exportChunkSize = 1000;
+
+    /**
+     * Rows inserted per JDBC batch and per transaction during an import.
+     */
+    private int importChunkSize = 1000;
+
+    /**
+     * Row errors listed in an import report; further errors are only counted.
+     */
+    private int maxReportedErrors = 1000;
+}
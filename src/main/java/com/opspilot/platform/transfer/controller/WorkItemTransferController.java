@@ -0,0 +1,140 @@
+package com.opspilot.platform.transfer.controller;
+
+import com.opspilot.platform.exception.DomainValidationException;
+import com.opspilot.platform.transfer.TransferFormat;
+import com.opspilot.platform.transfer.dto.ImportReport;
+import com.opspilot.platform.transfer.dto.WorkItemExportFilter;
+import com.opspilot.platform.transfer.service.WorkItemExportService;
+import com.opspilot.platform.transfer.service.WorkItemImportService;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.service.EmployeeService;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Admin controller for bulk work item export and import.
+ * Available only to ADMIN role.
+ */
+@RestController
+@RequestMapping("/api/admin/workitems")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Work Item Transfer", description = "Bulk work item export and import (ADMIN only)")
+@SecurityRequirement(name = "bearerAuth")
+public class WorkItemTransferController {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final WorkItemExportService workItemExportService;
+    private final WorkItemImportService workItemImportService;
+    private final EmployeeService employeeService;
+
+    /**
+     * Stream all work items matching the filters as a file download.
+     *
+     * @param format csv or ndjson (default csv)
+     * @param gzip whether to gzip the download (default false)
+     * @param status restrict to one status (optional)
+     * @param assignedToId restrict to one assignee (optional)
+     * @param createdById restrict to one creator (optional)
+     * @param employeeId restrict to items created by or assigned to this employee (optional)
+     * @param includeArchived whether to include archived work items (default false)
+     * @return streaming response body
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export work items", description = "Stream work items as CSV or NDJSON, optionally gzipped (ADMIN only)")
+    public ResponseEntity<StreamingResponseBody> exportWorkItems(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) UUID assignedToId,
+            @RequestParam(required = false) UUID createdById,
+            @RequestParam(required = false) UUID employeeId,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        TransferFormat transferFormat = TransferFormat.fromParameter(format);
+        WorkItemExportFilter filter = WorkItemExportFilter.builder()
+                .status(status != null ? parseStatus(status) : null)
+                .assignedToId(assignedToId)
+                .createdById(createdById)
+                .employeeId(employeeId)
+                .includeArchived(includeArchived)
+                .build();
+        log.debug("Export work items request - Format: {}, Gzip: {}, Filter: {}", transferFormat, gzip, filter);
+
+        String filename = "workitems-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + transferFormat.getExtension()
+                + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024);
+                workItemExportService.export(filter, transferFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                workItemExportService.export(filter, transferFormat, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : transferFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Import work items from a CSV or NDJSON request body, as produced by the export endpoint.
+     * The body is read as a stream; rows that fail validation are reported and skipped.
+     *
+     * @param format csv or ndjson (default csv)
+     * @param body raw upload body
+     * @param authentication current authenticated admin, the default creator of imported items
+     * @return import report with per-row errors
+     * @throws IOException if reading the upload fails
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import work items", description = "Bulk create work items from a CSV or NDJSON upload (ADMIN only)")
+    public ResponseEntity<ImportReport> importWorkItems(
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream body,
+            Authentication authentication) throws IOException {
+
+        TransferFormat transferFormat = TransferFormat.fromParameter(format);
+        Employee importer = employeeService.findEmployeeEntityByEmail(authentication.getName());
+        log.debug("Import work items request from: {} - Format: {}", importer.getEmail(), transferFormat);
+
+        ImportReport report = workItemImportService.importWorkItems(body, transferFormat, importer);
+
+        log.info("Work item import completed: {} imported, {} failed", report.getImported(), report.getFailed());
+        return ResponseEntity.ok(report);
+    }
+
+    private static WorkItemStatus parseStatus(String status) {
+        try {
+            return WorkItemStatus.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new DomainValidationException("Invalid status value: " + status);
+        }
+    }
+}
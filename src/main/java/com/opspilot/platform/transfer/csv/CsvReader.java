@@ -0,0 +1,91 @@
+package com.opspilot.platform.transfer.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal incremental RFC 4180 CSV reader. Reads one record at a time, so memory use is bounded by
+ * the longest record rather than the input size. Quoted fields may contain commas, doubled quotes
+ * and line breaks; both CRLF and LF end a record.
+ */
+public class CsvReader {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private int pushedBack = -2;
+
+    /**
+     * @param reader source of CSV text; wrap in a BufferedReader for performance
+     */
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return the record's fields, or null at end of input
+     * @throws IOException if reading fails
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == EOF) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldWasQuoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty() && !fieldWasQuoted) {
+                quoted = true;
+                fieldWasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldWasQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
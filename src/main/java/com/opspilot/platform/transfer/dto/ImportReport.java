@@ -0,0 +1,25 @@
+package com.opspilot.platform.transfer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO summarising a bulk work item import.
+ * Only the first errors are listed; {@code errorsTruncated} is set when more rows failed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReport {
+
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private List<ImportRowError> errors;
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,20 @@
+package com.opspilot.platform.transfer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO describing why one row of an import was rejected.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+
+    /**
+     * 1-based data row number, not counting the CSV header.
+     */
+    private long row;
+    private String message;
+}
@@ -0,0 +1,28 @@
+package com.opspilot.platform.transfer.dto;
+
+import com.opspilot.platform.workitem.WorkItemStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Filter for work item exports. Null fields do not restrict the export.
+ */
+@Value
+@Builder
+public class WorkItemExportFilter {
+
+    WorkItemStatus status;
+
+    UUID assignedToId;
+
+    UUID createdById;
+
+    /**
+     * Restrict to items created by or assigned to this employee, like the "my work items" endpoints.
+     */
+    UUID employeeId;
+
+    boolean includeArchived;
+}
@@ -0,0 +1,424 @@
+package com.opspilot.platform.transfer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opspilot.platform.assignment.service.AutoAssignmentService;
+import com.opspilot.platform.rollup.WorkItemRollup;
+import com.opspilot.platform.rollup.service.RollupRecorder;
+import com.opspilot.platform.sla.service.SlaMonitor;
+import com.opspilot.platform.transfer.TransferFormat;
+import com.opspilot.platform.transfer.TransferProperties;
+import com.opspilot.platform.transfer.csv.CsvReader;
+import com.opspilot.platform.transfer.dto.ImportReport;
+import com.opspilot.platform.transfer.dto.ImportRowError;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Imports work items from a CSV or NDJSON upload.
+ * The upload is parsed one row at a time and written in JDBC batches, one transaction per chunk,
+ * so memory use depends on the chunk size and the number of employees, not on the file size.
+ * Invalid rows are skipped and reported; they never roll back other rows.
+ *
+ * <p>Accepted fields, by export column name: {@code title} (required), {@code description},
+ * {@code status} (default OPEN), {@code created_by_email} (default the importing employee),
+ * {@code assigned_to_email}, {@code due_at} (ISO date-time, default none), {@code created_at} and
+ * {@code updated_at} (ISO date-time, default now).
+ * Other fields such as {@code id} are ignored; imported items always get new ids.
+ *
+ * <p>Imported items bypass the work item service, so no change events or outbox messages are
+ * produced; throughput rollups are updated directly, the same way a rollup backfill counts them,
+ * and the operator load index and SLA deadlines are rebuilt once the import finishes.
+ */
+@Service
+@Slf4j
+public class WorkItemImportService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO work_items (id, title, description, status, created_by_id, assigned_to_id, due_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RollupRecorder rollupRecorder;
+    private final AutoAssignmentService autoAssignmentService;
+    private final SlaMonitor slaMonitor;
+    private final ObjectMapper objectMapper;
+    private final TransferProperties properties;
+    private final Counter importedRowsCounter;
+    private final Counter failedRowsCounter;
+
+    public WorkItemImportService(DataSource dataSource,
+                                 PlatformTransactionManager transactionManager,
+                                 RollupRecorder rollupRecorder,
+                                 AutoAssignmentService autoAssignmentService,
+                                 SlaMonitor slaMonitor,
+                                 ObjectMapper objectMapper,
+                                 TransferProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rollupRecorder = rollupRecorder;
+        this.autoAssignmentService = autoAssignmentService;
+        this.slaMonitor = slaMonitor;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.importedRowsCounter = meterRegistry.counter("opspilot.transfer.imported.rows");
+        this.failedRowsCounter = meterRegistry.counter("opspilot.transfer.failed.rows");
+    }
+
+    /**
+     * Import work items from an upload.
+     *
+     * @param in       upload body; read to the end but not closed
+     * @param format   upload format
+     * @param importer employee performing the import, used as creator when a row has none
+     * @return import report with per-row errors
+     * @throws IOException if reading the upload fails
+     * @throws IllegalArgumentException if a CSV upload has no header or no title column
+     */
+    public ImportReport importWorkItems(InputStream in, TransferFormat format, Employee importer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        Map<String, UUID> employeeIds = loadEmployeeIds();
+        ImportProgress progress = new ImportProgress(properties.getMaxReportedErrors());
+
+        List<PendingRow> chunk = new ArrayList<>(properties.getImportChunkSize());
+        try {
+            Iterator<ImportRecord> records = format == TransferFormat.CSV ? new CsvRecords(reader) : new NdjsonRecords(reader);
+            while (records.hasNext()) {
+                ImportRecord record = records.next();
+                progress.totalRows++;
+                try {
+                    chunk.add(toPendingRow(record, employeeIds, importer));
+                } catch (IllegalArgumentException e) {
+                    progress.fail(record.row(), e.getMessage());
+                }
+                if (chunk.size() >= properties.getImportChunkSize()) {
+                    writeChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writeChunk(chunk, progress);
+        if (progress.imported > 0) {
+            autoAssignmentService.rebuild();
+            slaMonitor.rebuild();
+        }
+
+        importedRowsCounter.increment(progress.imported);
+        failedRowsCounter.increment(progress.failed);
+        log.info("Imported {} of {} work items as {} ({} failed)",
+                progress.imported, progress.totalRows, format, progress.failed);
+
+        return ImportReport.builder()
+                .totalRows(progress.totalRows)
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .errors(progress.errors)
+                .errorsTruncated(progress.failed > progress.errors.size())
+                .build();
+    }
+
+    private Map<String, UUID> loadEmployeeIds() {
+        Map<String, UUID> employeeIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, email FROM employees", rs -> {
+            employeeIds.put(rs.getString(2).toLowerCase(Locale.ROOT), rs.getObject(1, UUID.class));
+        });
+        return employeeIds;
+    }
+
+    private PendingRow toPendingRow(ImportRecord record, Map<String, UUID> employeeIds, Employee importer) {
+        if (record.parseError() != null) {
+            throw new IllegalArgumentException(record.parseError());
+        }
+        Map<String, String> fields = record.fields();
+
+        String title = trimToNull(fields.get("title"));
+        if (title == null) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("Title must not exceed " + MAX_TITLE_LENGTH + " characters");
+        }
+        String description = trimToNull(fields.get("description"));
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("Description must not exceed " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+
+        String statusValue = trimToNull(fields.get("status"));
+        WorkItemStatus status;
+        try {
+            status = statusValue != null ? WorkItemStatus.valueOf(statusValue.toUpperCase(Locale.ROOT)) : WorkItemStatus.OPEN;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status value: " + statusValue);
+        }
+
+        String creatorEmail = trimToNull(fields.get("created_by_email"));
+        UUID createdById = creatorEmail != null ? resolveEmployee(employeeIds, creatorEmail) : importer.getId();
+        String assigneeEmail = trimToNull(fields.get("assigned_to_email"));
+        UUID assignedToId = assigneeEmail != null ? resolveEmployee(employeeIds, assigneeEmail) : null;
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueAt = parseTimestamp(fields.get("due_at"), "due_at", null);
+        LocalDateTime createdAt = parseTimestamp(fields.get("created_at"), "created_at", now);
+        LocalDateTime updatedAt = parseTimestamp(fields.get("updated_at"), "updated_at", createdAt.isAfter(now) ? createdAt : now);
+
+        return new PendingRow(record.row(), UUID.randomUUID(), title, description, status,
+                createdById, assignedToId, dueAt, createdAt, updatedAt);
+    }
+
+    private static UUID resolveEmployee(Map<String, UUID> employeeIds, String email) {
+        UUID id = employeeIds.get(email.toLowerCase(Locale.ROOT));
+        if (id == null) {
+            throw new IllegalArgumentException("Employee not found with email: " + email);
+        }
+        return id;
+    }
+
+    private static LocalDateTime parseTimestamp(String value, String field, LocalDateTime defaultValue) {
+        String trimmed = trimToNull(value);
+        if (trimmed == null) {
+            return defaultValue;
+        }
+        try {
+            return LocalDateTime.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + field + " value: " + trimmed);
+        }
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * Insert a chunk in one JDBC batch and transaction. If the batch fails, the chunk is retried
+     * row by row so only the offending rows are reported.
+     */
+    private void writeChunk(List<PendingRow> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(chunk));
+            progress.imported += chunk.size();
+        } catch (DataAccessException batchFailure) {
+            log.debug("Import batch failed, retrying rows individually: {}", batchFailure.getMessage());
+            for (PendingRow row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(row)));
+                    progress.imported++;
+                } catch (DataAccessException e) {
+                    progress.fail(row.row(), "Could not store row: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void insert(List<PendingRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setObject(1, row.id());
+            ps.setString(2, row.title());
+            ps.setString(3, row.description());
+            ps.setString(4, row.status().name());
+            ps.setObject(5, row.createdById());
+            ps.setObject(6, row.assignedToId());
+            ps.setTimestamp(7, row.dueAt() != null ? Timestamp.valueOf(row.dueAt()) : null);
+            ps.setTimestamp(8, Timestamp.valueOf(row.createdAt()));
+            ps.setTimestamp(9, Timestamp.valueOf(row.updatedAt()));
+        });
+
+        Map<RollupKey, long[]> increments = new HashMap<>();
+        for (PendingRow row : rows) {
+            UUID assignee = row.assignedToId() != null ? row.assignedToId() : WorkItemRollup.UNASSIGNED;
+            increments.computeIfAbsent(new RollupKey(row.createdAt().truncatedTo(ChronoUnit.HOURS), assignee),
+                    key -> new long[3])[0]++;
+            if (row.status() == WorkItemStatus.COMPLETED || row.status() == WorkItemStatus.REJECTED) {
+                long[] counts = increments.computeIfAbsent(
+                        new RollupKey(row.updatedAt().truncatedTo(ChronoUnit.HOURS), assignee), key -> new long[3]);
+                counts[row.status() == WorkItemStatus.COMPLETED ? 1 : 2]++;
+            }
+        }
+        increments.forEach((key, counts) ->
+                rollupRecorder.increment(key.bucketStart(), key.assigneeId(), counts[0], counts[1], counts[2]));
+    }
+
+    private record ImportRecord(long row, Map<String, String> fields, String parseError) {
+    }
+
+    private record PendingRow(long row, UUID id, String title, String description, WorkItemStatus status,
+                              UUID createdById, UUID assignedToId, LocalDateTime dueAt,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    private record RollupKey(LocalDateTime bucketStart, UUID assigneeId) {
+    }
+
+    private static final class ImportProgress {
+
+        private final int maxReportedErrors;
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long failed;
+
+        ImportProgress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void fail(long row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportRowError(row, message));
+            }
+        }
+    }
+
+    private static final class CsvRecords implements Iterator<ImportRecord> {
+
+        private final CsvReader csv;
+        private final List<String> header;
+        private List<String> next;
+        private String nextError;
+        private long row;
+
+        CsvRecords(BufferedReader reader) throws IOException {
+            this.csv = new CsvReader(reader);
+            List<String> headerRecord = csv.readRecord();
+            if (headerRecord == null) {
+                throw new IllegalArgumentException("CSV upload is empty; a header row is required");
+            }
+            this.header = headerRecord.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+            if (!header.contains("title")) {
+                throw new IllegalArgumentException("CSV header must contain a title column");
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null || nextError != null;
+        }
+
+        @Override
+        public ImportRecord next() {
+            row++;
+            ImportRecord record;
+            if (nextError != null) {
+                record = new ImportRecord(row, Map.of(), nextError);
+            } else {
+                Map<String, String> fields = new HashMap<>();
+                for (int i = 0; i < header.size() && i < next.size(); i++) {
+                    fields.put(header.get(i), next.get(i));
+                }
+                record = new ImportRecord(row, fields,
+                        next.size() > header.size() ? "Row has more fields than the header" : null);
+            }
+            advance();
+            return record;
+        }
+
+        private void advance() {
+            next = null;
+            nextError = null;
+            try {
+                List<String> record;
+                do {
+                    record = csv.readRecord();
+                } while (record != null && record.size() == 1 && record.get(0).isEmpty());
+                next = record;
+            } catch (IllegalArgumentException e) {
+                nextError = e.getMessage();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private final class NdjsonRecords implements Iterator<ImportRecord> {
+
+        private final BufferedReader reader;
+        private String nextLine;
+        private long row;
+
+        NdjsonRecords(BufferedReader reader) {
+            this.reader = reader;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public ImportRecord next() {
+            row++;
+            String line = nextLine;
+            advance();
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!node.isObject()) {
+                    return new ImportRecord(row, Map.of(), "Line is not a JSON object");
+                }
+                Map<String, String> fields = new HashMap<>();
+                node.fields().forEachRemaining(field -> {
+                    if (!field.getValue().isNull()) {
+                        fields.put(field.getKey().toLowerCase(Locale.ROOT), field.getValue().asText());
+                    }
+                });
+                return new ImportRecord(row, fields, null);
+            } catch (JsonProcessingException e) {
+                return new ImportRecord(row, Map.of(), "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        private void advance() {
+            try {
+                do {
+                    nextLine = reader.readLine();
+                } while (nextLine != null && nextLine.isBlank());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -5,7 +5,11 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -15,11 +19,18 @@ import java.util.UUID;
 /**
  * Entity representing an employee in the OpsPilot platform.
  * Employees are users who have access to the system with specific roles and permissions.
+ * Cached in the second-level cache by id and by email (natural id), since employees are
+ * read on nearly every request but rarely change.
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employees")
+@NaturalIdCache(region = "employees-by-email")
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "employees", uniqueConstraints = {
     @UniqueConstraint(columnNames = "email")
+}, indexes = {
+    @Index(name = "idx_employees_tokens_valid_after", columnList = "tokens_valid_after"),
+    @Index(name = "idx_employees_role_email", columnList = "role, email")
 })
 @Getter
 @Setter
@@ -37,6 +48,7 @@ public class Employee {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email must be valid")
+    @NaturalId(mutable = true)
     @Column(name = "email", nullable = false, unique = true, length = 255)
     private String email;
 
@@ -57,6 +69,12 @@ public class Employee {
     @Builder.Default
     private Boolean active = true;
 
+    /**
+     * Tokens issued at or before this time are rejected; set when the employee is deactivated.
+     */
+    @Column(name = "tokens_valid_after")
+    private LocalDateTime tokensValidAfter;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,240 @@
+package com.opspilot.platform.user;
+
+import com.opspilot.platform.user.dto.DirectoryEntry;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over employee names and emails, for autocomplete.
+ * Every employee contributes a few normalized keys (the full name, each later word of it and
+ * the email) to one sorted array, so a lookup is a binary search for the prefix followed by a
+ * scan of the matching range. Readers use an immutable snapshot without locking; writers build
+ * the next snapshot under a lock, merging a changed employee's keys in linear time instead of
+ * sorting again, and publish it with a single volatile write.
+ */
+public class EmployeePrefixIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Writer-only: slot of each indexed employee in the snapshot's entry array
+    private final Map<UUID, Integer> slotById = new HashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(new String[0], new int[0], new DirectoryEntry[0]);
+
+    /**
+     * Replace the index contents.
+     *
+     * @param entries every employee
+     */
+    public void rebuild(Collection<DirectoryEntry> entries) {
+        lock.lock();
+        try {
+            slotById.clear();
+            DirectoryEntry[] slots = new DirectoryEntry[entries.size()];
+            List<Key> keys = new ArrayList<>(entries.size() * 3);
+            for (DirectoryEntry entry : entries) {
+                int slot = slotById.size();
+                slotById.put(entry.getId(), slot);
+                slots[slot] = entry;
+                for (String text : keysOf(entry)) {
+                    keys.add(new Key(text, slot));
+                }
+            }
+            keys.sort(Key.ORDER);
+            snapshot = toSnapshot(keys, slots);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add an employee or replace its indexed state.
+     *
+     * @param entry the employee's current state
+     */
+    public void upsert(DirectoryEntry entry) {
+        lock.lock();
+        try {
+            Snapshot current = snapshot;
+            Integer existing = slotById.get(entry.getId());
+            int slot = existing != null ? existing : current.entries.length;
+            DirectoryEntry[] slots = Arrays.copyOf(current.entries, Math.max(current.entries.length, slot + 1));
+            slots[slot] = entry;
+            slotById.put(entry.getId(), slot);
+
+            List<Key> added = new ArrayList<>();
+            for (String text : keysOf(entry)) {
+                added.add(new Key(text, slot));
+            }
+            added.sort(Key.ORDER);
+            snapshot = merge(current, existing != null ? slot : -1, added, slots);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove an employee. Its slot stays empty until the next rebuild.
+     *
+     * @param employeeId the employee
+     */
+    public void remove(UUID employeeId) {
+        lock.lock();
+        try {
+            Integer slot = slotById.remove(employeeId);
+            if (slot == null) {
+                return;
+            }
+            Snapshot current = snapshot;
+            DirectoryEntry[] slots = current.entries.clone();
+            slots[slot] = null;
+            snapshot = merge(current, slot, List.of(), slots);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Find employees with a name word, the full name or the email starting with a prefix,
+     * in key order. Case and accents are ignored.
+     *
+     * @param prefix the typed text
+     * @param limit  maximum results
+     * @param filter which employees may be returned
+     * @return matching employees, each at most once
+     */
+    public List<DirectoryEntry> search(String prefix, int limit, Predicate<DirectoryEntry> filter) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        String[] keys = current.keys;
+        int from = Arrays.binarySearch(keys, normalized);
+        if (from < 0) {
+            from = -from - 1;
+        }
+
+        List<DirectoryEntry> results = new ArrayList<>(Math.min(limit, 16));
+        int[] seen = new int[limit];
+        for (int i = from; i < keys.length && keys[i].startsWith(normalized) && results.size() < limit; i++) {
+            DirectoryEntry entry = current.entries[current.slots[i]];
+            if (entry != null && !contains(seen, results.size(), current.slots[i]) && filter.test(entry)) {
+                seen[results.size()] = current.slots[i];
+                results.add(entry);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return number of indexed employees
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Normalize text for indexing and lookup: accents stripped, lower case, single spaces.
+     *
+     * @param text the text
+     * @return normalized text
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(stripped.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+
+    private static Set<String> keysOf(DirectoryEntry entry) {
+        Set<String> keys = new LinkedHashSet<>();
+        String name = normalize(entry.getFullName());
+        if (!name.isEmpty()) {
+            // The full name matches prefixes spanning words; later words match a surname on its own
+            keys.add(name);
+            String[] words = name.split(" ");
+            for (int i = 1; i < words.length; i++) {
+                keys.add(words[i]);
+            }
+        }
+        String email = normalize(entry.getEmail());
+        if (!email.isEmpty()) {
+            keys.add(email);
+        }
+        return keys;
+    }
+
+    /**
+     * Drop the keys of one slot from a snapshot and merge in sorted new keys, in one pass.
+     */
+    private static Snapshot merge(Snapshot current, int droppedSlot, List<Key> added, DirectoryEntry[] slots) {
+        List<Key> merged = new ArrayList<>(current.keys.length + added.size());
+        int a = 0;
+        for (int i = 0; i < current.keys.length; i++) {
+            if (current.slots[i] == droppedSlot) {
+                continue;
+            }
+            Key key = new Key(current.keys[i], current.slots[i]);
+            while (a < added.size() && Key.ORDER.compare(added.get(a), key) < 0) {
+                merged.add(added.get(a++));
+            }
+            merged.add(key);
+        }
+        while (a < added.size()) {
+            merged.add(added.get(a++));
+        }
+        return toSnapshot(merged, slots);
+    }
+
+    private static Snapshot toSnapshot(List<Key> keys, DirectoryEntry[] slots) {
+        String[] texts = new String[keys.size()];
+        int[] keySlots = new int[keys.size()];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = keys.get(i).text();
+            keySlots[i] = keys.get(i).slot();
+        }
+        return new Snapshot(texts, keySlots, slots);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Key(String text, int slot) {
+
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::text).thenComparingInt(Key::slot);
+    }
+
+    /**
+     * Sorted keys with the slot of the employee each belongs to, and the employees by slot.
+     */
+    private record Snapshot(String[] keys, int[] slots, DirectoryEntry[] entries) {
+    }
+}
@@ -1,7 +1,12 @@
 package com.opspilot.platform.user.controller;
 
+import com.opspilot.platform.observability.SqlBudget;
 import com.opspilot.platform.user.AccessRole;
+import com.opspilot.platform.user.dto.DirectoryEntry;
+import com.opspilot.platform.user.dto.DirectoryPage;
 import com.opspilot.platform.user.dto.EmployeeResponse;
+import com.opspilot.platform.user.service.EmployeeDirectoryService;
+import com.opspilot.platform.user.service.EmployeeSearchService;
 import com.opspilot.platform.user.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -12,16 +17,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Admin-only controller for employee discovery and visibility.
- * Provides endpoints to list and retrieve employees for assignment and oversight.
+ * Provides endpoints to list and retrieve employees for assignment and oversight, and to
+ * deactivate them. Listings are served from the directory read model and carry an ETag that
+ * changes with any employee change, so unchanged lists are answered with 304 Not Modified.
  */
 @RestController
 @RequestMapping("/api/admin/employees")
@@ -32,6 +41,8 @@ import java.util.UUID;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeDirectoryService directoryService;
+    private final EmployeeSearchService searchService;
 
     /**
      * Get paginated list of all employees.
@@ -40,16 +51,24 @@ public class EmployeeController {
      * @param size page size (default 20)
      * @param sortBy field to sort by (default "createdAt")
      * @param direction sort direction (asc/desc, default desc)
-     * @return page of EmployeeResponse
+     * @param webRequest request, for conditional GET
+     * @return page of directory entries
      */
     @GetMapping
+    @SqlBudget(maxStatements = 2)
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "List employees (paginated)", description = "Retrieve paginated list of all employees (ADMIN only)")
-    public ResponseEntity<Page<EmployeeResponse>> getEmployees(
+    public ResponseEntity<Page<DirectoryEntry>> getEmployees(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            WebRequest webRequest) {
+
+        String eTag = directoryService.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
 
         Sort sort = direction.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
@@ -57,24 +76,84 @@ public class EmployeeController {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<EmployeeResponse> employees = employeeService.getAllEmployees(pageable);
+        Page<DirectoryEntry> employees = directoryService.getDirectory(pageable);
+
+        log.debug("Retrieved page {} of employees, size {}", page, employees.getNumberOfElements());
+        return ResponseEntity.ok().eTag(eTag).body(employees);
+    }
+
+    /**
+     * Get a page of the employee directory in email order, for walking large orgs.
+     *
+     * @param role optional access role to filter by
+     * @param after cursor from the previous page's nextCursor; omit for the first page
+     * @param size page size (default 100, at most 1000)
+     * @param webRequest request, for conditional GET
+     * @return page of directory entries with the cursor of the next page
+     */
+    @GetMapping("/directory")
+    @SqlBudget(maxStatements = 1)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Employee directory (keyset paginated)",
+               description = "Walk the directory in email order using the cursor of the previous page (ADMIN only)")
+    public ResponseEntity<DirectoryPage> getDirectory(
+            @RequestParam(required = false) AccessRole role,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int size,
+            WebRequest webRequest) {
+
+        String eTag = directoryService.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
 
-        log.info("Retrieved page {} of employees, size {}", page, employees.getNumberOfElements());
-        return ResponseEntity.ok(employees);
+        DirectoryPage directoryPage = directoryService.getDirectoryPage(role, after, size);
+
+        log.debug("Retrieved {} directory entries after cursor {}", directoryPage.getContent().size(), after);
+        return ResponseEntity.ok().eTag(eTag).body(directoryPage);
+    }
+
+    /**
+     * Autocomplete employees by the start of a name word, the full name or the email.
+     *
+     * @param q the typed text
+     * @param role optional access role to filter by
+     * @param includeInactive also return deactivated employees (default false)
+     * @param limit maximum results (default 10, at most 50)
+     * @return matching employees
+     */
+    @GetMapping("/search")
+    @SqlBudget(maxStatements = 0)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Search employees", description = "Autocomplete employees by name or email prefix (ADMIN only)")
+    public ResponseEntity<List<DirectoryEntry>> searchEmployees(
+            @RequestParam String q,
+            @RequestParam(required = false) AccessRole role,
+            @RequestParam(defaultValue = "false") boolean includeInactive,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.search(q, role, includeInactive ? null : Boolean.TRUE, limit));
     }
 
     /**
      * Get list of employees with OPERATOR role.
      *
-     * @return list of EmployeeResponse for OPERATOR employees
+     * @param webRequest request, for conditional GET
+     * @return directory entries of OPERATOR employees
      */
     @GetMapping("/operators")
+    @SqlBudget(maxStatements = 1)
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "List operators", description = "Retrieve all employees with OPERATOR role (ADMIN only)")
-    public ResponseEntity<List<EmployeeResponse>> getOperators() {
-        List<EmployeeResponse> operators = employeeService.getEmployeesByRole(AccessRole.OPERATOR);
-        log.info("Retrieved {} operators", operators.size());
-        return ResponseEntity.ok(operators);
+    public ResponseEntity<List<DirectoryEntry>> getOperators(WebRequest webRequest) {
+        // Taken before the roster, so a change in between yields a stale ETag rather than a stale body
+        String eTag = directoryService.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        List<DirectoryEntry> operators = directoryService.getRoster(AccessRole.OPERATOR);
+        log.debug("Retrieved {} operators", operators.size());
+        return ResponseEntity.ok().eTag(eTag).body(operators);
     }
 
     /**
@@ -88,8 +167,22 @@ public class EmployeeController {
     @Operation(summary = "Get employee by ID", description = "Retrieve employee details by ID (ADMIN only)")
     public ResponseEntity<EmployeeResponse> getEmployeeById(@PathVariable UUID id) {
         EmployeeResponse employee = employeeService.getEmployeeById(id);
-        log.info("Retrieved employee with ID: {}", id);
+        log.debug("Retrieved employee with ID: {}", id);
         return ResponseEntity.ok(employee);
     }
-}
 
+    /**
+     * Deactivate an employee and revoke their tokens.
+     *
+     * @param id employee ID
+     * @return EmployeeResponse
+     */
+    @PostMapping("/{id}/deactivate")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Deactivate employee", description = "Disable login and revoke issued tokens (ADMIN only)")
+    public ResponseEntity<EmployeeResponse> deactivateEmployee(@PathVariable UUID id) {
+        EmployeeResponse employee = employeeService.deactivateEmployee(id);
+        log.info("Employee {} deactivated", id);
+        return ResponseEntity.ok(employee);
+    }
+}
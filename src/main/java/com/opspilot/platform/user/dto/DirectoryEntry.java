@@ -0,0 +1,23 @@
+package com.opspilot.platform.user.dto;
+
+import com.opspilot.platform.user.AccessRole;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for the employee directory, projected straight from the employees table.
+ * Carries the public fields of {@link EmployeeResponse} and is immutable, so cached rosters
+ * can be shared between requests.
+ */
+@Value
+public class DirectoryEntry {
+
+    UUID id;
+    String email;
+    String fullName;
+    AccessRole role;
+    Boolean active;
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.opspilot.platform.user.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One page of the employee directory in email order.
+ * Pass {@code nextCursor} as {@code after} to read the following page; it is null on the last page.
+ */
+@Value
+@Builder
+public class DirectoryPage {
+
+    List<DirectoryEntry> content;
+    String nextCursor;
+}
@@ -0,0 +1,24 @@
+package com.opspilot.platform.user.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Domain event published by EmployeeService for every change to an employee.
+ * Published synchronously inside the service transaction, so listeners can either
+ * write in the same transaction or register for after-commit processing.
+ */
+@Value
+@Builder
+public class EmployeeChangedEvent {
+
+    EmployeeEventType type;
+    UUID employeeId;
+    String email;
+    LocalDateTime tokensValidAfter;
+    Instant occurredAt;
+}
@@ -0,0 +1,16 @@
+package com.opspilot.platform.user.event;
+
+/**
+ * Enum representing the kinds of changes made to an employee.
+ */
+public enum EmployeeEventType {
+    /**
+     * Employee was registered
+     */
+    REGISTERED,
+
+    /**
+     * Employee was deactivated and their tokens revoked
+     */
+    DEACTIVATED
+}
@@ -2,9 +2,16 @@ package com.opspilot.platform.user.repository;
 
 import com.opspilot.platform.user.AccessRole;
 import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.dto.DirectoryEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,7 +21,7 @@ import java.util.UUID;
  * Provides data access methods for employee management.
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
+public interface EmployeeRepository extends JpaRepository<Employee, UUID>, EmployeeRepositoryCustom {
 
     /**
      * Find an employee by their email address.
@@ -39,4 +46,90 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
      * @return List of employees with the given role
      */
     List<Employee> findByRole(AccessRole role);
+
+    /**
+     * Find token watermarks set after a point in time, using the tokens_valid_after index.
+     *
+     * @param since exclusive lower bound
+     * @return email and watermark of each matching employee
+     */
+    @Query("SELECT e.email AS email, e.tokensValidAfter AS tokensValidAfter FROM Employee e "
+            + "WHERE e.tokensValidAfter > :since")
+    List<TokenWatermark> findTokenWatermarksAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * Page through the directory with any sort, without loading entities.
+     *
+     * @param pageable pagination and sort information
+     * @return page of directory entries
+     */
+    @Query(value = "SELECT new com.opspilot.platform.user.dto.DirectoryEntry("
+            + "e.id, e.email, e.fullName, e.role, e.active, e.createdAt) FROM Employee e",
+           countQuery = "SELECT COUNT(e) FROM Employee e")
+    Page<DirectoryEntry> findDirectory(Pageable pageable);
+
+    /**
+     * Read the directory entry of one employee.
+     *
+     * @param id employee ID
+     * @return the entry, if the employee exists
+     */
+    @Query("SELECT new com.opspilot.platform.user.dto.DirectoryEntry("
+            + "e.id, e.email, e.fullName, e.role, e.active, e.createdAt) FROM Employee e WHERE e.id = :id")
+    Optional<DirectoryEntry> findDirectoryEntryById(@Param("id") UUID id);
+
+    /**
+     * Read the directory entries of all employees.
+     *
+     * @return directory entries
+     */
+    @Query("SELECT new com.opspilot.platform.user.dto.DirectoryEntry("
+            + "e.id, e.email, e.fullName, e.role, e.active, e.createdAt) FROM Employee e")
+    List<DirectoryEntry> findAllDirectoryEntries();
+
+    /**
+     * Read the directory entries of one role in email order, using the (role, email) index.
+     *
+     * @param role access role to filter by
+     * @return directory entries
+     */
+    @Query("SELECT new com.opspilot.platform.user.dto.DirectoryEntry("
+            + "e.id, e.email, e.fullName, e.role, e.active, e.createdAt) FROM Employee e "
+            + "WHERE e.role = :role ORDER BY e.email")
+    List<DirectoryEntry> findDirectoryByRole(@Param("role") AccessRole role);
+
+    /**
+     * Read directory entries after an email in email order, using the unique email index.
+     *
+     * @param after exclusive lower bound; empty for the first page
+     * @param limit maximum entries
+     * @return directory entries
+     */
+    @Query("SELECT new com.opspilot.platform.user.dto.DirectoryEntry("
+            + "e.id, e.email, e.fullName, e.role, e.active, e.createdAt) FROM Employee e "
+            + "WHERE e.email > :after ORDER BY e.email")
+    List<DirectoryEntry> findDirectoryAfter(@Param("after") String after, Limit limit);
+
+    /**
+     * Read directory entries of one role after an email in email order, using the (role, email) index.
+     *
+     * @param role  access role to filter by
+     * @param after exclusive lower bound; empty for the first page
+     * @param limit maximum entries
+     * @return directory entries
+     */
+    @Query("SELECT new com.opspilot.platform.user.dto.DirectoryEntry("
+            + "e.id, e.email, e.fullName, e.role, e.active, e.createdAt) FROM Employee e "
+            + "WHERE e.role = :role AND e.email > :after ORDER BY e.email")
+    List<DirectoryEntry> findDirectoryByRoleAfter(@Param("role") AccessRole role, @Param("after") String after,
+                                                  Limit limit);
+
+    /**
+     * Check an employee's role and active flag against the database, bypassing the entity cache.
+     *
+     * @param id   the employee
+     * @param role the expected role
+     * @return true if the employee exists, has the role and is active
+     */
+    boolean existsByIdAndRoleAndActiveTrue(UUID id, AccessRole role);
 }
@@ -0,0 +1,21 @@
+package com.opspilot.platform.user.repository;
+
+import com.opspilot.platform.user.Employee;
+
+import java.util.Optional;
+
+/**
+ * Custom repository fragment for Employee lookups that go through Hibernate's natural-id API.
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Find an employee by email using the natural-id cache.
+     * Unlike {@link EmployeeRepository#findByEmail(String)}, which always runs a query,
+     * this resolves email to id from the natural-id cache and the entity from the entity cache.
+     *
+     * @param email the email address to search for
+     * @return Optional containing the employee if found
+     */
+    Optional<Employee> findByNaturalEmail(String email);
+}
@@ -0,0 +1,26 @@
+package com.opspilot.platform.user.repository;
+
+import com.opspilot.platform.user.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Implementation of {@link EmployeeRepositoryCustom} backed by the Hibernate session.
+ */
+@Transactional(readOnly = true)
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Employee> findByNaturalEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Employee.class)
+                .loadOptional(email);
+    }
+}
@@ -0,0 +1,13 @@
+package com.opspilot.platform.user.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of an employee's token watermark.
+ */
+public interface TokenWatermark {
+
+    String getEmail();
+
+    LocalDateTime getTokensValidAfter();
+}
@@ -0,0 +1,55 @@
+package com.opspilot.platform.user.service;
+
+import com.opspilot.platform.cluster.InvalidationTopic;
+import com.opspilot.platform.cluster.service.InvalidationBus;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.event.EmployeeChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Keeps the employee second-level cache of other replicas current.
+ * Hibernate updates this replica's cache as part of each write; committed employee changes are
+ * broadcast on the invalidation bus, and peers evict their copy so the next read reloads it.
+ */
+@Service
+@Slf4j
+public class EmployeeCacheInvalidator {
+
+    private final InvalidationBus invalidationBus;
+    private final SessionFactory sessionFactory;
+
+    public EmployeeCacheInvalidator(InvalidationBus invalidationBus, EntityManagerFactory entityManagerFactory) {
+        this.invalidationBus = invalidationBus;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        invalidationBus.subscribe(InvalidationTopic.EMPLOYEE, (key, delta) -> evict(UUID.fromString(key)));
+    }
+
+    /**
+     * Broadcast a committed employee change.
+     *
+     * @param event the domain event
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        invalidationBus.evict(InvalidationTopic.EMPLOYEE, event.getEmployeeId());
+    }
+
+    /**
+     * Evict an employee changed on another replica from this replica's cache.
+     * The natural id region is keyed by email, which the message does not carry, so all of it
+     * is evicted; it refills with one lookup per employee.
+     *
+     * @param employeeId the employee
+     */
+    void evict(UUID employeeId) {
+        sessionFactory.getCache().evictEntityData(Employee.class, employeeId);
+        sessionFactory.getCache().evictNaturalIdData(Employee.class);
+        log.debug("Evicted employee {} changed on another replica", employeeId);
+    }
+}
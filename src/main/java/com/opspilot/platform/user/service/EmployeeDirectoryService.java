@@ -0,0 +1,160 @@
+package com.opspilot.platform.user.service;
+
+import com.opspilot.platform.cluster.InvalidationTopic;
+import com.opspilot.platform.cluster.service.InvalidationBus;
+import com.opspilot.platform.exception.DomainValidationException;
+import com.opspilot.platform.user.AccessRole;
+import com.opspilot.platform.user.dto.DirectoryEntry;
+import com.opspilot.platform.user.dto.DirectoryPage;
+import com.opspilot.platform.user.event.EmployeeChangedEvent;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read side of the employee directory.
+ * Entries are projected from the employees table without loading entities, so password hashes
+ * never leave the database. Per-role rosters are cached whole; any committed employee change,
+ * here or on another replica, bumps the directory version and the next read reloads them.
+ * The version is also the ETag of every directory response, so clients revalidate without a query.
+ */
+@Service
+@Slf4j
+public class EmployeeDirectoryService {
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final EmployeeRepository employeeRepository;
+    private final Map<AccessRole, Roster> rosters = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    // Tells this instance's versions apart from those of earlier runs and other replicas
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+
+    private final Map<AccessRole, Counter> hitCounters = new EnumMap<>(AccessRole.class);
+    private final Map<AccessRole, Counter> missCounters = new EnumMap<>(AccessRole.class);
+
+    public EmployeeDirectoryService(EmployeeRepository employeeRepository,
+                                    InvalidationBus invalidationBus,
+                                    MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        invalidationBus.subscribe(InvalidationTopic.EMPLOYEE, (key, delta) -> invalidate());
+        for (AccessRole role : AccessRole.values()) {
+            hitCounters.put(role, meterRegistry.counter("opspilot.directory.roster", "role", role.name(), "result", "hit"));
+            missCounters.put(role, meterRegistry.counter("opspilot.directory.roster", "role", role.name(), "result", "miss"));
+        }
+    }
+
+    /**
+     * @return ETag for the current state of the directory
+     */
+    public String getETag() {
+        return "\"directory-" + epoch + "-" + version.get() + "\"";
+    }
+
+    /**
+     * Get all employees of a role in email order, from the cache when nothing changed since it was filled.
+     *
+     * @param role access role to filter by
+     * @return unmodifiable roster
+     */
+    public List<DirectoryEntry> getRoster(AccessRole role) {
+        // Read the version before the query, so a change committed meanwhile leaves this roster stale
+        long current = version.get();
+        Roster cached = rosters.get(role);
+        if (cached != null && cached.version() == current) {
+            hitCounters.get(role).increment();
+            return cached.entries();
+        }
+        missCounters.get(role).increment();
+        Roster loaded = new Roster(current, List.copyOf(employeeRepository.findDirectoryByRole(role)));
+        rosters.merge(role, loaded, (existing, added) -> existing.version() >= added.version() ? existing : added);
+        log.debug("Loaded {} roster with {} employees", role, loaded.entries().size());
+        return loaded.entries();
+    }
+
+    /**
+     * Page through the directory with any sort. Prefer {@link #getDirectoryPage} for deep pages.
+     *
+     * @param pageable pagination and sort information
+     * @return page of directory entries
+     */
+    public Page<DirectoryEntry> getDirectory(Pageable pageable) {
+        return employeeRepository.findDirectory(pageable);
+    }
+
+    /**
+     * Read a page of the directory in email order after a cursor. Each page is an index range
+     * scan, so the last page of a large org costs the same as the first.
+     *
+     * @param role   access role to filter by, or null for all employees
+     * @param cursor {@code nextCursor} of the previous page, or null for the first page
+     * @param size   page size, at most {@value #MAX_PAGE_SIZE}
+     * @return page of directory entries
+     */
+    public DirectoryPage getDirectoryPage(AccessRole role, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new DomainValidationException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String after = cursor != null ? decodeCursor(cursor) : "";
+        // One extra entry tells whether another page follows
+        Limit limit = Limit.of(size + 1);
+        List<DirectoryEntry> entries = role != null
+                ? employeeRepository.findDirectoryByRoleAfter(role, after, limit)
+                : employeeRepository.findDirectoryAfter(after, limit);
+
+        if (entries.size() <= size) {
+            return DirectoryPage.builder().content(entries).build();
+        }
+        List<DirectoryEntry> page = entries.subList(0, size);
+        return DirectoryPage.builder()
+                .content(page)
+                .nextCursor(encodeCursor(page.get(size - 1).getEmail()))
+                .build();
+    }
+
+    /**
+     * Invalidate cached rosters once an employee change commits.
+     *
+     * @param event the domain event
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        invalidate();
+    }
+
+    private void invalidate() {
+        version.incrementAndGet();
+        rosters.clear();
+    }
+
+    private static String encodeCursor(String email) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(email.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new DomainValidationException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private record Roster(long version, List<DirectoryEntry> entries) {
+    }
+}
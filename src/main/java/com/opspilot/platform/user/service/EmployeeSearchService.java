@@ -0,0 +1,111 @@
+package com.opspilot.platform.user.service;
+
+import com.opspilot.platform.cluster.InvalidationTopic;
+import com.opspilot.platform.cluster.service.InvalidationBus;
+import com.opspilot.platform.exception.DomainValidationException;
+import com.opspilot.platform.user.AccessRole;
+import com.opspilot.platform.user.EmployeePrefixIndex;
+import com.opspilot.platform.user.dto.DirectoryEntry;
+import com.opspilot.platform.user.event.EmployeeChangedEvent;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Employee autocomplete for the assignment picker, served from an {@link EmployeePrefixIndex}.
+ * The index is loaded at startup and kept current one employee at a time: after a local change
+ * commits, and when another replica broadcasts one. A periodic full rebuild picks up rows written
+ * outside the service layer and compacts removed slots.
+ */
+@Service
+@Slf4j
+public class EmployeeSearchService {
+
+    static final int MAX_RESULTS = 50;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeePrefixIndex index = new EmployeePrefixIndex();
+    // Held from query to index update, so a rebuild cannot overwrite a newer single-employee refresh
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Timer searchTimer;
+
+    public EmployeeSearchService(EmployeeRepository employeeRepository,
+                                 InvalidationBus invalidationBus,
+                                 MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        invalidationBus.subscribe(InvalidationTopic.EMPLOYEE, (key, delta) -> refresh(UUID.fromString(key)));
+
+        this.searchTimer = Timer.builder("opspilot.directory.search")
+                .description("Time to answer an autocomplete lookup from the index")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("opspilot.directory.search.indexed", index, EmployeePrefixIndex::size)
+                .description("Employees in the autocomplete index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Find employees whose name or email starts with the typed text.
+     *
+     * @param query  the typed text
+     * @param role   access role to filter by, or null for all roles
+     * @param active active state to filter by, or null for both
+     * @param limit  maximum results, at most {@value #MAX_RESULTS}
+     * @return matching employees
+     */
+    public List<DirectoryEntry> search(String query, AccessRole role, Boolean active, int limit) {
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new DomainValidationException("limit must be between 1 and " + MAX_RESULTS);
+        }
+        return searchTimer.record(() -> index.search(query, limit, entry ->
+                (role == null || entry.getRole() == role) && (active == null || active.equals(entry.getActive()))));
+    }
+
+    /**
+     * Load every employee into a fresh index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${opspilot.directory.search.rebuild-interval:10m}",
+               fixedDelayString = "${opspilot.directory.search.rebuild-interval:10m}")
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            List<DirectoryEntry> entries = employeeRepository.findAllDirectoryEntries();
+            index.rebuild(entries);
+            log.debug("Rebuilt employee autocomplete index with {} employees", entries.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Re-index an employee once its change commits.
+     *
+     * @param event the domain event
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        refresh(event.getEmployeeId());
+    }
+
+    private void refresh(UUID employeeId) {
+        writeLock.lock();
+        try {
+            employeeRepository.findDirectoryEntryById(employeeId)
+                    .ifPresentOrElse(index::upsert, () -> index.remove(employeeId));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -1,22 +1,24 @@
 package com.opspilot.platform.user.service;
 
-import com.opspilot.platform.user.AccessRole;
+import com.opspilot.platform.exception.ResourceConflictException;
+import com.opspilot.platform.exception.ResourceNotFoundException;
 import com.opspilot.platform.user.Employee;
 import com.opspilot.platform.user.dto.EmployeeRegistrationRequest;
 import com.opspilot.platform.user.dto.EmployeeResponse;
+import com.opspilot.platform.user.event.EmployeeChangedEvent;
+import com.opspilot.platform.user.event.EmployeeEventType;
 import com.opspilot.platform.user.mapper.EmployeeMapper;
 import com.opspilot.platform.user.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Service class for employee management operations.
@@ -31,22 +33,23 @@ public class EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Register a new employee in the system.
      *
      * @param request the registration request containing employee details
      * @return EmployeeResponse with the created employee information
-     * @throws IllegalArgumentException if email already exists
+     * @throws ResourceConflictException if email already exists
      */
     @Transactional
     public EmployeeResponse registerEmployee(EmployeeRegistrationRequest request) {
-        log.info("Attempting to register employee with email: {}", request.getEmail());
+        log.debug("Attempting to register employee with email: {}", request.getEmail());
 
         // Check if email already exists
         if (employeeRepository.existsByEmail(request.getEmail())) {
             log.warn("Registration failed: Email already exists - {}", request.getEmail());
-            throw new IllegalArgumentException("Email already registered: " + request.getEmail());
+            throw new ResourceConflictException("Email already registered: " + request.getEmail());
         }
 
         // Encode password
@@ -57,6 +60,7 @@ public class EmployeeService {
 
         // Save to database
         Employee savedEmployee = employeeRepository.saveAndFlush(employee);
+        publishChange(EmployeeEventType.REGISTERED, savedEmployee);
 
         log.info("Successfully registered employee with ID: {}", savedEmployee.getId());
         return employeeMapper.toResponse(savedEmployee);
@@ -67,16 +71,13 @@ public class EmployeeService {
      *
      * @param email the email address to search for
      * @return EmployeeResponse with the employee information
-     * @throws IllegalArgumentException if employee not found
+     * @throws ResourceNotFoundException if employee not found
      */
     public EmployeeResponse fetchEmployeeByEmail(String email) {
         log.debug("Fetching employee by email: {}", email);
 
-        Employee employee = employeeRepository.findByEmail(email)
-                .orElseThrow(() -> {
-                    log.warn("Employee not found with email: {}", email);
-                    return new IllegalArgumentException("Employee not found with email: " + email);
-                });
+        Employee employee = employeeRepository.findByNaturalEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with email: " + email));
 
         return employeeMapper.toResponse(employee);
     }
@@ -86,58 +87,61 @@ public class EmployeeService {
      *
      * @param email the email address to search for
      * @return Employee entity
-     * @throws IllegalArgumentException if employee not found
+     * @throws ResourceNotFoundException if employee not found
      */
     public Employee findEmployeeEntityByEmail(String email) {
-        return employeeRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("Employee not found with email: " + email));
+        return employeeRepository.findByNaturalEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with email: " + email));
     }
 
     /**
-     * Get paginated list of all employees.
+     * Get employee details by ID.
      *
-     * @param pageable pagination information
-     * @return page of EmployeeResponse
+     * @param id employee ID
+     * @return EmployeeResponse
+     * @throws ResourceNotFoundException if employee not found
      */
-    public Page<EmployeeResponse> getAllEmployees(Pageable pageable) {
-        log.debug("Fetching paginated employees - page: {}, size: {}",
-                pageable.getPageNumber(), pageable.getPageSize());
-
-        Page<Employee> page = employeeRepository.findAll(pageable);
-        return page.map(employeeMapper::toResponse);
-    }
+    public EmployeeResponse getEmployeeById(UUID id) {
+        log.debug("Fetching employee by ID: {}", id);
 
-    /**
-     * Get list of employees by role.
-     *
-     * @param role access role to filter by
-     * @return list of EmployeeResponse
-     */
-    public List<EmployeeResponse> getEmployeesByRole(AccessRole role) {
-        log.debug("Fetching employees by role: {}", role);
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> ResourceNotFoundException.withId("Employee", id));
 
-        List<Employee> employees = employeeRepository.findByRole(role);
-        return employees.stream()
-                .map(employeeMapper::toResponse)
-                .collect(Collectors.toList());
+        return employeeMapper.toResponse(employee);
     }
 
     /**
-     * Get employee details by ID.
+     * Deactivate an employee and revoke every token issued to them so far.
+     * The employee can no longer log in, and requests with their existing tokens are rejected
+     * once the revocation reaches each replica.
      *
      * @param id employee ID
      * @return EmployeeResponse
-     * @throws IllegalArgumentException if employee not found
+     * @throws ResourceNotFoundException if employee not found
      */
-    public EmployeeResponse getEmployeeById(UUID id) {
-        log.debug("Fetching employee by ID: {}", id);
+    @Transactional
+    public EmployeeResponse deactivateEmployee(UUID id) {
+        log.debug("Deactivating employee {}", id);
 
         Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Employee not found with ID: {}", id);
-                    return new IllegalArgumentException("Employee not found with ID: " + id);
-                });
+                .orElseThrow(() -> ResourceNotFoundException.withId("Employee", id));
 
-        return employeeMapper.toResponse(employee);
+        employee.setActive(false);
+        employee.setTokensValidAfter(LocalDateTime.now());
+        Employee savedEmployee = employeeRepository.saveAndFlush(employee);
+        publishChange(EmployeeEventType.DEACTIVATED, savedEmployee);
+
+        log.info("Deactivated employee {} and revoked their tokens", id);
+        return employeeMapper.toResponse(savedEmployee);
+    }
+
+    private void publishChange(EmployeeEventType type, Employee employee) {
+        eventPublisher.publishEvent(EmployeeChangedEvent.builder()
+                .type(type)
+                .employeeId(employee.getId())
+                .email(employee.getEmail())
+                .tokensValidAfter(employee.getTokensValidAfter())
+                .occurredAt(Instant.now())
+                .build());
     }
 }
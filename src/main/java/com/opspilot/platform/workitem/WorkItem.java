@@ -15,10 +15,15 @@ import java.util.UUID;
 /**
  * Entity representing a work item in the OpsPilot platform.
  * Work items are tasks or operations that need to be tracked and managed.
+ * Closed items are moved to {@code work_items_archive} once they age out, so this table
+ * only holds the working set; see {@link com.opspilot.platform.archive.service.WorkItemArchiveService}.
  */
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "work_items")
+@Table(name = "work_items", indexes = {
+    @Index(name = "idx_work_items_status_updated_at", columnList = "status, updated_at"),
+    @Index(name = "idx_work_items_status_due_at", columnList = "status, due_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -55,6 +60,10 @@ public class WorkItem {
     @JoinColumn(name = "assigned_to_id", foreignKey = @ForeignKey(name = "fk_work_item_assigned_to"))
     private Employee assignedTo;
 
+    // Resolution deadline; open and in-progress items past it are overdue
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -1,9 +1,14 @@
 package com.opspilot.platform.workitem.controller;
 
+import com.opspilot.platform.idempotency.IdempotentRequest;
+import com.opspilot.platform.idempotency.IdempotentResult;
+import com.opspilot.platform.idempotency.service.IdempotencyService;
+import com.opspilot.platform.observability.SqlBudget;
 import com.opspilot.platform.user.Employee;
 import com.opspilot.platform.user.service.EmployeeService;
 import com.opspilot.platform.workitem.WorkItemStatus;
 import com.opspilot.platform.workitem.dto.WorkItemCreateRequest;
+import com.opspilot.platform.workitem.dto.WorkItemField;
 import com.opspilot.platform.workitem.dto.WorkItemResponse;
 import com.opspilot.platform.workitem.service.WorkItemService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,52 +43,72 @@ import java.util.UUID;
 @SecurityRequirement(name = "bearerAuth")
 public class WorkItemController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final WorkItemService workItemService;
     private final EmployeeService employeeService;
+    private final IdempotencyService idempotencyService;
 
     /**
-     * Create a new work item.
+     * Create a new work item. A retry sent with the same {@code Idempotency-Key} as an earlier
+     * request returns the work item that request created instead of creating another one.
      *
      * @param request work item creation details
+     * @param idempotencyKey client-chosen key identifying this creation (optional)
      * @param authentication current authenticated user
-     * @return created work item
+     * @return created work item; {@code Idempotent-Replayed: true} marks a replayed response
      */
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR')")
-    @Operation(summary = "Create work item", description = "Create a new work item (ADMIN/OPERATOR)")
+    @Operation(summary = "Create work item", description = "Create a new work item (ADMIN/OPERATOR); supports the Idempotency-Key header")
     public ResponseEntity<WorkItemResponse> createWorkItem(
             @Valid @RequestBody WorkItemCreateRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             Authentication authentication) {
 
         String email = authentication.getName();
-        log.info("Create work item request from: {}", email);
+        log.debug("Create work item request from: {}", email);
 
         // Resolve current employee and pass as creator
         Employee currentEmployee = employeeService.findEmployeeEntityByEmail(email);
 
-        WorkItemResponse response = workItemService.createWorkItem(request, currentEmployee);
+        IdempotentResult<WorkItemResponse> result = idempotencyService.execute(
+                new IdempotentRequest(idempotencyKey, email, "workitem.create", request),
+                WorkItemResponse.class,
+                () -> workItemService.createWorkItem(request, currentEmployee));
 
-        log.info("Work item created successfully: {}", response.getId());
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        if (result.replayed()) {
+            log.info("Replayed work item creation {} for key {}", result.body().getId(), idempotencyKey);
+        } else {
+            log.info("Work item created successfully: {}", result.body().getId());
+        }
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.body());
     }
 
     /**
      * Get all work items for the current user.
      *
+     * @param includeArchived whether to include archived work items (default false)
      * @param authentication current authenticated user
      * @return list of work items
      */
     @GetMapping("/my")
+    @SqlBudget(maxStatements = 3)
     @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR', 'VIEWER')")
     @Operation(summary = "Get my work items", description = "Fetch all work items created by or assigned to current user")
-    public ResponseEntity<List<WorkItemResponse>> getMyWorkItems(Authentication authentication) {
+    public ResponseEntity<List<WorkItemResponse>> getMyWorkItems(
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            Authentication authentication) {
         String email = authentication.getName();
-        log.info("Fetch my work items request from: {}", email);
+        log.debug("Fetch my work items request from: {}", email);
 
         Employee currentEmployee = employeeService.findEmployeeEntityByEmail(email);
-        List<WorkItemResponse> workItems = workItemService.fetchWorkItemsForEmployee(currentEmployee.getId());
+        List<WorkItemResponse> workItems = workItemService.fetchWorkItemsForEmployee(currentEmployee.getId(), includeArchived);
 
-        log.info("Retrieved {} work items for employee: {}", workItems.size(), email);
+        log.debug("Retrieved {} work items for employee: {}", workItems.size(), email);
         return ResponseEntity.ok(workItems);
     }
 
@@ -94,21 +119,26 @@ public class WorkItemController {
      * @param size page size (default 10)
      * @param sortBy sort field (default "createdAt")
      * @param direction sort direction (default "desc")
+     * @param includeArchived whether to include archived work items (default false)
+     * @param fields comma-separated fields to return, or "summary" (optional; default all fields)
      * @param authentication current authenticated user
-     * @return page of work items
+     * @return page of work items, or of the selected fields when {@code fields} is given
      */
     @GetMapping("/my/paginated")
+    @SqlBudget(maxStatements = 3)
     @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR', 'VIEWER')")
     @Operation(summary = "Get my work items (paginated)", description = "Fetch work items with pagination support")
-    public ResponseEntity<Page<WorkItemResponse>> getMyWorkItemsPaginated(
+    public ResponseEntity<Page<?>> getMyWorkItemsPaginated(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String fields,
             Authentication authentication) {
 
         String email = authentication.getName();
-        log.info("Fetch paginated work items request from: {} - Page: {}, Size: {}", email, page, size);
+        log.debug("Fetch paginated work items request from: {} - Page: {}, Size: {}", email, page, size);
 
         Employee currentEmployee = employeeService.findEmployeeEntityByEmail(email);
 
@@ -117,15 +147,42 @@ public class WorkItemController {
                 : Sort.by(sortBy).descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<WorkItemResponse> workItemsPage = workItemService.fetchWorkItemsForEmployeePaginated(
-                currentEmployee.getId(), pageable);
+        Page<?> workItemsPage = fields != null
+                ? workItemService.fetchWorkItemFieldsPaginated(
+                        currentEmployee.getId(), WorkItemField.parse(fields), pageable, includeArchived)
+                : workItemService.fetchWorkItemsForEmployeePaginated(currentEmployee.getId(), pageable, includeArchived);
 
-        log.info("Retrieved page {} with {} items for employee: {}",
+        log.debug("Retrieved page {} with {} items for employee: {}",
                  page, workItemsPage.getNumberOfElements(), email);
 
         return ResponseEntity.ok(workItemsPage);
     }
 
+    /**
+     * Claim the oldest OPEN work item that is unassigned or assigned to the current user.
+     * The item is assigned to the caller and moved to IN_PROGRESS atomically.
+     *
+     * @param createdById restrict to items created by this employee (optional)
+     * @param authentication current authenticated user
+     * @return claimed work item, or 204 when nothing is available
+     */
+    @PostMapping("/claim-next")
+    @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR')")
+    @Operation(summary = "Claim next work item", description = "Atomically take the oldest open work item (ADMIN/OPERATOR)")
+    public ResponseEntity<WorkItemResponse> claimNextWorkItem(
+            @RequestParam(required = false) UUID createdById,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+        log.debug("Claim next work item request from: {}", email);
+
+        Employee currentEmployee = employeeService.findEmployeeEntityByEmail(email);
+
+        return workItemService.claimNext(currentEmployee, createdById)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
     /**
      * Update work item status.
      *
@@ -143,7 +200,7 @@ public class WorkItemController {
             Authentication authentication) {
 
         String email = authentication.getName();
-        log.info("Update work item status request for ID: {} from: {}", id, email);
+        log.debug("Update work item status request for ID: {} from: {}", id, email);
 
         String statusStr = statusUpdate.get("status");
         if (statusStr == null || statusStr.isBlank()) {
@@ -1,5 +1,6 @@
 package com.opspilot.platform.workitem.dto;
 
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -7,6 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -28,4 +30,11 @@ public class WorkItemCreateRequest {
 
     // Assignee is optional; when provided must correspond to an OPERATOR
     private UUID assignedToId;
+
+    // When no assignee is given, assign the OPERATOR with the fewest open and in-progress items
+    private boolean autoAssign;
+
+    // Resolution deadline; defaults to creation time plus opspilot.sla.default-resolution-time
+    @Future(message = "Due date must be in the future")
+    private LocalDateTime dueAt;
 }
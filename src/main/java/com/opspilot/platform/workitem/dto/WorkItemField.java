@@ -0,0 +1,72 @@
+package com.opspilot.platform.workitem.dto;
+
+import com.opspilot.platform.exception.DomainValidationException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Fields of {@link WorkItemResponse} that list endpoints can return on their own via {@code fields=}.
+ * The value {@code summary} selects the compact list view: title, status, assignee and due date.
+ */
+public enum WorkItemField {
+
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    CREATED_BY_ID("createdById"),
+    CREATED_BY_NAME("createdByName"),
+    ASSIGNED_TO_ID("assignedToId"),
+    ASSIGNED_TO_NAME("assignedToName"),
+    DUE_AT("dueAt"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    public static final Set<WorkItemField> SUMMARY = Collections.unmodifiableSet(
+            EnumSet.of(ID, TITLE, STATUS, ASSIGNED_TO_ID, ASSIGNED_TO_NAME, DUE_AT, UPDATED_AT));
+
+    private static final String SUMMARY_NAME = "summary";
+
+    private final String property;
+
+    WorkItemField(String property) {
+        this.property = property;
+    }
+
+    /**
+     * @return the JSON property name of the field
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Parse a comma-separated field list. The id is always included.
+     *
+     * @param fields field names as in the JSON response, or {@code summary}
+     * @return the selected fields in declaration order
+     * @throws DomainValidationException if a field name is unknown
+     */
+    public static Set<WorkItemField> parse(String fields) {
+        Set<WorkItemField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (trimmed.toLowerCase(Locale.ROOT).equals(SUMMARY_NAME)) {
+                selected.addAll(SUMMARY);
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                    .filter(field -> field.property.equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new DomainValidationException("Unknown work item field: " + trimmed)));
+        }
+        return selected;
+    }
+}
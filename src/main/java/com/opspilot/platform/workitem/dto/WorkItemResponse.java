@@ -27,6 +27,7 @@ public class WorkItemResponse {
     private String createdByName;
     private UUID assignedToId;
     private String assignedToName;
+    private LocalDateTime dueAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
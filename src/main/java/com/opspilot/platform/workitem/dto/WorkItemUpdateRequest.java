@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -28,5 +29,7 @@ public class WorkItemUpdateRequest {
     private WorkItemStatus status;
 
     private UUID assignedToId;
+
+    private LocalDateTime dueAt;
 }
 
@@ -0,0 +1,47 @@
+package com.opspilot.platform.workitem.event;
+
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Domain event published by WorkItemService for every change to a work item.
+ * Published synchronously inside the service transaction, so listeners can either
+ * write in the same transaction or register for after-commit processing.
+ */
+@Value
+@Builder
+public class WorkItemChangedEvent {
+
+    WorkItemEventType type;
+    UUID workItemId;
+    WorkItemStatus previousStatus;
+    WorkItemStatus status;
+    UUID previousAssigneeId;
+    UUID assigneeId;
+    String actor;
+    Instant occurredAt;
+    WorkItemResponse snapshot;
+
+    /**
+     * Check whether the status changed.
+     *
+     * @return true if previous and new status differ
+     */
+    public boolean isStatusChanged() {
+        return previousStatus != status;
+    }
+
+    /**
+     * Check whether the assignee changed.
+     *
+     * @return true if previous and new assignee differ
+     */
+    public boolean isAssigneeChanged() {
+        return previousAssigneeId == null ? assigneeId != null : !previousAssigneeId.equals(assigneeId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.opspilot.platform.workitem.event;
+
+/**
+ * Enum representing the kinds of changes made to a work item.
+ */
+public enum WorkItemEventType {
+    /**
+     * Work item was created
+     */
+    CREATED,
+
+    /**
+     * Work item was assigned to an employee
+     */
+    ASSIGNED,
+
+    /**
+     * Work item status changed
+     */
+    STATUS_CHANGED,
+
+    /**
+     * Work item fields were updated
+     */
+    UPDATED
+}
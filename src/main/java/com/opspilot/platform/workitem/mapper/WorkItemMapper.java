@@ -4,9 +4,15 @@ import com.opspilot.platform.user.Employee;
 import com.opspilot.platform.workitem.WorkItem;
 import com.opspilot.platform.workitem.WorkItemStatus;
 import com.opspilot.platform.workitem.dto.WorkItemCreateRequest;
+import com.opspilot.platform.workitem.dto.WorkItemField;
 import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import com.opspilot.platform.workitem.repository.WorkItemRow;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Mapper class for converting between WorkItem entity and DTOs.
  * Handles transformation of work item data between layers.
@@ -29,6 +35,7 @@ public class WorkItemMapper {
                 .status(WorkItemStatus.OPEN)
                 .createdBy(createdBy)
                 .assignedTo(assignedTo)
+                .dueAt(request.getDueAt())
                 .build();
     }
 
@@ -48,9 +55,58 @@ public class WorkItemMapper {
                 .createdByName(workItem.getCreatedBy().getFullName())
                 .assignedToId(workItem.getAssignedTo() != null ? workItem.getAssignedTo().getId() : null)
                 .assignedToName(workItem.getAssignedTo() != null ? workItem.getAssignedTo().getFullName() : null)
+                .dueAt(workItem.getDueAt())
                 .createdAt(workItem.getCreatedAt())
                 .updatedAt(workItem.getUpdatedAt())
                 .build();
     }
-}
 
+    /**
+     * Convert a flat work item row from a native query to WorkItemResponse DTO.
+     *
+     * @param row the work item row
+     * @return WorkItemResponse DTO
+     */
+    public WorkItemResponse toResponse(WorkItemRow row) {
+        return WorkItemResponse.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .status(WorkItemStatus.valueOf(row.getStatus()))
+                .createdById(row.getCreatedById())
+                .createdByName(row.getCreatedByName())
+                .assignedToId(row.getAssignedToId())
+                .assignedToName(row.getAssignedToName())
+                .dueAt(row.getDueAt())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Reduce a WorkItemResponse to the selected fields.
+     *
+     * @param response the full response
+     * @param fields   fields to keep
+     * @return field name to value map, in field order
+     */
+    public Map<String, Object> toFieldMap(WorkItemResponse response, Set<WorkItemField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (WorkItemField field : fields) {
+            row.put(field.getProperty(), switch (field) {
+                case ID -> response.getId();
+                case TITLE -> response.getTitle();
+                case DESCRIPTION -> response.getDescription();
+                case STATUS -> response.getStatus();
+                case CREATED_BY_ID -> response.getCreatedById();
+                case CREATED_BY_NAME -> response.getCreatedByName();
+                case ASSIGNED_TO_ID -> response.getAssignedToId();
+                case ASSIGNED_TO_NAME -> response.getAssignedToName();
+                case DUE_AT -> response.getDueAt();
+                case CREATED_AT -> response.getCreatedAt();
+                case UPDATED_AT -> response.getUpdatedAt();
+            });
+        }
+        return row;
+    }
+}
@@ -0,0 +1,13 @@
+package com.opspilot.platform.workitem.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection for the number of active work items assigned to an employee.
+ */
+public interface AssigneeLoad {
+
+    UUID getEmployeeId();
+
+    long getActiveCount();
+}
@@ -0,0 +1,13 @@
+package com.opspilot.platform.workitem.repository;
+
+import com.opspilot.platform.workitem.WorkItemStatus;
+
+/**
+ * Projection for work item counts grouped by status.
+ */
+public interface StatusCount {
+
+    WorkItemStatus getStatus();
+
+    long getCount();
+}
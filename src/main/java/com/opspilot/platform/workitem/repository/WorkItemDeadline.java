@@ -0,0 +1,14 @@
+package com.opspilot.platform.workitem.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection for the due date of a work item.
+ */
+public interface WorkItemDeadline {
+
+    UUID getId();
+
+    LocalDateTime getDueAt();
+}
@@ -1,24 +1,68 @@
 package com.opspilot.platform.workitem.repository;
 
+import com.opspilot.platform.user.AccessRole;
 import com.opspilot.platform.user.Employee;
 import com.opspilot.platform.workitem.WorkItem;
 import com.opspilot.platform.workitem.WorkItemStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for WorkItem entity operations.
  * Provides data access methods for work item management.
  */
 @Repository
-public interface WorkItemRepository extends JpaRepository<WorkItem, UUID> {
+public interface WorkItemRepository extends JpaRepository<WorkItem, UUID>, WorkItemRepositoryCustom {
+
+    /**
+     * Live and archived work items as {@link WorkItemRow} columns. Aliases match entity property
+     * names so Pageable sorts such as "createdAt" apply unchanged to the union; ids are read as
+     * text because native UUID columns come back from the driver as raw bytes.
+     */
+    String LIVE_AND_ARCHIVED_ROWS = """
+            SELECT * FROM (
+                SELECT CAST(w.id AS VARCHAR) AS id, w.title AS title, w.description AS description, w.status AS status,
+                       CAST(w.created_by_id AS VARCHAR) AS createdById, c.full_name AS createdByName,
+                       CAST(w.assigned_to_id AS VARCHAR) AS assignedToId, a.full_name AS assignedToName,
+                       w.due_at AS dueAt, w.created_at AS createdAt, w.updated_at AS updatedAt
+                FROM work_items w
+                JOIN employees c ON c.id = w.created_by_id
+                LEFT JOIN employees a ON a.id = w.assigned_to_id
+                WHERE (:employeeId IS NULL OR w.created_by_id = :employeeId OR w.assigned_to_id = :employeeId)
+                UNION ALL
+                SELECT CAST(w.id AS VARCHAR), w.title, w.description, w.status,
+                       CAST(w.created_by_id AS VARCHAR), c.full_name,
+                       CAST(w.assigned_to_id AS VARCHAR), a.full_name,
+                       w.due_at, w.created_at, w.updated_at
+                FROM work_items_archive w
+                JOIN employees c ON c.id = w.created_by_id
+                LEFT JOIN employees a ON a.id = w.assigned_to_id
+                WHERE (:employeeId IS NULL OR w.created_by_id = :employeeId OR w.assigned_to_id = :employeeId)
+            ) items
+            """;
+
+    String LIVE_AND_ARCHIVED_COUNT = """
+            SELECT (SELECT COUNT(*) FROM work_items w
+                    WHERE :employeeId IS NULL OR w.created_by_id = :employeeId OR w.assigned_to_id = :employeeId)
+                 + (SELECT COUNT(*) FROM work_items_archive w
+                    WHERE :employeeId IS NULL OR w.created_by_id = :employeeId OR w.assigned_to_id = :employeeId)
+            """;
 
     /**
      * Find all work items created by a specific employee.
@@ -26,6 +70,7 @@ public interface WorkItemRepository extends JpaRepository<WorkItem, UUID> {
      * @param employee the employee who created the work items
      * @return list of work items created by the employee
      */
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
     List<WorkItem> findByCreatedBy(Employee employee);
 
     /**
@@ -34,6 +79,7 @@ public interface WorkItemRepository extends JpaRepository<WorkItem, UUID> {
      * @param employee the employee to whom work items are assigned
      * @return list of work items assigned to the employee
      */
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
     List<WorkItem> findByAssignedTo(Employee employee);
 
     /**
@@ -51,7 +97,186 @@ public interface WorkItemRepository extends JpaRepository<WorkItem, UUID> {
      * @param pageable pagination parameters
      * @return page of work items
      */
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
     @Query("SELECT w FROM WorkItem w WHERE w.createdBy = :employee OR w.assignedTo = :employee")
     Page<WorkItem> findByCreatedByOrAssignedTo(@Param("employee") Employee employee, Pageable pageable);
-}
 
+    /**
+     * Find all work items with pagination, fetching creator and assignee in the same query
+     * so mapping a page to responses does not issue one employee lookup per row.
+     *
+     * @param pageable pagination parameters
+     * @return page of work items
+     */
+    @Override
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    Page<WorkItem> findAll(Pageable pageable);
+
+    /**
+     * Find live and archived work items with pagination, optionally limited to one employee
+     * (created by or assigned to).
+     *
+     * @param employeeId the employee to filter by, or null for all work items
+     * @param pageable   pagination parameters
+     * @return page of work item rows
+     */
+    @Query(value = LIVE_AND_ARCHIVED_ROWS, countQuery = LIVE_AND_ARCHIVED_COUNT, nativeQuery = true)
+    Page<WorkItemRow> findIncludingArchived(@Param("employeeId") UUID employeeId, Pageable pageable);
+
+    /**
+     * Find all live and archived work items for an employee (created by or assigned to), newest first.
+     *
+     * @param employeeId the employee
+     * @return list of work item rows
+     */
+    @Query(value = LIVE_AND_ARCHIVED_ROWS + "ORDER BY createdAt DESC", nativeQuery = true)
+    List<WorkItemRow> findAllIncludingArchived(@Param("employeeId") UUID employeeId);
+
+    /**
+     * Count live work items grouped by status.
+     *
+     * @return one row per status present in the live table
+     */
+    @Query("SELECT w.status AS status, COUNT(w) AS count FROM WorkItem w GROUP BY w.status")
+    List<StatusCount> countGroupedByStatus();
+
+    /**
+     * Count live work items assigned to an employee.
+     *
+     * @param employee the assignee
+     * @return number of work items
+     */
+    long countByAssignedTo(Employee employee);
+
+    /**
+     * Count live work items created by an employee.
+     *
+     * @param employee the creator
+     * @return number of work items
+     */
+    long countByCreatedBy(Employee employee);
+
+    /**
+     * Find ids of work items in the given statuses that have not been updated since the cutoff,
+     * oldest first. Served by the (status, updated_at) index. The rows stay locked until the
+     * archiving transaction ends, so an item cannot be reopened between copy and delete.
+     *
+     * @param statuses statuses eligible for archiving
+     * @param cutoff   only items updated before this are returned
+     * @param pageable batch size
+     * @return ids of eligible work items
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w.id FROM WorkItem w WHERE w.status IN :statuses AND w.updatedAt < :cutoff ORDER BY w.updatedAt")
+    List<UUID> findIdsToArchive(@Param("statuses") Collection<WorkItemStatus> statuses,
+                                @Param("cutoff") LocalDateTime cutoff,
+                                Pageable pageable);
+
+    /**
+     * Delete work items by id without loading them.
+     *
+     * @param ids ids of the work items to delete
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM WorkItem w WHERE w.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Count work items in the given statuses per active employee of a role, including employees with none.
+     *
+     * @param role     the employee role
+     * @param statuses statuses that count towards load
+     * @return one row per active employee with the role
+     */
+    @Query("""
+            SELECT e.id AS employeeId, COUNT(w.id) AS activeCount
+            FROM Employee e
+            LEFT JOIN WorkItem w ON w.assignedTo = e AND w.status IN :statuses
+            WHERE e.role = :role AND e.active = true
+            GROUP BY e.id
+            """)
+    List<AssigneeLoad> countActiveByAssignee(@Param("role") AccessRole role,
+                                             @Param("statuses") Collection<WorkItemStatus> statuses);
+
+    /**
+     * Find the oldest OPEN work items an operator may claim: unassigned or already assigned to them,
+     * optionally limited to one creator. Rows are locked with SKIP LOCKED where the dialect supports
+     * it, so concurrent claimers pass over each other's candidates; elsewhere this degrades to a
+     * blocking row lock and the guarded {@link #claim} decides.
+     *
+     * @param operator    the claiming operator
+     * @param createdById restrict to items created by this employee, or null
+     * @param pageable    number of candidates
+     * @return candidate work item ids, oldest first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT w.id FROM WorkItem w
+            WHERE w.status = com.opspilot.platform.workitem.WorkItemStatus.OPEN
+              AND (w.assignedTo IS NULL OR w.assignedTo = :operator)
+              AND (:createdById IS NULL OR w.createdBy.id = :createdById)
+            ORDER BY w.createdAt, w.id
+            """)
+    List<UUID> findClaimCandidateIds(@Param("operator") Employee operator,
+                                     @Param("createdById") UUID createdById,
+                                     Pageable pageable);
+
+    /**
+     * Assign an OPEN work item to an operator and start it, only if it is still claimable.
+     *
+     * @param id       the work item
+     * @param operator the claiming operator
+     * @param now      update timestamp
+     * @return 1 if claimed, 0 if another operator claimed it first
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE WorkItem w
+            SET w.assignedTo = :operator,
+                w.status = com.opspilot.platform.workitem.WorkItemStatus.IN_PROGRESS,
+                w.updatedAt = :now
+            WHERE w.id = :id
+              AND w.status = com.opspilot.platform.workitem.WorkItemStatus.OPEN
+              AND (w.assignedTo IS NULL OR w.assignedTo = :operator)
+            """)
+    int claim(@Param("id") UUID id, @Param("operator") Employee operator, @Param("now") LocalDateTime now);
+
+    /**
+     * Stream the due dates of work items in the given statuses, served by the (status, due_at) index.
+     * Must be consumed inside a transaction.
+     *
+     * @param statuses statuses whose deadlines are tracked
+     * @return work item deadlines
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT w.id AS id, w.dueAt AS dueAt FROM WorkItem w WHERE w.status IN :statuses AND w.dueAt IS NOT NULL")
+    Stream<WorkItemDeadline> streamDeadlines(@Param("statuses") Collection<WorkItemStatus> statuses);
+
+    /**
+     * Get the current due dates of the given work items that are in one of the statuses.
+     *
+     * @param ids      work item ids
+     * @param statuses statuses whose deadlines are tracked
+     * @return deadlines of the matching work items; items in other statuses or without a due date are absent
+     */
+    @Query("SELECT w.id AS id, w.dueAt AS dueAt FROM WorkItem w WHERE w.id IN :ids AND w.status IN :statuses AND w.dueAt IS NOT NULL")
+    List<WorkItemDeadline> findDeadlines(@Param("ids") Collection<UUID> ids,
+                                         @Param("statuses") Collection<WorkItemStatus> statuses);
+
+    /**
+     * Find work items in the given statuses whose due date has passed, served by the (status, due_at) index.
+     *
+     * @param statuses statuses that can be overdue
+     * @param now      items due before this are overdue
+     * @param pageable pagination parameters
+     * @return page of overdue work items
+     */
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    @Query(value = "SELECT w FROM WorkItem w WHERE w.status IN :statuses AND w.dueAt < :now",
+           countQuery = "SELECT COUNT(w) FROM WorkItem w WHERE w.status IN :statuses AND w.dueAt < :now")
+    Page<WorkItem> findOverdue(@Param("statuses") Collection<WorkItemStatus> statuses,
+                               @Param("now") LocalDateTime now,
+                               Pageable pageable);
+}
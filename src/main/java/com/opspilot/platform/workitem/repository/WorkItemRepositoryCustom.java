@@ -0,0 +1,26 @@
+package com.opspilot.platform.workitem.repository;
+
+import com.opspilot.platform.workitem.dto.WorkItemField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for work item queries whose select list is built at runtime.
+ */
+public interface WorkItemRepositoryCustom {
+
+    /**
+     * Find live work items selecting only the given fields, optionally limited to one employee
+     * (created by or assigned to). Creator and assignee are only joined when their names are selected.
+     *
+     * @param fields     fields to select
+     * @param employeeId the employee to filter by, or null for all work items
+     * @param pageable   pagination parameters; sort properties must be work item attributes
+     * @return page of field name to value maps, in field order
+     */
+    Page<Map<String, Object>> findFields(Set<WorkItemField> fields, UUID employeeId, Pageable pageable);
+}
@@ -0,0 +1,107 @@
+package com.opspilot.platform.workitem.repository;
+
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.workitem.WorkItem;
+import com.opspilot.platform.workitem.dto.WorkItemField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link WorkItemRepositoryCustom} using criteria tuple queries.
+ */
+@Transactional(readOnly = true)
+public class WorkItemRepositoryCustomImpl implements WorkItemRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findFields(Set<WorkItemField> fields, UUID employeeId, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<WorkItem> root = query.from(WorkItem.class);
+        Join<WorkItem, Employee> creator = null;
+        Join<WorkItem, Employee> assignee = null;
+        List<Selection<?>> selections = new ArrayList<>();
+        for (WorkItemField field : fields) {
+            Selection<?> selection;
+            if (field == WorkItemField.CREATED_BY_NAME) {
+                creator = creator != null ? creator : root.join("createdBy");
+                selection = creator.get("fullName");
+            } else if (field == WorkItemField.ASSIGNED_TO_NAME) {
+                assignee = assignee != null ? assignee : root.join("assignedTo", JoinType.LEFT);
+                selection = assignee.get("fullName");
+            } else {
+                selection = switch (field) {
+                    // Foreign key columns; no join needed
+                    case CREATED_BY_ID -> root.get("createdBy").get("id");
+                    case ASSIGNED_TO_ID -> root.get("assignedTo").get("id");
+                    default -> root.get(field.getProperty());
+                };
+            }
+            selections.add(selection.alias(field.getProperty()));
+        }
+        query.multiselect(selections);
+        Predicate filter = employeeFilter(cb, root, employeeId);
+        if (filter != null) {
+            query.where(filter);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        List<Map<String, Object>> content = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (WorkItemField field : fields) {
+                row.put(field.getProperty(), tuple.get(field.getProperty()));
+            }
+            content.add(row);
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(cb, employeeId));
+    }
+
+    private long count(CriteriaBuilder cb, UUID employeeId) {
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<WorkItem> root = countQuery.from(WorkItem.class);
+        countQuery.select(cb.count(root));
+        Predicate filter = employeeFilter(cb, root, employeeId);
+        if (filter != null) {
+            countQuery.where(filter);
+        }
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+
+    private static Predicate employeeFilter(CriteriaBuilder cb, Root<WorkItem> root, UUID employeeId) {
+        if (employeeId == null) {
+            return null;
+        }
+        return cb.or(
+                cb.equal(root.get("createdBy").get("id"), employeeId),
+                cb.equal(root.get("assignedTo").get("id"), employeeId));
+    }
+}
@@ -0,0 +1,33 @@
+package com.opspilot.platform.workitem.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat projection of a work item joined with creator and assignee names.
+ * Used by native queries that read the live and archive tables together.
+ */
+public interface WorkItemRow {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getStatus();
+
+    UUID getCreatedById();
+
+    String getCreatedByName();
+
+    UUID getAssignedToId();
+
+    String getAssignedToName();
+
+    LocalDateTime getDueAt();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -1,23 +1,44 @@
 package com.opspilot.platform.workitem.service;
 
+import com.opspilot.platform.archive.repository.ArchivedWorkItemRepository;
+import com.opspilot.platform.assignment.service.AutoAssignmentService;
+import com.opspilot.platform.exception.ResourceNotFoundException;
+import com.opspilot.platform.sla.SlaProperties;
+import com.opspilot.platform.sla.service.SlaMonitor;
+import com.opspilot.platform.user.AccessRole;
 import com.opspilot.platform.user.Employee;
 import com.opspilot.platform.user.repository.EmployeeRepository;
 import com.opspilot.platform.workitem.WorkItem;
 import com.opspilot.platform.workitem.WorkItemStatus;
 import com.opspilot.platform.workitem.dto.DashboardMetrics;
 import com.opspilot.platform.workitem.dto.WorkItemCreateRequest;
+import com.opspilot.platform.workitem.dto.WorkItemField;
 import com.opspilot.platform.workitem.dto.WorkItemResponse;
 import com.opspilot.platform.workitem.dto.WorkItemUpdateRequest;
+import com.opspilot.platform.workitem.event.WorkItemChangedEvent;
+import com.opspilot.platform.workitem.event.WorkItemEventType;
 import com.opspilot.platform.workitem.mapper.WorkItemMapper;
+import com.opspilot.platform.workitem.repository.StatusCount;
 import com.opspilot.platform.workitem.repository.WorkItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,41 +52,77 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class WorkItemService {
 
+    /**
+     * Candidates tried per claim before giving up; each lost race costs one attempt.
+     */
+    private static final int MAX_CLAIM_ATTEMPTS = 5;
+
     private final WorkItemRepository workItemRepository;
+    private final ArchivedWorkItemRepository archivedWorkItemRepository;
     private final EmployeeRepository employeeRepository;
     private final WorkItemMapper workItemMapper;
+    private final AutoAssignmentService autoAssignmentService;
+    private final SlaProperties slaProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new work item.
      *
      * @param request   the create request containing work item details
      * @param createdBy the employee creating the work item (from authentication)
-     * @return WorkItemResponse with the created work item information
-     * @throws IllegalArgumentException if assignee not found
+     * @return WorkItemResponse with the created work item information; left unassigned when
+     *         auto-assignment is requested but no operator is available
+     * @throws ResourceNotFoundException if assignee not found
      */
     @Transactional
     public WorkItemResponse createWorkItem(WorkItemCreateRequest request, Employee createdBy) {
-        log.info("Creating new work item with title: {} by creator: {}", request.getTitle(), createdBy.getEmail());
+        log.debug("Creating new work item with title: {} by creator: {}", request.getTitle(), createdBy.getEmail());
 
         // Fetch assignee if provided
         Employee assignedTo = null;
         if (request.getAssignedToId() != null) {
             assignedTo = employeeRepository.findById(request.getAssignedToId())
-                    .orElseThrow(() -> {
-                        log.warn("Assignee not found with ID: {}", request.getAssignedToId());
-                        return new IllegalArgumentException("Assignee not found with ID: " + request.getAssignedToId());
-                    });
+                    .orElseThrow(() -> ResourceNotFoundException.withId("Assignee", request.getAssignedToId()));
+        } else if (request.isAutoAssign()) {
+            assignedTo = reserveAssignableOperator();
+            if (assignedTo == null) {
+                log.warn("Auto-assignment requested but no active operator is available");
+            }
         }
 
         // Create work item entity
         WorkItem workItem = workItemMapper.toEntity(request, createdBy, assignedTo);
+        if (workItem.getDueAt() == null && slaProperties.getDefaultResolutionTime() != null) {
+            workItem.setDueAt(LocalDateTime.now().plus(slaProperties.getDefaultResolutionTime()));
+        }
 
         // saveAndFlush so Hibernate executes the INSERT immediately and
         // populates @CreationTimestamp / @UpdateTimestamp before we read them
         WorkItem savedWorkItem = workItemRepository.saveAndFlush(workItem);
 
+        WorkItemResponse response = workItemMapper.toResponse(savedWorkItem);
+        publishChange(WorkItemEventType.CREATED, null, null, response, createdBy.getEmail());
+
         log.info("Successfully created work item with ID: {}", savedWorkItem.getId());
-        return workItemMapper.toResponse(savedWorkItem);
+        return response;
+    }
+
+    /**
+     * Reserve the least loaded operator that is still an active operator in the database.
+     * The index, like the entity cache, can briefly lag a deactivation made on another replica;
+     * such operators are dropped from it and the next one is tried.
+     */
+    private Employee reserveAssignableOperator() {
+        while (true) {
+            Optional<UUID> operatorId = autoAssignmentService.reserveOperator();
+            if (operatorId.isEmpty()) {
+                return null;
+            }
+            if (employeeRepository.existsByIdAndRoleAndActiveTrue(operatorId.get(), AccessRole.OPERATOR)) {
+                return employeeRepository.getReferenceById(operatorId.get());
+            }
+            autoAssignmentService.evictOperator(operatorId.get());
+        }
     }
 
     /**
@@ -74,25 +131,22 @@ public class WorkItemService {
      * @param workItemId the ID of the work item to assign
      * @param employeeId the ID of the employee to assign to
      * @return WorkItemResponse with updated work item information
-     * @throws IllegalArgumentException if work item or employee not found
+     * @throws ResourceNotFoundException if work item or employee not found
      */
     @Transactional
     public WorkItemResponse assignWorkItem(UUID workItemId, UUID employeeId) {
-        log.info("Assigning work item {} to employee {}", workItemId, employeeId);
+        log.debug("Assigning work item {} to employee {}", workItemId, employeeId);
 
         // Fetch work item
         WorkItem workItem = workItemRepository.findById(workItemId)
-                .orElseThrow(() -> {
-                    log.warn("Work item not found with ID: {}", workItemId);
-                    return new IllegalArgumentException("Work item not found with ID: " + workItemId);
-                });
+                .orElseThrow(() -> ResourceNotFoundException.withId("Work item", workItemId));
 
         // Fetch employee
         Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> {
-                    log.warn("Employee not found with ID: {}", employeeId);
-                    return new IllegalArgumentException("Employee not found with ID: " + employeeId);
-                });
+                .orElseThrow(() -> ResourceNotFoundException.withId("Employee", employeeId));
+
+        WorkItemStatus previousStatus = workItem.getStatus();
+        UUID previousAssigneeId = assigneeIdOf(workItem);
 
         // Update assignment
         workItem.setAssignedTo(employee);
@@ -104,8 +158,50 @@ public class WorkItemService {
 
         WorkItem updatedWorkItem = workItemRepository.save(workItem);
 
+        WorkItemResponse response = workItemMapper.toResponse(updatedWorkItem);
+        publishChange(WorkItemEventType.ASSIGNED, previousStatus, previousAssigneeId, response, currentActor());
+
         log.info("Successfully assigned work item {} to employee {}", workItemId, employeeId);
-        return workItemMapper.toResponse(updatedWorkItem);
+        return response;
+    }
+
+    /**
+     * Claim the oldest OPEN work item for an operator: assign it to them and move it to IN_PROGRESS.
+     * Candidates are picked with a skip-locked read and taken with a guarded update, so two
+     * operators can never claim the same item; a lost race moves on to the next candidate.
+     *
+     * @param operator    the claiming operator
+     * @param createdById restrict to items created by this employee, or null
+     * @return the claimed work item, or empty when nothing is available
+     */
+    @Transactional
+    public Optional<WorkItemResponse> claimNext(Employee operator, UUID createdById) {
+        log.debug("Claiming next work item for {}", operator.getEmail());
+
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            List<UUID> candidates = workItemRepository.findClaimCandidateIds(
+                    operator, createdById, PageRequest.of(0, 1));
+            if (candidates.isEmpty()) {
+                return Optional.empty();
+            }
+
+            UUID workItemId = candidates.get(0);
+            UUID previousAssigneeId = workItemRepository.findById(workItemId)
+                    .map(WorkItemService::assigneeIdOf)
+                    .orElse(null);
+            if (workItemRepository.claim(workItemId, operator, LocalDateTime.now()) == 1) {
+                WorkItem claimed = workItemRepository.findById(workItemId).orElseThrow();
+                WorkItemResponse response = workItemMapper.toResponse(claimed);
+                publishChange(WorkItemEventType.ASSIGNED, WorkItemStatus.OPEN, previousAssigneeId,
+                        response, operator.getEmail());
+
+                log.info("Work item {} claimed by {}", workItemId, operator.getEmail());
+                return Optional.of(response);
+            }
+        }
+
+        log.warn("Could not claim a work item for {} after {} attempts", operator.getEmail(), MAX_CLAIM_ATTEMPTS);
+        return Optional.empty();
     }
 
     /**
@@ -114,23 +210,26 @@ public class WorkItemService {
      * @param workItemId the ID of the work item
      * @param status the new status
      * @return WorkItemResponse with updated work item information
-     * @throws IllegalArgumentException if work item not found
+     * @throws ResourceNotFoundException if work item not found
      */
     @Transactional
     public WorkItemResponse updateStatus(UUID workItemId, WorkItemStatus status) {
-        log.info("Updating status of work item {} to {}", workItemId, status);
+        log.debug("Updating status of work item {} to {}", workItemId, status);
 
         WorkItem workItem = workItemRepository.findById(workItemId)
-                .orElseThrow(() -> {
-                    log.warn("Work item not found with ID: {}", workItemId);
-                    return new IllegalArgumentException("Work item not found with ID: " + workItemId);
-                });
+                .orElseThrow(() -> ResourceNotFoundException.withId("Work item", workItemId));
+
+        WorkItemStatus previousStatus = workItem.getStatus();
+        UUID assigneeId = assigneeIdOf(workItem);
 
         workItem.setStatus(status);
         WorkItem updatedWorkItem = workItemRepository.save(workItem);
 
+        WorkItemResponse response = workItemMapper.toResponse(updatedWorkItem);
+        publishChange(WorkItemEventType.STATUS_CHANGED, previousStatus, assigneeId, response, currentActor());
+
         log.info("Successfully updated status of work item {} to {}", workItemId, status);
-        return workItemMapper.toResponse(updatedWorkItem);
+        return response;
     }
 
     /**
@@ -139,17 +238,17 @@ public class WorkItemService {
      * @param workItemId the ID of the work item
      * @param request the update request with fields to update
      * @return WorkItemResponse with updated work item information
-     * @throws IllegalArgumentException if work item not found
+     * @throws ResourceNotFoundException if work item not found
      */
     @Transactional
     public WorkItemResponse updateWorkItem(UUID workItemId, WorkItemUpdateRequest request) {
-        log.info("Updating work item {}", workItemId);
+        log.debug("Updating work item {}", workItemId);
 
         WorkItem workItem = workItemRepository.findById(workItemId)
-                .orElseThrow(() -> {
-                    log.warn("Work item not found with ID: {}", workItemId);
-                    return new IllegalArgumentException("Work item not found with ID: " + workItemId);
-                });
+                .orElseThrow(() -> ResourceNotFoundException.withId("Work item", workItemId));
+
+        WorkItemStatus previousStatus = workItem.getStatus();
+        UUID previousAssigneeId = assigneeIdOf(workItem);
 
         // Update fields if provided
         if (request.getTitle() != null) {
@@ -163,31 +262,41 @@ public class WorkItemService {
         }
         if (request.getAssignedToId() != null) {
             Employee assignedTo = employeeRepository.findById(request.getAssignedToId())
-                    .orElseThrow(() -> new IllegalArgumentException("Employee not found with ID: " + request.getAssignedToId()));
+                    .orElseThrow(() -> ResourceNotFoundException.withId("Employee", request.getAssignedToId()));
             workItem.setAssignedTo(assignedTo);
         }
+        if (request.getDueAt() != null) {
+            workItem.setDueAt(request.getDueAt());
+        }
 
         WorkItem updatedWorkItem = workItemRepository.saveAndFlush(workItem);
 
+        WorkItemResponse response = workItemMapper.toResponse(updatedWorkItem);
+        publishChange(WorkItemEventType.UPDATED, previousStatus, previousAssigneeId, response, currentActor());
+
         log.info("Successfully updated work item {}", workItemId);
-        return workItemMapper.toResponse(updatedWorkItem);
+        return response;
     }
 
     /**
      * Fetch all work items for an employee (created by or assigned to).
      *
      * @param employeeId the ID of the employee
+     * @param includeArchived whether to include archived work items
      * @return list of WorkItemResponse
-     * @throws IllegalArgumentException if employee not found
+     * @throws ResourceNotFoundException if employee not found
      */
-    public List<WorkItemResponse> fetchWorkItemsForEmployee(UUID employeeId) {
+    public List<WorkItemResponse> fetchWorkItemsForEmployee(UUID employeeId, boolean includeArchived) {
         log.debug("Fetching work items for employee {}", employeeId);
 
         Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> {
-                    log.warn("Employee not found with ID: {}", employeeId);
-                    return new IllegalArgumentException("Employee not found with ID: " + employeeId);
-                });
+                .orElseThrow(() -> ResourceNotFoundException.withId("Employee", employeeId));
+
+        if (includeArchived) {
+            return workItemRepository.findAllIncludingArchived(employee.getId()).stream()
+                    .map(workItemMapper::toResponse)
+                    .collect(Collectors.toList());
+        }
 
         // Get items created by employee
         List<WorkItem> createdItems = workItemRepository.findByCreatedBy(employee);
@@ -211,18 +320,22 @@ public class WorkItemService {
      *
      * @param employeeId the ID of the employee
      * @param pageable pagination parameters
+     * @param includeArchived whether to include archived work items
      * @return page of WorkItemResponse
-     * @throws IllegalArgumentException if employee not found
+     * @throws ResourceNotFoundException if employee not found
      */
-    public Page<WorkItemResponse> fetchWorkItemsForEmployeePaginated(UUID employeeId, Pageable pageable) {
+    public Page<WorkItemResponse> fetchWorkItemsForEmployeePaginated(UUID employeeId, Pageable pageable,
+                                                                      boolean includeArchived) {
         log.debug("Fetching paginated work items for employee {} - Page: {}, Size: {}",
                   employeeId, pageable.getPageNumber(), pageable.getPageSize());
 
         Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> {
-                    log.warn("Employee not found with ID: {}", employeeId);
-                    return new IllegalArgumentException("Employee not found with ID: " + employeeId);
-                });
+                .orElseThrow(() -> ResourceNotFoundException.withId("Employee", employeeId));
+
+        if (includeArchived) {
+            return workItemRepository.findIncludingArchived(employee.getId(), pageable)
+                    .map(workItemMapper::toResponse);
+        }
 
         Page<WorkItem> workItemsPage = workItemRepository.findByCreatedByOrAssignedTo(employee, pageable);
 
@@ -233,45 +346,99 @@ public class WorkItemService {
      * Fetch all work items with pagination.
      *
      * @param pageable pagination parameters
+     * @param includeArchived whether to include archived work items
      * @return page of WorkItemResponse
      */
-    public Page<WorkItemResponse> fetchAllWorkItemsPaginated(Pageable pageable) {
+    public Page<WorkItemResponse> fetchAllWorkItemsPaginated(Pageable pageable, boolean includeArchived) {
         log.debug("Fetching all work items - Page: {}, Size: {}",
                   pageable.getPageNumber(), pageable.getPageSize());
 
+        if (includeArchived) {
+            return workItemRepository.findIncludingArchived(null, pageable)
+                    .map(workItemMapper::toResponse);
+        }
+
         Page<WorkItem> workItemsPage = workItemRepository.findAll(pageable);
         return workItemsPage.map(workItemMapper::toResponse);
     }
 
+    /**
+     * Fetch selected fields of work items with pagination, optionally limited to one employee
+     * (created by or assigned to). Live items are read with a query that selects only those fields;
+     * archived items, when included, are read in full and trimmed.
+     *
+     * @param employeeId the ID of the employee, or null for all work items
+     * @param fields fields to return
+     * @param pageable pagination parameters
+     * @param includeArchived whether to include archived work items
+     * @return page of field name to value maps
+     * @throws ResourceNotFoundException if employee not found
+     */
+    public Page<Map<String, Object>> fetchWorkItemFieldsPaginated(UUID employeeId, Set<WorkItemField> fields,
+                                                                  Pageable pageable, boolean includeArchived) {
+        log.debug("Fetching work item fields {} for employee {} - Page: {}, Size: {}",
+                  fields, employeeId, pageable.getPageNumber(), pageable.getPageSize());
+
+        if (employeeId != null && !employeeRepository.existsById(employeeId)) {
+            throw ResourceNotFoundException.withId("Employee", employeeId);
+        }
+
+        if (includeArchived) {
+            return workItemRepository.findIncludingArchived(employeeId, pageable)
+                    .map(row -> workItemMapper.toFieldMap(workItemMapper.toResponse(row), fields));
+        }
+        return workItemRepository.findFields(fields, employeeId, pageable);
+    }
+
+    /**
+     * Fetch OPEN and IN_PROGRESS work items whose due date has passed.
+     *
+     * @param pageable pagination parameters
+     * @return page of overdue WorkItemResponse
+     */
+    public Page<WorkItemResponse> fetchOverdueWorkItems(Pageable pageable) {
+        log.debug("Fetching overdue work items - Page: {}, Size: {}",
+                  pageable.getPageNumber(), pageable.getPageSize());
+
+        return workItemRepository.findOverdue(SlaMonitor.TRACKED_STATUSES, LocalDateTime.now(), pageable)
+                .map(workItemMapper::toResponse);
+    }
+
     /**
      * Fetch dashboard metrics for an employee.
      *
      * @param employeeId the ID of the employee
      * @return DashboardMetrics with aggregated statistics
-     * @throws IllegalArgumentException if employee not found
+     * @throws ResourceNotFoundException if employee not found
      */
     public DashboardMetrics fetchDashboardMetrics(UUID employeeId) {
+        return fetchDashboardMetrics(employeeId, fetchStatusCounts());
+    }
+
+    /**
+     * Fetch dashboard metrics for an employee, given work item counts by status.
+     * The counts are the same for every employee, so callers may share one read of them.
+     *
+     * @param employeeId the ID of the employee
+     * @param countsByStatus result of {@link #fetchStatusCounts()}
+     * @return DashboardMetrics with aggregated statistics
+     * @throws ResourceNotFoundException if employee not found
+     */
+    public DashboardMetrics fetchDashboardMetrics(UUID employeeId, Map<WorkItemStatus, Long> countsByStatus) {
         log.debug("Fetching dashboard metrics for employee {}", employeeId);
 
         Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> {
-                    log.warn("Employee not found with ID: {}", employeeId);
-                    return new IllegalArgumentException("Employee not found with ID: " + employeeId);
-                });
-
-        // Get all work items
-        List<WorkItem> allWorkItems = workItemRepository.findAll();
-
-        // Get items for this employee
-        List<WorkItem> assignedItems = workItemRepository.findByAssignedTo(employee);
-        List<WorkItem> createdItems = workItemRepository.findByCreatedBy(employee);
-
-        // Calculate metrics
-        long totalWorkItems = allWorkItems.size();
-        long openWorkItems = workItemRepository.findByStatus(WorkItemStatus.OPEN).size();
-        long inProgressWorkItems = workItemRepository.findByStatus(WorkItemStatus.IN_PROGRESS).size();
-        long completedWorkItems = workItemRepository.findByStatus(WorkItemStatus.COMPLETED).size();
-        long rejectedWorkItems = workItemRepository.findByStatus(WorkItemStatus.REJECTED).size();
+                .orElseThrow(() -> ResourceNotFoundException.withId("Employee", employeeId));
+
+        long totalWorkItems = countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        long openWorkItems = countsByStatus.get(WorkItemStatus.OPEN);
+        long inProgressWorkItems = countsByStatus.get(WorkItemStatus.IN_PROGRESS);
+        long completedWorkItems = countsByStatus.get(WorkItemStatus.COMPLETED);
+        long rejectedWorkItems = countsByStatus.get(WorkItemStatus.REJECTED);
+        long myAssignedItems = workItemRepository.countByAssignedTo(employee)
+                + archivedWorkItemRepository.countByAssignedTo(employee);
+        long myCreatedItems = workItemRepository.countByCreatedBy(employee)
+                + archivedWorkItemRepository.countByCreatedBy(employee);
 
         return DashboardMetrics.builder()
                 .totalWorkItems(totalWorkItems)
@@ -279,9 +446,58 @@ public class WorkItemService {
                 .inProgressWorkItems(inProgressWorkItems)
                 .completedWorkItems(completedWorkItems)
                 .rejectedWorkItems(rejectedWorkItems)
-                .myAssignedItems((long) assignedItems.size())
-                .myCreatedItems((long) createdItems.size())
+                .myAssignedItems(myAssignedItems)
+                .myCreatedItems(myCreatedItems)
                 .build();
     }
-}
 
+    /**
+     * Count work items by status.
+     *
+     * @return unmodifiable counts for every status
+     */
+    public Map<WorkItemStatus, Long> fetchStatusCounts() {
+        // Counts span live and archived items so closed totals do not drop when items are archived
+        Map<WorkItemStatus, Long> countsByStatus = new EnumMap<>(WorkItemStatus.class);
+        for (WorkItemStatus status : WorkItemStatus.values()) {
+            countsByStatus.put(status, 0L);
+        }
+        for (StatusCount count : workItemRepository.countGroupedByStatus()) {
+            countsByStatus.merge(count.getStatus(), count.getCount(), Long::sum);
+        }
+        for (StatusCount count : archivedWorkItemRepository.countGroupedByStatus()) {
+            countsByStatus.merge(count.getStatus(), count.getCount(), Long::sum);
+        }
+        return Collections.unmodifiableMap(countsByStatus);
+    }
+
+    /**
+     * Publish a change event inside the current transaction.
+     */
+    private void publishChange(WorkItemEventType type,
+                               WorkItemStatus previousStatus,
+                               UUID previousAssigneeId,
+                               WorkItemResponse response,
+                               String actor) {
+        eventPublisher.publishEvent(WorkItemChangedEvent.builder()
+                .type(type)
+                .workItemId(response.getId())
+                .previousStatus(previousStatus)
+                .status(response.getStatus())
+                .previousAssigneeId(previousAssigneeId)
+                .assigneeId(response.getAssignedToId())
+                .actor(actor)
+                .occurredAt(Instant.now())
+                .snapshot(response)
+                .build());
+    }
+
+    private static UUID assigneeIdOf(WorkItem workItem) {
+        return workItem.getAssignedTo() != null ? workItem.getAssignedTo().getId() : null;
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.opspilot.platform.archive;
+
+import com.opspilot.platform.archive.repository.ArchivedWorkItemRepository;
+import com.opspilot.platform.archive.service.WorkItemArchiveService;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.workitem.dto.DashboardMetrics;
+import com.opspilot.platform.workitem.repository.WorkItemRepository;
+import com.opspilot.platform.workitem.service.WorkItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archives aged closed work items and checks reads that include the archive see the same data.
+ */
+@SpringBootTest(properties = "opspilot.archive.batch-size=3")
+class WorkItemArchiveIntegrationTest {
+
+    @Autowired
+    private WorkItemArchiveService workItemArchiveService;
+
+    @Autowired
+    private WorkItemService workItemService;
+
+    @Autowired
+    private WorkItemRepository workItemRepository;
+
+    @Autowired
+    private ArchivedWorkItemRepository archivedWorkItemRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void archivesAgedClosedItemsAndKeepsThemReadable() {
+        UUID adminId = employeeRepository.findByEmail("admin1@opspilot.com").orElseThrow().getId();
+        jdbcTemplate.update("UPDATE work_items SET updated_at = DATEADD('DAY', -90, updated_at) "
+                + "WHERE status IN ('COMPLETED', 'REJECTED')");
+        long closed = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM work_items WHERE status IN ('COMPLETED', 'REJECTED')", Long.class);
+        long liveBefore = workItemRepository.count();
+        long archivedBefore = archivedWorkItemRepository.count();
+        DashboardMetrics metricsBefore = workItemService.fetchDashboardMetrics(adminId);
+        PageRequest firstPage = PageRequest.of(0, 5, Sort.by("createdAt").descending());
+
+        int moved = workItemArchiveService.archiveClosedItems();
+
+        assertThat(moved).isEqualTo(closed);
+        assertThat(workItemRepository.count()).isEqualTo(liveBefore - closed);
+        assertThat(archivedWorkItemRepository.count()).isEqualTo(archivedBefore + closed);
+        assertThat(workItemService.fetchDashboardMetrics(adminId)).isEqualTo(metricsBefore);
+        assertThat(workItemService.fetchAllWorkItemsPaginated(firstPage, true).getTotalElements())
+                .isEqualTo(liveBefore + archivedBefore);
+        assertThat(workItemService.fetchAllWorkItemsPaginated(firstPage, false).getTotalElements())
+                .isEqualTo(liveBefore - closed);
+    }
+}
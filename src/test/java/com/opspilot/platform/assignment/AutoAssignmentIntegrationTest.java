@@ -0,0 +1,77 @@
+package com.opspilot.platform.assignment;
+
+import com.opspilot.platform.assignment.service.AutoAssignmentService;
+import com.opspilot.platform.user.AccessRole;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.dto.EmployeeRegistrationRequest;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.user.service.EmployeeService;
+import com.opspilot.platform.workitem.dto.WorkItemCreateRequest;
+import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import com.opspilot.platform.workitem.service.WorkItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Operators become eligible for auto-assignment when they register and stop receiving work
+ * as soon as they are deactivated.
+ */
+@SpringBootTest
+class AutoAssignmentIntegrationTest {
+
+    @Autowired
+    private AutoAssignmentService autoAssignmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private WorkItemService workItemService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void registrationAndDeactivationUpdateTheIndex() {
+        UUID operatorId = register("assignable@opspilot.com");
+        assertThat(autoAssignmentService.loadOf(operatorId)).contains(0);
+
+        employeeService.deactivateEmployee(operatorId);
+
+        assertThat(autoAssignmentService.loadOf(operatorId)).isEmpty();
+    }
+
+    @Test
+    void operatorDeactivatedElsewhereIsNeverAssigned() {
+        UUID operatorId = register("deactivated-elsewhere@opspilot.com");
+        // As if deactivated on another replica whose broadcast has not arrived yet
+        jdbcTemplate.update("UPDATE employees SET active = false WHERE id = ?", operatorId);
+
+        Employee admin = employeeRepository.findByEmail("admin1@opspilot.com").orElseThrow();
+        for (int i = 0; i < 30 && autoAssignmentService.loadOf(operatorId).isPresent(); i++) {
+            WorkItemResponse created = workItemService.createWorkItem(
+                    WorkItemCreateRequest.builder().title("Auto assigned " + i).autoAssign(true).build(), admin);
+            assertThat(created.getAssignedToId()).isNotEqualTo(operatorId);
+        }
+
+        assertThat(autoAssignmentService.loadOf(operatorId)).isEmpty();
+    }
+
+    private UUID register(String email) {
+        return employeeService.registerEmployee(EmployeeRegistrationRequest.builder()
+                .email(email)
+                .password("Password123")
+                .fullName("Auto Assignment Test")
+                .role(AccessRole.OPERATOR)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,90 @@
+package com.opspilot.platform.assignment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OperatorLoadIndexTest {
+
+    private final UUID busy = UUID.randomUUID();
+    private final UUID idle = UUID.randomUUID();
+
+    @Test
+    void picksLeastLoadedOperatorAndCountsReservations() {
+        OperatorLoadIndex index = new OperatorLoadIndex();
+        index.rebuild(Map.of(busy, 3, idle, 1));
+
+        assertThat(index.reserveLeastLoaded()).contains(idle);
+        assertThat(index.reserveLeastLoaded()).contains(idle);
+        assertThat(index.loadOf(idle)).contains(3);
+
+        // Tie at 3: the operator reserved longest ago goes first
+        assertThat(index.reserveLeastLoaded()).contains(busy);
+    }
+
+    @Test
+    void committedChangeReplacesReservation() {
+        OperatorLoadIndex index = new OperatorLoadIndex();
+        index.rebuild(Map.of(idle, 0));
+
+        index.reserveLeastLoaded();
+        index.adjust(idle, 1);
+        index.release(idle);
+
+        assertThat(index.loadOf(idle)).contains(1);
+        index.adjust(UUID.randomUUID(), 1);
+        assertThat(index.summary().operators()).isEqualTo(1);
+    }
+
+    @Test
+    void addedOperatorsArePickedAndRemovedOnesAreNot() {
+        OperatorLoadIndex index = new OperatorLoadIndex();
+        index.rebuild(Map.of(busy, 2));
+
+        index.add(idle, 0);
+        index.add(idle, 5);
+        assertThat(index.reserveLeastLoaded()).contains(idle);
+
+        index.remove(idle);
+        index.release(idle);
+        assertThat(index.loadOf(idle)).isEmpty();
+        assertThat(index.reserveLeastLoaded()).contains(busy);
+    }
+
+    @Test
+    void concurrentReservationsStayBalanced() throws Exception {
+        OperatorLoadIndex index = new OperatorLoadIndex();
+        List<UUID> operators = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            operators.add(UUID.randomUUID());
+        }
+        index.rebuild(operators.stream().collect(Collectors.toMap(id -> id, id -> 0)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> reservations = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                reservations.add(executor.submit(() -> index.reserveLeastLoaded().orElseThrow()));
+            }
+            for (Future<?> reservation : reservations) {
+                reservation.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        OperatorLoadIndex.LoadSummary summary = index.summary();
+        assertThat(summary.totalLoad()).isEqualTo(1000);
+        assertThat(summary.minLoad()).isEqualTo(100);
+        assertThat(summary.maxLoad()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,93 @@
+package com.opspilot.platform.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opspilot.platform.auth.dto.AuthResponse;
+import com.opspilot.platform.auth.dto.RefreshTokenRequest;
+import com.opspilot.platform.auth.service.RefreshTokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Refresh tokens renew access once each; a reused token revokes its whole family.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RefreshTokenIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void renewalRotatesTheRefreshToken() throws Exception {
+        AuthResponse login = refreshTokenService.login("operator1@opspilot.com");
+
+        JsonNode renewed = readBody(refresh(login.getRefreshToken())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("operator1@opspilot.com"))
+                .andExpect(jsonPath("$.role").value("OPERATOR"))
+                .andExpect(jsonPath("$.expiresIn").value(900)));
+
+        assertThat(renewed.get("refreshToken").asText()).isNotEqualTo(login.getRefreshToken());
+        mockMvc.perform(get("/api/workitems/my")
+                        .header("Authorization", "Bearer " + renewed.get("token").asText()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void reusedTokenRevokesItsFamily() throws Exception {
+        AuthResponse login = refreshTokenService.login("operator1@opspilot.com");
+        String successor = readBody(refresh(login.getRefreshToken()).andExpect(status().isOk()))
+                .get("refreshToken").asText();
+
+        refresh(login.getRefreshToken()).andExpect(status().isUnauthorized());
+        refresh(successor).andExpect(status().isUnauthorized());
+
+        // Other logins of the same employee are unaffected
+        refresh(refreshTokenService.login("operator1@opspilot.com").getRefreshToken()).andExpect(status().isOk());
+    }
+
+    @Test
+    void logoutRevokesTheRefreshToken() throws Exception {
+        AuthResponse login = refreshTokenService.login("operator1@opspilot.com");
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(login.getRefreshToken())))
+                .andExpect(status().isNoContent());
+
+        refresh(login.getRefreshToken()).andExpect(status().isUnauthorized());
+        refresh("not-a-token").andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(refreshToken)));
+    }
+
+    private String body(String refreshToken) throws Exception {
+        return objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken));
+    }
+
+    private JsonNode readBody(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+    }
+}
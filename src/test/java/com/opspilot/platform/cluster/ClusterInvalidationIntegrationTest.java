@@ -0,0 +1,112 @@
+package com.opspilot.platform.cluster;
+
+import com.opspilot.platform.assignment.service.AutoAssignmentService;
+import com.opspilot.platform.cluster.service.InvalidationBus;
+import com.opspilot.platform.user.AccessRole;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Invalidations from a peer, simulated with rows in the table transport, reach the local
+ * caches; local invalidations are coalesced before they are sent.
+ */
+@SpringBootTest(properties = {
+        "opspilot.cluster.transport=table",
+        "opspilot.cluster.node-id=local-node",
+        "opspilot.cluster.coalesce-window=200ms",
+        "opspilot.cluster.table.poll-interval=50ms"
+})
+class ClusterInvalidationIntegrationTest {
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private AutoAssignmentService autoAssignmentService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void peerEmployeeChangeEvictsTheCachedEmployee() throws Exception {
+        UUID employeeId = employeeRepository.findByEmail("admin1@opspilot.com").orElseThrow().getId();
+        employeeRepository.findById(employeeId);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        assertThat(sessionFactory.getCache().containsEntity(Employee.class, employeeId)).isTrue();
+
+        sendFromPeer(InvalidationTopic.EMPLOYEE, employeeId.toString(), 0);
+
+        await(() -> !sessionFactory.getCache().containsEntity(Employee.class, employeeId));
+    }
+
+    @Test
+    void peerLoadDeltasReachTheOperatorIndex() throws Exception {
+        UUID operatorId = employeeRepository.findByRole(AccessRole.OPERATOR).get(0).getId();
+        int before = autoAssignmentService.loadOf(operatorId).orElseThrow();
+
+        sendFromPeer(InvalidationTopic.OPERATOR_LOAD, operatorId.toString(), 2);
+        await(() -> autoAssignmentService.loadOf(operatorId).orElseThrow() == before + 2);
+
+        sendFromPeer(InvalidationTopic.OPERATOR_LOAD, operatorId.toString(), -2);
+        await(() -> autoAssignmentService.loadOf(operatorId).orElseThrow() == before);
+    }
+
+    @Test
+    void localInvalidationsAreCoalescedBeforeSending() throws Exception {
+        String operatorKey = UUID.randomUUID().toString();
+        String employeeKey = UUID.randomUUID().toString();
+        for (int i = 0; i < 3; i++) {
+            invalidationBus.adjust(InvalidationTopic.OPERATOR_LOAD, operatorKey, 1);
+            invalidationBus.evict(InvalidationTopic.EMPLOYEE, employeeKey);
+        }
+
+        await(() -> deltaSent(operatorKey) == 3 && !rowsFor(employeeKey).isEmpty());
+
+        // Three publishes per key; a flush falling between them splits them over two messages at most
+        assertThat(rowsFor(operatorKey)).hasSizeLessThan(3)
+                .allSatisfy(row -> assertThat(row.get("origin")).isEqualTo("local-node"));
+        assertThat(rowsFor(employeeKey)).hasSizeLessThan(3);
+    }
+
+    private void sendFromPeer(InvalidationTopic topic, String key, long delta) {
+        jdbcTemplate.update("""
+                INSERT INTO cluster_invalidations (origin, topic, cache_key, delta, sent_at)
+                VALUES ('peer-node', ?, ?, ?, ?)
+                """, topic.name(), key, delta, System.currentTimeMillis());
+    }
+
+    private List<Map<String, Object>> rowsFor(String key) {
+        return jdbcTemplate.queryForList("SELECT origin, delta FROM cluster_invalidations WHERE cache_key = ?", key);
+    }
+
+    private long deltaSent(String key) {
+        return rowsFor(key).stream().mapToLong(row -> ((Number) row.get("delta")).longValue()).sum();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition within 5s").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.opspilot.platform.cluster;
+
+import com.opspilot.platform.cluster.service.InvalidationBus;
+import com.opspilot.platform.cluster.transport.InvalidationTransport;
+import com.opspilot.platform.cluster.transport.PartialSendException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Failed sends are retried without resending what already reached the peers.
+ */
+class InvalidationBusTest {
+
+    private final FailingOnceTransport transport = new FailingOnceTransport();
+    private InvalidationBus bus;
+
+    @AfterEach
+    void stopBus() {
+        bus.stop();
+    }
+
+    @Test
+    void partialFailureRetriesOnlyTheUnsentMessages() throws Exception {
+        transport.sendFirst = 2;
+        startBus();
+        for (int i = 0; i < 5; i++) {
+            bus.adjust(InvalidationTopic.OPERATOR_LOAD, "operator-" + i, 1);
+        }
+
+        await(() -> transport.delivered.size() == 5);
+        Thread.sleep(500);
+
+        assertThat(deltasByKey()).hasSize(5).allSatisfy((key, delta) -> assertThat(delta).isEqualTo(1));
+    }
+
+    @Test
+    void completeFailureRetriesTheWholeBatch() throws Exception {
+        transport.sendFirst = 0;
+        startBus();
+        for (int i = 0; i < 3; i++) {
+            bus.adjust(InvalidationTopic.OPERATOR_LOAD, "operator-" + i, 2);
+        }
+
+        await(() -> transport.delivered.size() == 3);
+        Thread.sleep(500);
+
+        assertThat(deltasByKey()).hasSize(3).allSatisfy((key, delta) -> assertThat(delta).isEqualTo(2));
+    }
+
+    private void startBus() {
+        ClusterProperties properties = new ClusterProperties();
+        properties.setNodeId("local-node");
+        properties.setCoalesceWindow(Duration.ofMillis(200));
+        bus = new InvalidationBus(properties,
+                new StaticListableBeanFactory(Map.of("transport", transport)).getBeanProvider(InvalidationTransport.class),
+                new SimpleMeterRegistry());
+        bus.start();
+    }
+
+    private Map<String, Long> deltasByKey() {
+        return transport.delivered.stream()
+                .collect(Collectors.groupingBy(InvalidationMessage::key, Collectors.summingLong(InvalidationMessage::delta)));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition within 5s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Delivers only the first {@code sendFirst} messages of the first batch, leaving at least
+     * one unsent, then fails.
+     */
+    private static final class FailingOnceTransport implements InvalidationTransport {
+
+        private final List<InvalidationMessage> delivered = new CopyOnWriteArrayList<>();
+        private volatile int sendFirst;
+        private volatile boolean failed;
+
+        @Override
+        public String getName() {
+            return "failing-once";
+        }
+
+        @Override
+        public void start(Consumer<List<InvalidationMessage>> receiver) {
+        }
+
+        @Override
+        public void send(List<InvalidationMessage> messages) throws Exception {
+            if (failed) {
+                delivered.addAll(messages);
+                return;
+            }
+            failed = true;
+            IOException cause = new IOException("Network is unreachable");
+            if (sendFirst == 0 || messages.size() == 1) {
+                throw cause;
+            }
+            int sent = Math.min(sendFirst, messages.size() - 1);
+            delivered.addAll(messages.subList(0, sent));
+            throw new PartialSendException(messages.subList(sent, messages.size()), cause);
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
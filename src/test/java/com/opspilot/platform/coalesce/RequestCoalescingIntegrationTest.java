@@ -0,0 +1,148 @@
+package com.opspilot.platform.coalesce;
+
+import com.opspilot.platform.coalesce.service.RequestCoalescer;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.service.WorkItemService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A wave of identical dashboard reads runs the status count queries once instead of once per caller.
+ */
+@SpringBootTest
+class RequestCoalescingIntegrationTest {
+
+    private static final int CALLERS = 32;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private WorkItemService workItemService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void identicalConcurrentReadsShareOneExecution() throws Exception {
+        long perRead = queriesFor(List.of(workItemService::fetchStatusCounts));
+
+        long uncoalesced = queriesFor(wave("ROLE_ADMIN", workItemService::fetchStatusCounts));
+        // The leader holds its read open until every other caller has joined it
+        long coalesced = queriesFor(wave("ROLE_ADMIN", () -> requestCoalescer.execute("test.wave", null, () -> {
+            awaitShared("test.wave", CALLERS - 1);
+            return workItemService.fetchStatusCounts();
+        })));
+
+        assertThat(uncoalesced).isEqualTo(perRead * CALLERS);
+        assertThat(coalesced).isEqualTo(perRead);
+    }
+
+    @Test
+    void callersWithDifferentRolesDoNotShare() throws Exception {
+        List<Callable<Map<WorkItemStatus, Long>>> calls = new ArrayList<>();
+        calls.addAll(wave("ROLE_ADMIN", () -> requestCoalescer.execute("test.roles", null, this::slowCounts)));
+        calls.addAll(wave("ROLE_OPERATOR", () -> requestCoalescer.execute("test.roles", null, this::slowCounts)));
+
+        runConcurrently(calls);
+
+        assertThat(meterRegistry.get("opspilot.coalescing.calls")
+                .tag("name", "test.roles").tag("result", "led").functionCounter().count())
+                .isGreaterThanOrEqualTo(2);
+    }
+
+    private Map<WorkItemStatus, Long> slowCounts() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return workItemService.fetchStatusCounts();
+    }
+
+    private List<Callable<Map<WorkItemStatus, Long>>> wave(String role, Supplier<Map<WorkItemStatus, Long>> read) {
+        List<Callable<Map<WorkItemStatus, Long>>> calls = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            calls.add(() -> {
+                SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", null, role));
+                try {
+                    return read.get();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        }
+        return calls;
+    }
+
+    private long queriesFor(List<Callable<Map<WorkItemStatus, Long>>> calls) throws Exception {
+        statistics.clear();
+        List<Map<WorkItemStatus, Long>> results = runConcurrently(calls);
+        assertThat(results).allSatisfy(counts -> assertThat(counts).isEqualTo(results.get(0)));
+        // Only the status count queries; schedulers may run other statements meanwhile
+        long executions = 0;
+        for (String query : statistics.getQueries()) {
+            if (query.contains("GROUP BY") && query.contains(".status")) {
+                executions += statistics.getQueryStatistics(query).getExecutionCount();
+            }
+        }
+        return executions;
+    }
+
+    private static <T> List<T> runConcurrently(List<Callable<T>> calls) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(calls.size());
+        try {
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : executor.invokeAll(calls)) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitShared(String name, long expected) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline && meterRegistry.get("opspilot.coalescing.calls")
+                .tag("name", name).tag("result", "shared").functionCounter().count() < expected) {
+            Thread.onSpinWait();
+        }
+    }
+}
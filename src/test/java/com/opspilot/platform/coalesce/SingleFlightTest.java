@@ -0,0 +1,119 @@
+package com.opspilot.platform.coalesce;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallersShareOneRun() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Integer> results = runConcurrently(() -> singleFlight.execute("key", Duration.ofSeconds(5), () -> {
+            runs.incrementAndGet();
+            await(release);
+            return 42;
+        }), () -> awaitShared(CALLERS - 1, release));
+
+        assertThat(results).hasSize(CALLERS).containsOnly(42);
+        assertThat(runs).hasValue(1);
+        assertThat(singleFlight.getLedCount()).isEqualTo(1);
+        assertThat(singleFlight.inFlight()).isZero();
+
+        // Nothing is cached once the run finished
+        assertThat(singleFlight.execute("key", Duration.ofSeconds(5), runs::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    void waitingCallersSeeTheLeadersException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Integer> results = runConcurrently(() -> {
+            try {
+                return singleFlight.execute("key", Duration.ofSeconds(5), () -> {
+                    await(release);
+                    throw new IllegalStateException("boom");
+                });
+            } catch (IllegalStateException e) {
+                return e.getMessage().equals("boom") ? -1 : 0;
+            }
+        }, () -> awaitShared(CALLERS - 1, release));
+
+        assertThat(results).containsOnly(-1);
+    }
+
+    @Test
+    void waiterPastItsTimeoutRunsTheLoaderItself() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> leader = executor.submit(() -> singleFlight.execute("key", Duration.ofSeconds(5), () -> {
+                await(release);
+                return 1;
+            }));
+            while (singleFlight.inFlight() == 0) {
+                Thread.sleep(5);
+            }
+
+            assertThat(singleFlight.execute("key", Duration.ofMillis(50), () -> 2)).isEqualTo(2);
+            assertThat(singleFlight.getTimedOutCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(leader.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Integer> runConcurrently(Callable<Integer> call, Runnable whileRunning)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(call));
+            }
+            whileRunning.run();
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitShared(long expected, CountDownLatch release) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (singleFlight.getSharedCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.opspilot.platform.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opspilot.platform.auth.dto.AuthResponse;
+import com.opspilot.platform.security.JwtTokenProvider;
+import com.opspilot.platform.user.dto.LoginRequest;
+import com.opspilot.platform.workitem.dto.DashboardMetrics;
+import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * CBOR and Smile clients get the same documents as JSON clients.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BinaryContentNegotiationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application/cbor", "application/x-jackson-smile"})
+    void binaryResponsesMatchJson(String mediaType) throws Exception {
+        ObjectMapper binaryMapper = converterFor(mediaType).getObjectMapper();
+
+        byte[] dashboard = fetch("/api/admin/dashboard", mediaType);
+        assertThat(binaryMapper.readValue(dashboard, DashboardMetrics.class))
+                .isEqualTo(objectMapper.readValue(fetch("/api/admin/dashboard", "application/json"), DashboardMetrics.class));
+
+        byte[] page = fetch("/api/admin/workitems?size=50", mediaType);
+        List<WorkItemResponse> binaryItems = contentOf(binaryMapper, page);
+        List<WorkItemResponse> jsonItems = contentOf(objectMapper, fetch("/api/admin/workitems?size=50", "application/json"));
+        assertThat(binaryItems).isNotEmpty().isEqualTo(jsonItems);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application/cbor", "application/x-jackson-smile"})
+    void binaryRequestBodiesAreAccepted(String mediaType) throws Exception {
+        ObjectMapper binaryMapper = converterFor(mediaType).getObjectMapper();
+        byte[] login = binaryMapper.writeValueAsBytes(new LoginRequest("admin1@opspilot.com", "Password123"));
+
+        byte[] body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(mediaType)
+                        .accept(mediaType)
+                        .content(login))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        AuthResponse response = binaryMapper.readValue(body, AuthResponse.class);
+        assertThat(response.getEmail()).isEqualTo("admin1@opspilot.com");
+        assertThat(jwtTokenProvider.validateToken(response.getToken())).isTrue();
+    }
+
+    private AbstractJackson2HttpMessageConverter converterFor(String mediaType) {
+        return MediaType.parseMediaType(mediaType).equals(MediaType.APPLICATION_CBOR) ? cborConverter : smileConverter;
+    }
+
+    private byte[] fetch(String url, String mediaType) throws Exception {
+        String token = jwtTokenProvider.generateTokenFromEmailAndRole("admin1@opspilot.com", "ADMIN");
+        return mockMvc.perform(get(url).header("Authorization", "Bearer " + token).accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private static List<WorkItemResponse> contentOf(ObjectMapper mapper, byte[] page) throws Exception {
+        List<WorkItemResponse> items = new ArrayList<>();
+        for (JsonNode item : mapper.readTree(page).get("content")) {
+            items.add(mapper.treeToValue(item, WorkItemResponse.class));
+        }
+        return items;
+    }
+}
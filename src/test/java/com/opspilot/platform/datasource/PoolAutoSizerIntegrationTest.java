@@ -0,0 +1,92 @@
+package com.opspilot.platform.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Under a burst of callers holding connections the pool grows, and it shrinks back once idle.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.minimum-idle=2",
+        "opspilot.datasource.pool-sizing.min-pool-size=2",
+        "opspilot.datasource.pool-sizing.max-pool-size=6",
+        "opspilot.datasource.pool-sizing.shrink-after-quiet-intervals=2",
+        "opspilot.datasource.pool-sizing.interval=1h"
+})
+class PoolAutoSizerIntegrationTest {
+
+    private static final int CALLERS = 8;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private PoolAutoSizer poolAutoSizer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void poolGrowsUnderWaitsAndShrinksWhenQuiet() throws Exception {
+        assertThat(meterRegistry.get("hikaricp.connections.pending").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(dataSource.getLeakDetectionThreshold()).isPositive();
+        // Baseline: startup traffic is not an interval
+        poolAutoSizer.adjust();
+
+        burst();
+        poolAutoSizer.adjust();
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(4);
+
+        burst();
+        poolAutoSizer.adjust();
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(6);
+
+        // Never beyond max-pool-size
+        burst();
+        poolAutoSizer.adjust();
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(6);
+
+        poolAutoSizer.adjust();
+        poolAutoSizer.adjust();
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(5);
+        assertThat(meterRegistry.get("opspilot.datasource.pool.resizes")
+                .tag("pool", "primary").tag("direction", "grow").counter().count()).isEqualTo(2);
+    }
+
+    /**
+     * Callers each hold a connection for a while, so most of them queue for one.
+     */
+    private void burst() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        connection.createStatement().execute("SELECT 1");
+                        Thread.sleep(50);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
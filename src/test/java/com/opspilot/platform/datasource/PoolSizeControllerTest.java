@@ -0,0 +1,76 @@
+package com.opspilot.platform.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PoolSizeControllerTest {
+
+    @Test
+    void settlesBelowTheSizeThatSlowsTheDatabaseDown() {
+        PoolSizeController controller = new PoolSizeController(properties());
+
+        // Callers always queue; beyond six connections the database slows down with every extra one
+        List<Integer> sizes = new ArrayList<>();
+        int size = 2;
+        for (int interval = 0; interval < 400; interval++) {
+            double holdMillis = size <= 6 ? 10 : 10 * (size - 5);
+            size = controller.next(size, 100, true, holdMillis).size();
+            sizes.add(size);
+        }
+
+        assertThat(sizes).allMatch(s -> s <= 8);
+        // Probes of the ceiling back off, so after settling the size changes only a handful of times
+        assertThat(changes(sizes.subList(50, sizes.size()))).isLessThanOrEqualTo(12);
+        assertThat(sizes.subList(50, sizes.size()).stream().filter(s -> s == 6).count())
+                .isGreaterThan((long) (0.9 * (sizes.size() - 50)));
+    }
+
+    @Test
+    void growsPastAnOldCeilingOnceTheDatabaseCopes() {
+        PoolSizeController controller = new PoolSizeController(properties());
+        int size = 6;
+        size = controller.next(size, 100, true, 10).size();
+        size = controller.next(size, 100, true, 40).size();
+        assertThat(size).isEqualTo(6);
+
+        // The database got faster; the probe after the cooldown holds and growth resumes
+        for (int interval = 0; interval < 40; interval++) {
+            size = controller.next(size, 100, true, 10).size();
+        }
+        assertThat(size).isEqualTo(16);
+    }
+
+    @Test
+    void shrinksAfterQuietIntervals() {
+        PoolSizeController controller = new PoolSizeController(properties());
+
+        assertThat(controller.next(6, 0, false, 5).size()).isEqualTo(6);
+        assertThat(controller.next(6, 0, false, 5).size()).isEqualTo(5);
+        assertThat(controller.next(2, 0, false, 5).size()).isEqualTo(2);
+        assertThat(controller.next(2, 0, false, 5).size()).isEqualTo(2);
+    }
+
+    private static long changes(List<Integer> sizes) {
+        long changes = 0;
+        for (int i = 1; i < sizes.size(); i++) {
+            if (!sizes.get(i).equals(sizes.get(i - 1))) {
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    private static PoolSizingProperties properties() {
+        PoolSizingProperties properties = new PoolSizingProperties();
+        properties.setMinPoolSize(2);
+        properties.setMaxPoolSize(16);
+        properties.setGrowthStep(2);
+        properties.setRegressionCooldownIntervals(30);
+        properties.setShrinkAfterQuietIntervals(2);
+        return properties;
+    }
+}
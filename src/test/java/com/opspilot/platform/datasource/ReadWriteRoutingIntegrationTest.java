@@ -0,0 +1,107 @@
+package com.opspilot.platform.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Against two H2 databases, read-only transactions use the replica, writes use the primary,
+ * and an employee's reads stay on the primary until the replica has caught up with their writes.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "opspilot.datasource.routing.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        // Own cache regions: the second-level cache is shared by every context in the JVM
+        "spring.jpa.properties.hibernate.cache.region_prefix=ReadWriteRoutingIntegrationTest",
+        // One sync at startup gives the replica the schema; the test reports watermarks itself
+        "opspilot.datasource.routing.replica.sync-interval=1h"
+})
+@ActiveProfiles("replica")
+class ReadWriteRoutingIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaLagTracker replicaLagTracker;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void markDatabases() {
+        mark(primaryDataSource, "primary");
+        mark(replicaDataSource, "replica");
+        replicaLagTracker.reportReplicaWatermark(System.currentTimeMillis());
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaAndWritesThePrimary() {
+        assertThat(databaseSeenBy(true)).isEqualTo("replica");
+        assertThat(databaseSeenBy(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void readsFollowingAnOwnWriteStayOnThePrimaryUntilReplicated() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("writer@opspilot.com", null, "ROLE_OPERATOR"));
+        transaction(false).executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE routing_marker SET name = name"));
+
+        assertThat(databaseSeenBy(true)).isEqualTo("primary");
+
+        // Other employees' reads are unaffected
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("reader@opspilot.com", null, "ROLE_OPERATOR"));
+        assertThat(databaseSeenBy(true)).isEqualTo("replica");
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("writer@opspilot.com", null, "ROLE_OPERATOR"));
+        replicaLagTracker.reportReplicaWatermark(System.currentTimeMillis() + 1);
+        assertThat(databaseSeenBy(true)).isEqualTo("replica");
+    }
+
+    private String databaseSeenBy(boolean readOnly) {
+        return transaction(readOnly).execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM routing_marker", String.class));
+    }
+
+    private TransactionTemplate transaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    private static void mark(DataSource dataSource, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        jdbc.update("DELETE FROM routing_marker");
+        jdbc.update("INSERT INTO routing_marker (name) VALUES (?)", name);
+    }
+}
@@ -0,0 +1,71 @@
+package com.opspilot.platform.exception;
+
+import com.opspilot.platform.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Missing resources answer 404 and conflicting changes 409, with the usual error body.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class DomainExceptionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void missingWorkItemIsNotFound() throws Exception {
+        UUID missing = UUID.randomUUID();
+
+        mockMvc.perform(get("/api/workitems/" + missing + "/history").header("Authorization", bearer()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.error").value("Not Found"))
+                .andExpect(jsonPath("$.message").value("Work item not found with ID: " + missing))
+                .andExpect(jsonPath("$.timestamp").exists());
+
+        mockMvc.perform(put("/api/workitems/" + missing + "/status")
+                        .header("Authorization", bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void duplicateRegistrationIsConflict() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"admin1@opspilot.com","password":"Password123",
+                                 "fullName":"Duplicate Admin","role":"ADMIN"}
+                                """))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"));
+    }
+
+    @Test
+    void domainExceptionsCaptureNoStackTrace() {
+        assertThat(ResourceNotFoundException.withId("Work item", UUID.randomUUID()).getStackTrace()).isEmpty();
+    }
+
+    private String bearer() {
+        return "Bearer " + jwtTokenProvider.generateTokenFromEmailAndRole("admin1@opspilot.com", "ADMIN");
+    }
+}
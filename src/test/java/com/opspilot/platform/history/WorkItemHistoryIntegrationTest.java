@@ -0,0 +1,78 @@
+package com.opspilot.platform.history;
+
+import com.opspilot.platform.history.repository.WorkItemTransitionRepository;
+import com.opspilot.platform.security.JwtTokenProvider;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.dto.WorkItemCreateRequest;
+import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import com.opspilot.platform.workitem.service.WorkItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Status changes are recorded by the background writer and served oldest first.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class WorkItemHistoryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private WorkItemService workItemService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private WorkItemTransitionRepository transitionRepository;
+
+    @Test
+    void recordsEveryStatusChangeInOrder() throws Exception {
+        Employee admin = employeeRepository.findByEmail("admin1@opspilot.com").orElseThrow();
+        WorkItemResponse created = workItemService.createWorkItem(
+                WorkItemCreateRequest.builder().title("Tracked item").build(), admin);
+        workItemService.updateStatus(created.getId(), WorkItemStatus.IN_PROGRESS);
+        workItemService.updateStatus(created.getId(), WorkItemStatus.COMPLETED);
+
+        awaitTransitions(created.getId(), 3);
+
+        mockMvc.perform(get("/api/workitems/" + created.getId() + "/history")
+                        .header("Authorization", "Bearer "
+                                + jwtTokenProvider.generateTokenFromEmailAndRole("admin1@opspilot.com", "ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[0].eventType").value("CREATED"))
+                .andExpect(jsonPath("$.content[0].fromStatus").doesNotExist())
+                .andExpect(jsonPath("$.content[1].fromStatus").value("OPEN"))
+                .andExpect(jsonPath("$.content[1].toStatus").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.content[2].toStatus").value("COMPLETED"));
+    }
+
+    private void awaitTransitions(UUID workItemId, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (transitionRepository.findByWorkItemId(workItemId, Pageable.unpaged()).getTotalElements() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(transitionRepository.findByWorkItemId(workItemId, Pageable.unpaged()).getTotalElements())
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,113 @@
+package com.opspilot.platform.history;
+
+import com.opspilot.platform.history.repository.WorkItemTransitionRepository;
+import com.opspilot.platform.history.service.TransitionWriter;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.dto.WorkItemCreateRequest;
+import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import com.opspilot.platform.workitem.service.WorkItemService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Transitions that do not fit in the ring buffer, or arrive while the writer is stopped, are
+ * written by the committing thread in their own transaction and are not lost.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:history-overflow-test",
+        // Own cache regions: the second-level cache is shared by every context in the JVM
+        "spring.jpa.properties.hibernate.cache.region_prefix=WorkItemHistoryOverflowIntegrationTest",
+        "opspilot.history.buffer-size=1"
+})
+class WorkItemHistoryOverflowIntegrationTest {
+
+    @Autowired
+    private WorkItemService workItemService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private WorkItemTransitionRepository transitionRepository;
+
+    @Autowired
+    private TransitionWriter transitionWriter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void keepsTransitionsThatOverflowTheBuffer() throws Exception {
+        Employee admin = employeeRepository.findByEmail("admin1@opspilot.com").orElseThrow();
+        List<UUID> ids = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // A one-slot buffer overflows as soon as two changes commit while the writer is busy
+            for (int round = 0; round < 20 && overflowed() == 0; round++) {
+                List<Future<UUID>> created = new ArrayList<>();
+                for (int i = 0; i < 16; i++) {
+                    created.add(executor.submit(() -> {
+                        WorkItemResponse item = workItemService.createWorkItem(
+                                WorkItemCreateRequest.builder().title("Burst item").build(), admin);
+                        workItemService.updateStatus(item.getId(), WorkItemStatus.IN_PROGRESS);
+                        return item.getId();
+                    }));
+                }
+                for (Future<UUID> id : created) {
+                    ids.add(id.get());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(overflowed()).isPositive();
+        for (UUID id : ids) {
+            awaitTransitions(id, 2);
+        }
+    }
+
+    @Test
+    void writesOnTheCommittingThreadWhileTheWriterIsStopped() {
+        Employee admin = employeeRepository.findByEmail("admin1@opspilot.com").orElseThrow();
+        transitionWriter.stop();
+        try {
+            WorkItemResponse created = workItemService.createWorkItem(
+                    WorkItemCreateRequest.builder().title("Written inline").build(), admin);
+            workItemService.updateStatus(created.getId(), WorkItemStatus.IN_PROGRESS);
+
+            assertThat(transitionRepository.findByWorkItemId(created.getId(), Pageable.unpaged())
+                    .getTotalElements()).isEqualTo(2);
+        } finally {
+            transitionWriter.start();
+        }
+    }
+
+    private double overflowed() {
+        return meterRegistry.counter("opspilot.history.overflow").count();
+    }
+
+    private void awaitTransitions(UUID workItemId, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (transitionRepository.findByWorkItemId(workItemId, Pageable.unpaged()).getTotalElements() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(transitionRepository.findByWorkItemId(workItemId, Pageable.unpaged()).getTotalElements())
+                .isEqualTo(expected);
+    }
+}
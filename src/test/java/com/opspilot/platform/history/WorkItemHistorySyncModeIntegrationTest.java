@@ -0,0 +1,72 @@
+package com.opspilot.platform.history;
+
+import com.opspilot.platform.history.repository.WorkItemTransitionRepository;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.dto.WorkItemCreateRequest;
+import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import com.opspilot.platform.workitem.service.WorkItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * In SYNC mode transitions are written in the service transaction: visible as soon as the
+ * change commits, and rolled back with it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:history-sync-test",
+        // Own cache regions: the second-level cache is shared by every context in the JVM
+        "spring.jpa.properties.hibernate.cache.region_prefix=WorkItemHistorySyncModeIntegrationTest",
+        "opspilot.history.mode=sync"
+})
+class WorkItemHistorySyncModeIntegrationTest {
+
+    @Autowired
+    private WorkItemService workItemService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private WorkItemTransitionRepository transitionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void transitionsCommitWithTheChange() {
+        Employee admin = employeeRepository.findByEmail("admin1@opspilot.com").orElseThrow();
+        WorkItemResponse created = workItemService.createWorkItem(
+                WorkItemCreateRequest.builder().title("Synchronously tracked").build(), admin);
+        workItemService.updateStatus(created.getId(), WorkItemStatus.IN_PROGRESS);
+
+        assertThat(transitionCount(created.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void transitionsRollBackWithTheChange() {
+        Employee admin = employeeRepository.findByEmail("admin1@opspilot.com").orElseThrow();
+        WorkItemResponse created = workItemService.createWorkItem(
+                WorkItemCreateRequest.builder().title("Change rolled back").build(), admin);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            workItemService.updateStatus(created.getId(), WorkItemStatus.IN_PROGRESS);
+            status.setRollbackOnly();
+        });
+
+        assertThat(transitionCount(created.getId())).isEqualTo(1);
+    }
+
+    private long transitionCount(UUID workItemId) {
+        return transitionRepository.findByWorkItemId(workItemId, Pageable.unpaged()).getTotalElements();
+    }
+}
@@ -0,0 +1,114 @@
+package com.opspilot.platform.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opspilot.platform.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Retries and concurrent duplicates of a keyed create produce exactly one work item.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyKeyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void retryReplaysTheOriginalResponse() throws Exception {
+        String body = "{\"title\":\"Idempotent retry\"}";
+
+        MvcResult first = create("retry-key", body)
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andReturn();
+        MvcResult retry = create("retry-key", body)
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn();
+
+        assertThat(idOf(retry)).isEqualTo(idOf(first));
+        assertThat(countTitled("Idempotent retry")).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentDuplicatesRunOnce() throws Exception {
+        String body = "{\"title\":\"Idempotent burst\"}";
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                responses.add(executor.submit(() -> idOf(create("burst-key", body)
+                        .andExpect(status().isCreated())
+                        .andReturn())));
+            }
+            Set<String> ids = new HashSet<>();
+            for (Future<String> response : responses) {
+                ids.add(response.get());
+            }
+            assertThat(ids).hasSize(1);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(countTitled("Idempotent burst")).isEqualTo(1);
+    }
+
+    @Test
+    void keyReusedForDifferentRequestIsRejected() throws Exception {
+        create("reused-key", "{\"title\":\"First use\"}").andExpect(status().isCreated());
+
+        create("reused-key", "{\"title\":\"Second use\"}")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.status").value(422))
+                .andExpect(jsonPath("$.error").value("Idempotency Key Reused"));
+        assertThat(countTitled("Second use")).isZero();
+    }
+
+    private ResultActions create(String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/workitems")
+                .header("Authorization", "Bearer "
+                        + jwtTokenProvider.generateTokenFromEmailAndRole("admin1@opspilot.com", "ADMIN"))
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private String idOf(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private long countTitled(String title) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM work_items WHERE title = ?", Long.class, title);
+    }
+}
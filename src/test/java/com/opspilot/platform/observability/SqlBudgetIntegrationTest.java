@@ -0,0 +1,168 @@
+package com.opspilot.platform.observability;
+
+import com.opspilot.platform.security.JwtTokenProvider;
+import com.opspilot.platform.user.AccessRole;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the read endpoints with SQL budget enforcement on.
+ * An endpoint that issues more statements than its @SqlBudget fails with 500. The reported
+ * statement count is checked against the statements actually prepared on the connection.
+ */
+@SpringBootTest(properties = {
+        "opspilot.sql.budget.enforce=true",
+        "opspilot.sql.expose-headers=true"
+})
+@AutoConfigureMockMvc
+@Import({SqlBudgetIntegrationTest.StatementCountingConfig.class, SqlBudgetIntegrationTest.OverBudgetController.class})
+class SqlBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/admin/workitems",
+            "/api/admin/workitems?size=5&page=1",
+            "/api/admin/workitems?includeArchived=true",
+            "/api/admin/workitems/overdue",
+            "/api/admin/workitems?fields=summary",
+            "/api/admin/workitems?fields=title,createdByName&includeArchived=true",
+            "/api/admin/dashboard",
+            "/api/workitems/my",
+            "/api/workitems/my/paginated?size=2",
+            "/api/workitems/my/paginated?size=2&fields=title,status,assignedToName",
+            "/api/workitems/my?includeArchived=true",
+            "/api/workitems/my/paginated?size=2&includeArchived=true",
+            "/api/admin/employees",
+            "/api/admin/employees/operators",
+            "/api/admin/employees/directory?size=5&role=OPERATOR",
+            "/api/admin/employees/search?q=op&role=OPERATOR",
+            "/api/admin/metrics/timeseries",
+            "/api/admin/metrics/timeseries?granularity=DAY"
+    })
+    void readEndpointsStayWithinSqlBudget(String url) throws Exception {
+        MvcResult result = countingStatements(() -> mockMvc.perform(get(url).header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlBudgetResponseAdvice.STATEMENT_COUNT_HEADER))
+                .andReturn());
+
+        assertThat(result.getResponse().getHeader(SqlBudgetResponseAdvice.STATEMENT_COUNT_HEADER))
+                .isEqualTo(String.valueOf(StatementCountingConfig.prepared.get()));
+    }
+
+    @Test
+    void endpointOverItsBudgetFails() throws Exception {
+        mockMvc.perform(get("/api/test/over-budget").header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isInternalServerError());
+    }
+
+    private String adminToken() {
+        return jwtTokenProvider.generateTokenFromEmailAndRole("admin1@opspilot.com", "ADMIN");
+    }
+
+    private static MvcResult countingStatements(Callable<MvcResult> request) throws Exception {
+        StatementCountingConfig.prepared.set(0);
+        StatementCountingConfig.countingThread = Thread.currentThread();
+        try {
+            return request.call();
+        } finally {
+            StatementCountingConfig.countingThread = null;
+        }
+    }
+
+    /**
+     * Issues two statements against a budget of one.
+     */
+    @RestController
+    static class OverBudgetController {
+
+        private final EmployeeRepository employeeRepository;
+
+        OverBudgetController(EmployeeRepository employeeRepository) {
+            this.employeeRepository = employeeRepository;
+        }
+
+        @GetMapping("/api/test/over-budget")
+        @SqlBudget(maxStatements = 1)
+        public long overBudget() {
+            return employeeRepository.findByRole(AccessRole.OPERATOR).size() + employeeRepository.count();
+        }
+    }
+
+    /**
+     * Counts the JDBC statements prepared through the application DataSource on the test thread.
+     * MockMvc runs the request on that thread, so background work is not counted.
+     */
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        static final AtomicInteger prepared = new AtomicInteger();
+        static volatile Thread countingThread;
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return proxy(DataSource.class, dataSource, (method, result) ->
+                            method.getName().equals("getConnection")
+                                    ? proxy(Connection.class, (Connection) result, StatementCountingConfig::count)
+                                    : result);
+                }
+            };
+        }
+
+        private static Object count(Method method, Object result) {
+            if (Thread.currentThread() == countingThread && method.getName().matches("prepareStatement|prepareCall|createStatement")) {
+                prepared.incrementAndGet();
+            }
+            return result;
+        }
+
+        private static <T> T proxy(Class<T> type, T target, BiFunction<Method, Object, Object> afterCall) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return afterCall.apply(method, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }));
+        }
+    }
+}
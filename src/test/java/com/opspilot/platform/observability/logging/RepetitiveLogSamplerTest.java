@@ -0,0 +1,75 @@
+package com.opspilot.platform.observability.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepetitiveLogSamplerTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger appLogger = context.getLogger("com.opspilot.platform.security.JwtTokenProvider");
+    private final Logger frameworkLogger = context.getLogger("org.hibernate.engine.jdbc.spi.SqlExceptionHelper");
+
+    private RepetitiveLogSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        sampler = new RepetitiveLogSampler();
+        sampler.setBurst(2);
+        sampler.setWindowMillis(60_000);
+        sampler.setSampleRate(3);
+        sampler.setLoggers("com.opspilot.platform");
+        sampler.start();
+    }
+
+    @Test
+    void samplesRepeatedTemplatesAfterTheBurst() {
+        assertThat(decide(appLogger, Level.WARN, "Invalid JWT token: {}", "a")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(appLogger, Level.WARN, "Invalid JWT token: {}", "b")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(appLogger, Level.WARN, "Invalid JWT token: {}", "c")).isEqualTo(FilterReply.DENY);
+        assertThat(decide(appLogger, Level.WARN, "Invalid JWT token: {}", "d")).isEqualTo(FilterReply.DENY);
+        // Every third event past the burst passes
+        assertThat(decide(appLogger, Level.WARN, "Invalid JWT token: {}", "e")).isEqualTo(FilterReply.NEUTRAL);
+        // Other templates have their own window
+        assertThat(decide(appLogger, Level.WARN, "No roles found in JWT token")).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void neverDropsErrors() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(appLogger, Level.ERROR, "Unhandled exception: {}", "boom")).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void neverDropsEventsCarryingAThrowable() {
+        RuntimeException failure = new RuntimeException("boom");
+        for (int i = 0; i < 10; i++) {
+            assertThat(sampler.decide(null, appLogger, Level.WARN, "Retrying", null, failure))
+                    .isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(appLogger, Level.WARN, "Retrying {}", "batch", failure)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void leavesUnconfiguredLoggersAndLevelsAboveTheMaximumAlone() {
+        sampler.setMaxLevel("INFO");
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(frameworkLogger, Level.WARN, "SQL Warning Code: {}", i)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(appLogger, Level.WARN, "Invalid JWT token: {}", i)).isEqualTo(FilterReply.NEUTRAL);
+        }
+        decide(appLogger, Level.INFO, "Request received: {}", 1);
+        decide(appLogger, Level.INFO, "Request received: {}", 2);
+        assertThat(decide(appLogger, Level.INFO, "Request received: {}", 3)).isEqualTo(FilterReply.DENY);
+    }
+
+    private FilterReply decide(Logger logger, Level level, String format, Object... params) {
+        return sampler.decide(null, logger, level, format, params, null);
+    }
+}
@@ -0,0 +1,263 @@
+package com.opspilot.platform.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opspilot.platform.outbox.repository.OutboxEventRepository;
+import com.opspilot.platform.outbox.service.OutboxAppender;
+import com.opspilot.platform.outbox.service.OutboxRelay;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.workitem.dto.WorkItemCreateRequest;
+import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import com.opspilot.platform.workitem.event.WorkItemChangedEvent;
+import com.opspilot.platform.workitem.event.WorkItemEventType;
+import com.opspilot.platform.workitem.service.WorkItemService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox rows commit with the change they describe and reach an HTTP endpoint, each sink exactly
+ * once per successful delivery.
+ */
+@SpringBootTest(properties = {
+        // Own database: relays of other cached test contexts would otherwise share the outbox
+        "spring.datasource.url=jdbc:h2:mem:outbox-relay-test",
+        // Own cache regions: the second-level cache is shared by every context in the JVM
+        "spring.jpa.properties.hibernate.cache.region_prefix=OutboxRelayIntegrationTest",
+        "opspilot.outbox.poll-interval=1h",
+        "opspilot.outbox.gap-timeout=" + OutboxRelayIntegrationTest.GAP_TIMEOUT_MILLIS + "ms"
+})
+@RecordApplicationEvents
+class OutboxRelayIntegrationTest {
+
+    static final long GAP_TIMEOUT_MILLIS = 300;
+
+    private static final HttpServer STUB = startStub();
+    private static final List<JsonNode> RECEIVED = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger RESPONSE_STATUS = new AtomicInteger(200);
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxAppender outboxAppender;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private WorkItemService workItemService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @DynamicPropertySource
+    static void stubEndpoint(DynamicPropertyRegistry registry) {
+        registry.add("opspilot.outbox.http.url", () -> "http://localhost:" + STUB.getAddress().getPort() + "/events");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @BeforeEach
+    void resetStub() {
+        RECEIVED.clear();
+        RESPONSE_STATUS.set(200);
+    }
+
+    @Test
+    void committedChangesAreRelayedToTheHttpSink() {
+        UUID workItemId = createWorkItem("Relayed item").getId();
+        long appended = outboxEventRepository.findAll().stream()
+                .filter(event -> event.getAggregateId().equals(workItemId))
+                .count();
+        assertThat(appended).isPositive();
+
+        relaySettled();
+
+        assertThat(receivedFor(workItemId)).hasSize((int) appended);
+        assertThat(receivedFor(workItemId).get(0).get("eventType").asText()).isEqualTo("CREATED");
+        assertThat(outboxEventRepository.findAll())
+                .noneMatch(event -> event.getAggregateId().equals(workItemId));
+    }
+
+    @Test
+    void rolledBackChangesLeaveNoMessage() {
+        UUID workItemId = new TransactionTemplate(transactionManager).execute(status -> {
+            WorkItemResponse created = createWorkItem("Rolled back item");
+            status.setRollbackOnly();
+            return created.getId();
+        });
+
+        outboxRelay.relay();
+
+        assertThat(outboxEventRepository.findAll()).noneMatch(event -> event.getAggregateId().equals(workItemId));
+        assertThat(receivedFor(workItemId)).isEmpty();
+        assertThat(inProcessFor(workItemId)).isZero();
+    }
+
+    @Test
+    void failingSinkDoesNotRedeliverToTheOthers() {
+        UUID workItemId = createWorkItem("Retried item").getId();
+        RESPONSE_STATUS.set(503);
+
+        relaySettled();
+        long inProcess = inProcessFor(workItemId);
+        assertThat(inProcess).isPositive();
+        assertThat(outboxEventRepository.findAll()).anyMatch(event -> event.getAggregateId().equals(workItemId));
+
+        RESPONSE_STATUS.set(200);
+        RECEIVED.clear();
+        outboxRelay.relay();
+
+        assertThat(receivedFor(workItemId)).hasSize((int) inProcess);
+        assertThat(inProcessFor(workItemId)).isEqualTo(inProcess);
+        assertThat(outboxEventRepository.findAll()).noneMatch(event -> event.getAggregateId().equals(workItemId));
+    }
+
+    @Test
+    void waitsAtAnIdGapUntilItSettles() {
+        // The rolled back transaction leaves its outbox ids unused
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            createWorkItem("Gap item");
+            status.setRollbackOnly();
+        });
+        UUID workItemId = createWorkItem("Item after gap").getId();
+
+        outboxRelay.relay();
+        assertThat(inProcessFor(workItemId)).isZero();
+
+        relaySettled();
+        assertThat(inProcessFor(workItemId)).isPositive();
+    }
+
+    @Test
+    void waitsForATransactionHoldingALowerIdPastTheGapTimeout() throws Exception {
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Appends its outbox row first but commits last, like a long import chunk
+            UUID slowId = UUID.randomUUID();
+            Future<?> slow = executor.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> {
+                        outboxAppender.onWorkItemChanged(WorkItemChangedEvent.builder()
+                                .type(WorkItemEventType.UPDATED)
+                                .workItemId(slowId)
+                                .occurredAt(Instant.now())
+                                .build());
+                        appended.countDown();
+                        await(release);
+                    }));
+            appended.await();
+            UUID fastId = createWorkItem("Fast commit").getId();
+
+            relaySettled();
+            relaySettled();
+            assertThat(inProcessFor(fastId)).isZero();
+
+            release.countDown();
+            slow.get();
+            outboxRelay.relay();
+
+            assertThat(inProcessFor(slowId)).isPositive();
+            assertThat(inProcessFor(fastId)).isPositive();
+            List<UUID> order = applicationEvents.stream(OutboxMessage.class)
+                    .map(OutboxMessage::getAggregateId)
+                    .filter(id -> id.equals(slowId) || id.equals(fastId))
+                    .toList();
+            assertThat(order.get(0)).isEqualTo(slowId);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private void relaySettled() {
+        // The first run opens any gap; gaps settle once open for the timeout
+        outboxRelay.relay();
+        try {
+            Thread.sleep(GAP_TIMEOUT_MILLIS + 50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        outboxRelay.relay();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private WorkItemResponse createWorkItem(String title) {
+        Employee admin = employeeRepository.findByEmail("admin1@opspilot.com").orElseThrow();
+        return workItemService.createWorkItem(WorkItemCreateRequest.builder().title(title).build(), admin);
+    }
+
+    private List<JsonNode> receivedFor(UUID workItemId) {
+        return RECEIVED.stream()
+                .filter(message -> message.get("aggregateId").asText().equals(workItemId.toString()))
+                .toList();
+    }
+
+    private long inProcessFor(UUID workItemId) {
+        return applicationEvents.stream(OutboxMessage.class)
+                .filter(message -> message.getAggregateId().equals(workItemId))
+                .count();
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            ObjectMapper objectMapper = new ObjectMapper();
+            server.createContext("/events", exchange -> {
+                JsonNode batch = objectMapper.readTree(exchange.getRequestBody());
+                int status = RESPONSE_STATUS.get();
+                if (status == 200) {
+                    batch.forEach(RECEIVED::add);
+                }
+                exchange.sendResponseHeaders(status, -1);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.opspilot.platform.rollup;
+
+import com.opspilot.platform.rollup.dto.TimeSeriesPoint;
+import com.opspilot.platform.rollup.dto.TimeSeriesResponse;
+import com.opspilot.platform.rollup.service.RollupRecorder;
+import com.opspilot.platform.rollup.service.ThroughputService;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.workitem.WorkItemStatus;
+import com.opspilot.platform.workitem.dto.WorkItemCreateRequest;
+import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import com.opspilot.platform.workitem.service.WorkItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that rollups follow work item transitions, including concurrent first writes to a bucket,
+ * and that a backfill accounts for every work item.
+ */
+@SpringBootTest
+class ThroughputRollupIntegrationTest {
+
+    @Autowired
+    private ThroughputService throughputService;
+
+    @Autowired
+    private WorkItemService workItemService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RollupRecorder rollupRecorder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void transitionsIncrementTheCurrentHour() {
+        Employee operator = employeeRepository.findByEmail("operator1@opspilot.com").orElseThrow();
+        // Two buckets, so the writes are counted even if the hour turns while the test runs
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        TimeSeriesPoint before = total(operator, from);
+
+        WorkItemCreateRequest request = new WorkItemCreateRequest();
+        request.setTitle("Rotate credentials");
+        request.setAssignedToId(operator.getId());
+        WorkItemResponse created = workItemService.createWorkItem(request, operator);
+        workItemService.updateStatus(created.getId(), WorkItemStatus.COMPLETED);
+
+        TimeSeriesPoint after = total(operator, from);
+        assertThat(after.getCreated()).isEqualTo(before.getCreated() + 1);
+        assertThat(after.getCompleted()).isEqualTo(before.getCompleted() + 1);
+        assertThat(after.getRejected()).isEqualTo(before.getRejected());
+    }
+
+    @Test
+    void concurrentFirstWritesToABucketAllCount() throws Exception {
+        LocalDateTime bucket = LocalDateTime.of(2001, 1, 1, 10, 0);
+        UUID assignee = UUID.randomUUID();
+        int writers = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                            rollupRecorder.increment(bucket, assignee, 1, 0, 0));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Long created = jdbcTemplate.queryForObject(
+                "SELECT created_count FROM work_item_rollups WHERE bucket_start = ? AND assignee_id = ?",
+                Long.class, bucket, assignee);
+        assertThat(created).isEqualTo(writers);
+    }
+
+    @Test
+    void backfillCountsEveryWorkItemOnce() {
+        throughputService.backfill();
+
+        long workItems = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM work_items) + (SELECT COUNT(*) FROM work_items_archive)", Long.class);
+        long created = jdbcTemplate.queryForObject("SELECT SUM(created_count) FROM work_item_rollups", Long.class);
+        assertThat(created).isEqualTo(workItems);
+    }
+
+    private TimeSeriesPoint total(Employee assignee, LocalDateTime from) {
+        TimeSeriesResponse series = throughputService.fetchTimeSeries(
+                RollupGranularity.HOUR, from, from.plusHours(2), assignee.getId());
+        TimeSeriesPoint total = new TimeSeriesPoint();
+        for (TimeSeriesPoint point : series.getPoints()) {
+            total.setCreated(total.getCreated() + point.getCreated());
+            total.setCompleted(total.getCompleted() + point.getCompleted());
+            total.setRejected(total.getRejected() + point.getRejected());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,86 @@
+package com.opspilot.platform.security;
+
+import com.opspilot.platform.security.revocation.TokenRevocationService;
+import com.opspilot.platform.user.AccessRole;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tokens issued before an employee was deactivated, here or on another replica, are rejected.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenRevocationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deactivationRevokesExistingTokens() throws Exception {
+        Employee employee = saveOperator("revoked-here@opspilot.com");
+        String token = jwtTokenProvider.generateTokenFromEmailAndRole(employee.getEmail(), "OPERATOR");
+        mockMvc.perform(get("/api/workitems/my").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/admin/employees/" + employee.getId() + "/deactivate")
+                        .header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").value(false));
+
+        mockMvc.perform(get("/api/workitems/my").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/workitems/my").header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deactivationOnAnotherReplicaIsPickedUpByRefresh() throws Exception {
+        Employee employee = saveOperator("revoked-elsewhere@opspilot.com");
+        String token = jwtTokenProvider.generateTokenFromEmailAndRole(employee.getEmail(), "OPERATOR");
+
+        jdbcTemplate.update("UPDATE employees SET active = false, tokens_valid_after = ? WHERE id = ?",
+                LocalDateTime.now(), employee.getId());
+        tokenRevocationService.refresh();
+
+        mockMvc.perform(get("/api/workitems/my").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private Employee saveOperator(String email) {
+        return employeeRepository.save(Employee.builder()
+                .email(email)
+                .password("unused")
+                .fullName("Revocation Test")
+                .role(AccessRole.OPERATOR)
+                .build());
+    }
+
+    private String adminToken() {
+        return jwtTokenProvider.generateTokenFromEmailAndRole("admin1@opspilot.com", "ADMIN");
+    }
+}
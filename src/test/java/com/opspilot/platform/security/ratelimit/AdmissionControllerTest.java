@@ -0,0 +1,61 @@
+package com.opspilot.platform.security.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControllerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AdmissionController admissionController = new AdmissionController(properties(), new SimpleMeterRegistry());
+
+    @Test
+    void keysBeyondTheBoundAreTurnedAwayWithoutAffectingTrackedKeys() {
+        long now = System.nanoTime();
+        exhaust("noisy", now);
+        assertThat(admissionController.tryAcquirePermit("quiet", EndpointClass.READ, now)).isZero();
+
+        // Both tracked keys are active, so a new one is rejected rather than sharing a bucket
+        assertThat(admissionController.tryAcquirePermit("newcomer", EndpointClass.READ, now))
+                .isEqualTo(AdmissionController.SWEEP_INTERVAL_NANOS);
+        assertThat(admissionController.tryAcquirePermit("quiet", EndpointClass.READ, now)).isZero();
+    }
+
+    @Test
+    void idleKeysAreSweptToMakeRoom() {
+        long now = System.nanoTime();
+        admissionController.tryAcquirePermit("first", EndpointClass.READ, now);
+        admissionController.tryAcquirePermit("second", EndpointClass.READ, now);
+
+        long later = now + 2 * SECOND;
+        assertThat(admissionController.tryAcquirePermit("newcomer", EndpointClass.READ, later)).isZero();
+    }
+
+    @Test
+    void bulkheadsAreSeparatePerEndpointClass() {
+        assertThat(admissionController.tryEnterBulkhead(EndpointClass.DASHBOARD)).isTrue();
+        assertThat(admissionController.tryEnterBulkhead(EndpointClass.DASHBOARD)).isFalse();
+        assertThat(admissionController.tryEnterBulkhead(EndpointClass.READ)).isTrue();
+
+        admissionController.exitBulkhead(EndpointClass.DASHBOARD);
+        assertThat(admissionController.tryEnterBulkhead(EndpointClass.DASHBOARD)).isTrue();
+    }
+
+    private void exhaust(String subject, long now) {
+        while (admissionController.tryAcquirePermit(subject, EndpointClass.READ, now) == 0) {
+            // drain the burst
+        }
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxKeys(2);
+        properties.getLimits().put(EndpointClass.READ, new RateLimitProperties.Limit(10, 5, 4));
+        properties.getLimits().put(EndpointClass.DASHBOARD, new RateLimitProperties.Limit(1, 1, 1));
+        return properties;
+    }
+}
@@ -0,0 +1,136 @@
+package com.opspilot.platform.security.ratelimit;
+
+import com.opspilot.platform.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exhausted rate limits and bulkheads answer 429 with Retry-After, per caller and endpoint class.
+ */
+@SpringBootTest(properties = {
+        "opspilot.rate-limit.limits.DASHBOARD.permits-per-second=0.1",
+        "opspilot.rate-limit.limits.DASHBOARD.burst=2",
+        "opspilot.rate-limit.limits.ADMIN_READ.max-concurrent=1",
+        "opspilot.rate-limit.limits.LOGIN.permits-per-second=0.01",
+        "opspilot.rate-limit.limits.LOGIN.burst=2",
+        "opspilot.rate-limit.trusted-proxies=10.0.0.0/8"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void exhaustedRateLimitAnswers429WithRetryAfter() throws Exception {
+        String token = token("admin1@opspilot.com");
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/admin/dashboard").header(HttpHeaders.AUTHORIZATION, token))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/admin/dashboard").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @Test
+    void limitsApplyPerCallerAndEndpointClass() throws Exception {
+        String token = token("admin2@opspilot.com");
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/admin/dashboard").header(HttpHeaders.AUTHORIZATION, token));
+        }
+        mockMvc.perform(get("/api/admin/dashboard").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/api/workitems/my").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/admin/dashboard").header(HttpHeaders.AUTHORIZATION, token("admin3@opspilot.com")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void streamingExportHoldsItsBulkheadSlotUntilComplete() throws Exception {
+        String token = token("admin4@opspilot.com");
+        MvcResult export = mockMvc.perform(get("/api/admin/workitems/export").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(get("/api/admin/workitems/export").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+        export.getRequest().getAsyncContext().complete();
+
+        mockMvc.perform(get("/api/admin/workitems/export").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void loginIsLimitedPerClientNamedByATrustedProxy() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            login("10.0.0.5", "203.0.113.9, 10.0.0.7").andExpect(status().isUnauthorized());
+        }
+        login("10.0.0.5", "203.0.113.9, 10.0.0.7").andExpect(status().isTooManyRequests());
+
+        // Another client behind the same proxy, and a forged outer hop, have buckets of their own
+        login("10.0.0.5", "203.0.113.10").andExpect(status().isUnauthorized());
+        login("10.0.0.5", "203.0.113.9, 203.0.113.11").andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void forwardedForFromAnUntrustedAddressIsIgnored() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            login("198.51.100.4", "203.0.113.20" + i).andExpect(status().isUnauthorized());
+        }
+        login("198.51.100.4", "203.0.113.202").andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void corsPreflightIsNotAdmissionControlled() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(options("/api/auth/login").with(remoteAddr("198.51.100.5")))
+                    .andExpect(status().is(not(429)));
+        }
+    }
+
+    private ResultActions login(String remoteAddr, String forwardedFor) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .with(remoteAddr(remoteAddr))
+                .header("X-Forwarded-For", forwardedFor)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"nobody@opspilot.com\",\"password\":\"wrong-password\"}"));
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    private String token(String email) {
+        return "Bearer " + jwtTokenProvider.generateTokenFromEmailAndRole(email, "ADMIN");
+    }
+}
@@ -0,0 +1,92 @@
+package com.opspilot.platform.sla;
+
+import com.opspilot.platform.sla.event.WorkItemSlaBreachedEvent;
+import com.opspilot.platform.sla.service.SlaMonitor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Expired deadlines are checked against the table, so changes made by another replica, simulated
+ * with writes that bypass the work item service, are not reported as breaches.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sla-monitor-test",
+        // Own cache regions: the second-level cache is shared by every context in the JVM
+        "spring.jpa.properties.hibernate.cache.region_prefix=SlaMonitorIntegrationTest",
+        "opspilot.sla.tick=100ms"
+})
+class SlaMonitorIntegrationTest {
+
+    @Autowired
+    private SlaMonitor slaMonitor;
+
+    @Autowired
+    private BreachRecorder breaches;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void onlyItemsStillOpenAndOverdueAreReported() throws Exception {
+        LocalDateTime dueAt = LocalDateTime.now().plusSeconds(1);
+        UUID untouched = insertOpenWorkItem(dueAt);
+        UUID completedByPeer = insertOpenWorkItem(dueAt);
+        UUID movedByPeer = insertOpenWorkItem(dueAt);
+        slaMonitor.rebuild();
+
+        jdbcTemplate.update("UPDATE work_items SET status = 'COMPLETED' WHERE id = ?", completedByPeer);
+        jdbcTemplate.update("UPDATE work_items SET due_at = ? WHERE id = ?", dueAt.plusHours(1), movedByPeer);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!breaches.ids.contains(untouched)) {
+            assertThat(System.currentTimeMillis()).as("breach within 5s").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+        // Give the other two a few more ticks to be wrongly reported
+        Thread.sleep(300);
+
+        assertThat(breaches.ids).doesNotContain(completedByPeer, movedByPeer);
+        assertThat(slaMonitor.pendingDeadlines()).isGreaterThanOrEqualTo(1);
+    }
+
+    private UUID insertOpenWorkItem(LocalDateTime dueAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO work_items (id, title, status, created_by_id, due_at, created_at, updated_at)
+                SELECT ?, 'Renew certificate', 'OPEN', id, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM employees WHERE email = 'admin1@opspilot.com'
+                """, id, dueAt);
+        return id;
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        BreachRecorder breachRecorder() {
+            return new BreachRecorder();
+        }
+    }
+
+    static class BreachRecorder {
+
+        private final Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        @EventListener
+        void onBreach(WorkItemSlaBreachedEvent event) {
+            ids.add(event.getWorkItemId());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.opspilot.platform.sla;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    @Test
+    void firesEveryDeadlineOnItsTickAcrossAllLevels() {
+        TimerWheel<Integer> wheel = new TimerWheel<>(1, 0);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        // Level boundaries, the top of the wheel and beyond it
+        long[] edges = {1, 63, 64, 65, 4095, 4096, 4097, 262_143, 262_144, 16_777_215, 16_777_216, 20_000_000};
+        for (int i = 0; i < edges.length; i++) {
+            deadlines.put(-i - 1, edges[i]);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            deadlines.put(i, 1 + (long) random.nextInt(20_000_000));
+        }
+        deadlines.forEach((key, deadline) -> assertThat(wheel.schedule(key, deadline)).isTrue());
+
+        Map<Integer, Long> fired = new HashMap<>();
+        for (long now = 1; now <= 20_000_000; now++) {
+            long firedAt = now;
+            wheel.advance(now, key -> fired.put(key, firedAt));
+        }
+
+        assertThat(fired).isEqualTo(deadlines);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void rescheduleAndCancelReplaceThePendingDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(1000, 0);
+        wheel.schedule("moved", 5_000);
+        wheel.schedule("cancelled", 5_000);
+        wheel.schedule("kept", 5_000);
+
+        wheel.schedule("moved", 90_000);
+        assertThat(wheel.cancel("cancelled")).isTrue();
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(10_000, fired::add);
+        assertThat(fired).containsExactly("kept");
+
+        wheel.advance(100_000, fired::add);
+        assertThat(fired).containsExactly("kept", "moved");
+    }
+
+    @Test
+    void deadlineInThePastIsNotScheduled() {
+        TimerWheel<String> wheel = new TimerWheel<>(1000, 60_000);
+        wheel.schedule("item", 120_000);
+
+        assertThat(wheel.schedule("item", 30_000)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,124 @@
+package com.opspilot.platform.transfer;
+
+import com.opspilot.platform.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exercises the bulk export and import endpoints end to end.
+ * A small export chunk size makes every export span several chunks.
+ */
+@SpringBootTest(properties = "opspilot.transfer.export-chunk-size=7")
+@AutoConfigureMockMvc
+class WorkItemTransferIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exportsEveryLiveWorkItemAsCsv() throws Exception {
+        long workItems = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM work_items", Long.class);
+
+        String csv = new String(export("/api/admin/workitems/export?format=csv"), StandardCharsets.UTF_8);
+
+        String[] lines = csv.split("\r\n");
+        assertThat(lines[0]).startsWith("id,title,description,status,");
+        assertThat(lines).hasSize((int) workItems + 1);
+        assertThat(Arrays.stream(lines).skip(1).map(line -> line.substring(0, line.indexOf(','))))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void rejectsAnUnknownStatusFilter() throws Exception {
+        mockMvc.perform(get("/api/admin/workitems/export?format=csv&status=finished")
+                        .header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid status value: finished"));
+    }
+
+    @Test
+    void exportsFilteredNdjsonWithGzip() throws Exception {
+        long completed = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM work_items WHERE status = 'COMPLETED')"
+                        + " + (SELECT COUNT(*) FROM work_items_archive WHERE status = 'COMPLETED')", Long.class);
+
+        byte[] gzipped = export("/api/admin/workitems/export?format=ndjson&gzip=true&status=completed&includeArchived=true");
+
+        String ndjson = new String(gunzip(gzipped), StandardCharsets.UTF_8);
+        assertThat(ndjson.lines()).hasSize((int) completed)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"id\":").contains("\"status\":\"COMPLETED\""));
+    }
+
+    @Test
+    void importsValidRowsAndReportsInvalidOnes() throws Exception {
+        long before = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM work_items", Long.class);
+        String csv = """
+                title,description,status,assigned_to_email,created_at
+                Rotate keys,"Covers api, web and
+                batch hosts",IN_PROGRESS,operator1@opspilot.com,2024-03-01T10:15:00
+                ,missing title,OPEN,,
+                Renew certificate,,COMPLETED,nobody@opspilot.com,
+                Patch kernel,,,OPERATOR2@opspilot.com,
+                """;
+
+        mockMvc.perform(post("/api/admin/workitems/import?format=csv")
+                        .header("Authorization", "Bearer " + adminToken())
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(4))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].row").value(2))
+                .andExpect(jsonPath("$.errors[1].message").value("Employee not found with email: nobody@opspilot.com"));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM work_items", Long.class)).isEqualTo(before + 2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT description FROM work_items WHERE title = 'Rotate keys'", String.class))
+                .isEqualTo("Covers api, web and\nbatch hosts");
+    }
+
+    private String adminToken() {
+        return jwtTokenProvider.generateTokenFromEmailAndRole("admin1@opspilot.com", "ADMIN");
+    }
+
+    private byte[] export(String url) throws Exception {
+        MvcResult started = mockMvc.perform(get(url).header("Authorization", "Bearer " + adminToken()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
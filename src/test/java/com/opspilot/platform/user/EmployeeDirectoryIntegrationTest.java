@@ -0,0 +1,95 @@
+package com.opspilot.platform.user;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opspilot.platform.security.JwtTokenProvider;
+import com.opspilot.platform.user.dto.EmployeeRegistrationRequest;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.user.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The operator roster is revalidated by ETag until an employee changes, and the keyset
+ * directory visits every employee exactly once.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmployeeDirectoryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void operatorRosterIsRevalidatedUntilAnEmployeeChanges() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/admin/employees/operators").header("Authorization", adminToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].password").doesNotExist())
+                .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        mockMvc.perform(get("/api/admin/employees/operators")
+                        .header("Authorization", adminToken())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        employeeService.registerEmployee(EmployeeRegistrationRequest.builder()
+                .email("roster-new@opspilot.com")
+                .password("Password123")
+                .fullName("Roster New")
+                .role(AccessRole.OPERATOR)
+                .build());
+
+        mockMvc.perform(get("/api/admin/employees/operators")
+                        .header("Authorization", adminToken())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.email == 'roster-new@opspilot.com')]").exists());
+    }
+
+    @Test
+    void keysetPagesVisitEveryEmployeeOnceInEmailOrder() throws Exception {
+        List<String> emails = new ArrayList<>();
+        String cursor = null;
+        do {
+            String url = "/api/admin/employees/directory?size=4" + (cursor != null ? "&after=" + cursor : "");
+            JsonNode page = objectMapper.readTree(mockMvc.perform(get(url).header("Authorization", adminToken()))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("content").forEach(entry -> emails.add(entry.get("email").asText()));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        assertThat(emails).hasSize((int) employeeRepository.count()).isSorted().doesNotHaveDuplicates();
+    }
+
+    private String adminToken() {
+        return "Bearer " + jwtTokenProvider.generateTokenFromEmailAndRole("admin1@opspilot.com", "ADMIN");
+    }
+}
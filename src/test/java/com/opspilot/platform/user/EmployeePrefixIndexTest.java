@@ -0,0 +1,64 @@
+package com.opspilot.platform.user;
+
+import com.opspilot.platform.user.dto.DirectoryEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeePrefixIndexTest {
+
+    private final DirectoryEntry ana = entry("Ana María López", "ana.lopez@opspilot.com", AccessRole.OPERATOR, true);
+    private final DirectoryEntry andrew = entry("Andrew Lopes", "andrew@opspilot.com", AccessRole.ADMIN, true);
+    private final DirectoryEntry lola = entry("Lola Anders", "lola@opspilot.com", AccessRole.OPERATOR, false);
+
+    @Test
+    void matchesNameWordsFullNameAndEmailIgnoringCaseAndAccents() {
+        EmployeePrefixIndex index = new EmployeePrefixIndex();
+        index.rebuild(List.of(ana, andrew, lola));
+
+        // In key order: "ana maria lopez", "ana.lopez@...", "anders", "andrew lopes"
+        assertThat(index.search("an", 10, e -> true)).containsExactly(ana, lola, andrew);
+        assertThat(index.search("LOP", 10, e -> true)).containsExactlyInAnyOrder(ana, andrew);
+        assertThat(index.search("ana maria l", 10, e -> true)).containsExactly(ana);
+        assertThat(index.search("andrew@", 10, e -> true)).containsExactly(andrew);
+        assertThat(index.search("maria lo", 10, e -> true)).isEmpty();
+    }
+
+    @Test
+    void appliesFilterAndLimit() {
+        EmployeePrefixIndex index = new EmployeePrefixIndex();
+        index.rebuild(List.of(ana, andrew, lola));
+
+        assertThat(index.search("an", 10, e -> e.getRole() == AccessRole.OPERATOR && e.getActive()))
+                .containsExactly(ana);
+        assertThat(index.search("an", 2, e -> true)).hasSize(2);
+    }
+
+    @Test
+    void upsertAndRemoveUpdateTheIndexInPlace() {
+        EmployeePrefixIndex index = new EmployeePrefixIndex();
+        index.rebuild(List.of(ana, andrew));
+
+        DirectoryEntry renamed = entry(andrew.getId(), "Drew Lopes", andrew.getEmail(), AccessRole.ADMIN, true);
+        index.upsert(renamed);
+        index.upsert(lola);
+        index.remove(ana.getId());
+
+        assertThat(index.search("dre", 10, e -> true)).containsExactly(renamed);
+        assertThat(index.search("lo", 10, e -> true)).containsExactlyInAnyOrder(renamed, lola);
+        assertThat(index.search("ana", 10, e -> true)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static DirectoryEntry entry(String fullName, String email, AccessRole role, boolean active) {
+        return entry(UUID.randomUUID(), fullName, email, role, active);
+    }
+
+    private static DirectoryEntry entry(UUID id, String fullName, String email, AccessRole role, boolean active) {
+        return new DirectoryEntry(id, email, fullName, role, active, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,74 @@
+package com.opspilot.platform.user;
+
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that repeated employee lookups by email are served from the second-level cache.
+ */
+@SpringBootTest
+class EmployeeSecondLevelCacheTest {
+
+    private static final List<String> EMAILS = List.of(
+            "admin1@opspilot.com", "operator1@opspilot.com", "operator2@opspilot.com");
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void concurrentLookupsByEmailHitTheCache() throws Exception {
+        EMAILS.forEach(email -> assertThat(employeeRepository.findByNaturalEmail(email)).isPresent());
+        long naturalIdQueriesAfterWarmup = statistics.getNaturalIdQueryExecutionCount();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> lookups = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                String email = EMAILS.get(i % EMAILS.size());
+                lookups.add(executor.submit(() -> assertThat(employeeRepository.findByNaturalEmail(email)).isPresent()));
+            }
+            for (Future<?> lookup : lookups) {
+                lookup.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long misses = statistics.getSecondLevelCacheMissCount();
+        assertThat(statistics.getNaturalIdQueryExecutionCount()).isEqualTo(naturalIdQueriesAfterWarmup);
+        assertThat((double) hits / (hits + misses)).isGreaterThan(0.95);
+    }
+}
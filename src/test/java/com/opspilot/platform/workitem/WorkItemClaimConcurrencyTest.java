@@ -0,0 +1,89 @@
+package com.opspilot.platform.workitem;
+
+import com.opspilot.platform.user.AccessRole;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.workitem.dto.WorkItemResponse;
+import com.opspilot.platform.workitem.repository.WorkItemRepository;
+import com.opspilot.platform.workitem.service.WorkItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many operators claim from the same queue at once; every item must be claimed exactly once.
+ */
+@SpringBootTest
+class WorkItemClaimConcurrencyTest {
+
+    private static final int ITEMS = 60;
+    private static final int CLAIMERS = 40;
+
+    @Autowired
+    private WorkItemService workItemService;
+
+    @Autowired
+    private WorkItemRepository workItemRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void concurrentClaimersNeverTakeTheSameItem() throws Exception {
+        Employee requester = employeeRepository.save(Employee.builder()
+                .email("claim-queue@opspilot.com")
+                .password("unused")
+                .fullName("Claim Queue")
+                .role(AccessRole.ADMIN)
+                .build());
+        for (int i = 0; i < ITEMS; i++) {
+            workItemRepository.save(WorkItem.builder().title("Queued " + i).createdBy(requester).build());
+        }
+        List<Employee> operators = employeeRepository.findByRole(AccessRole.OPERATOR);
+
+        Map<UUID, UUID> claimedBy = new ConcurrentHashMap<>();
+        List<UUID> doubleClaims = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(CLAIMERS);
+        try {
+            List<Future<?>> claimers = new ArrayList<>();
+            for (int i = 0; i < CLAIMERS; i++) {
+                Employee operator = operators.get(i % operators.size());
+                claimers.add(executor.submit(() -> {
+                    Optional<WorkItemResponse> claimed;
+                    while ((claimed = workItemService.claimNext(operator, requester.getId())).isPresent()) {
+                        if (claimedBy.putIfAbsent(claimed.get().getId(), operator.getId()) != null) {
+                            synchronized (doubleClaims) {
+                                doubleClaims.add(claimed.get().getId());
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> claimer : claimers) {
+                claimer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(doubleClaims).isEmpty();
+        assertThat(claimedBy).hasSize(ITEMS);
+        claimedBy.forEach((workItemId, operatorId) -> {
+            WorkItem item = workItemRepository.findById(workItemId).orElseThrow();
+            assertThat(item.getStatus()).isEqualTo(WorkItemStatus.IN_PROGRESS);
+            assertThat(item.getAssignedTo().getId()).isEqualTo(operatorId);
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.opspilot.platform.workitem;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opspilot.platform.security.JwtTokenProvider;
+import com.opspilot.platform.user.Employee;
+import com.opspilot.platform.user.repository.EmployeeRepository;
+import com.opspilot.platform.workitem.repository.WorkItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The summary view leaves out large descriptions and returns only the requested fields.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class WorkItemSparseFieldsIntegrationTest {
+
+    private static final int ITEMS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private WorkItemRepository workItemRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void summaryOmitsDescriptionsAndShrinksThePayload() throws Exception {
+        Employee admin = employeeRepository.findByEmail("admin1@opspilot.com").orElseThrow();
+        String description = "x".repeat(10 * 1024);
+        for (int i = 0; i < ITEMS; i++) {
+            workItemRepository.save(WorkItem.builder()
+                    .title("Large item " + i)
+                    .description(description)
+                    .createdBy(admin)
+                    .build());
+        }
+
+        String full = fetch("/api/admin/workitems?size=" + ITEMS);
+        String summary = fetch("/api/admin/workitems?size=" + ITEMS + "&fields=summary");
+
+        JsonNode first = objectMapper.readTree(summary).get("content").get(0);
+        assertThat(first.has("title")).isTrue();
+        assertThat(first.has("status")).isTrue();
+        assertThat(first.has("assignedToName")).isTrue();
+        assertThat(first.has("description")).isFalse();
+        assertThat(first.has("createdByName")).isFalse();
+        assertThat(summary.length()).isLessThan(full.length() / 20);
+    }
+
+    @Test
+    void unknownFieldIsRejected() throws Exception {
+        mockMvc.perform(get("/api/admin/workitems?fields=title,secret").header("Authorization", "Bearer " + token()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String fetch(String url) throws Exception {
+        return mockMvc.perform(get(url).header("Authorization", "Bearer " + token()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private String token() {
+        return jwtTokenProvider.generateTokenFromEmailAndRole("admin1@opspilot.com", "ADMIN");
+    }
+}